@@ -23,7 +23,10 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
@@ -34,8 +37,58 @@ public class AccessManager {
 
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
 
+  private static final int MAX_CACHE_ENTRIES = 4096;
+  private static final Map<AccessKey, Boolean> accessCache = new ConcurrentHashMap<>();
+  private static AccessPolicy accessPolicy = new DefaultAccessPolicy();
+
   private AccessManager() {}
 
+  public static AccessPolicy getAccessPolicy() {
+    return accessPolicy;
+  }
+
+  public static void setAccessPolicy(AccessPolicy policy) {
+    log.info("Using access policy {} for EasyNPC access checks.", policy);
+    accessPolicy = policy != null ? policy : new DefaultAccessPolicy();
+    invalidateAccessCache();
+  }
+
+  /** Invalidates all cached access results, e.g. after a config reload. */
+  public static void invalidateAccessCache() {
+    accessCache.clear();
+  }
+
+  /** Invalidates the cached access results of a single player, e.g. after an op change. */
+  public static void invalidateAccessCache(UUID playerUUID) {
+    if (playerUUID != null) {
+      accessCache.keySet().removeIf(accessKey -> playerUUID.equals(accessKey.playerUUID()));
+    }
+  }
+
+  /**
+   * Checks the access of the player for the action on the Easy NPC over the access policy. The
+   * result is cached per player, game mode, owner and action, so owner and game mode changes do
+   * not need an explicit invalidation.
+   */
+  public static boolean hasAccess(ServerPlayer serverPlayer, EasyNPC<?> easyNPC, Enum<?> action) {
+    if (serverPlayer == null || easyNPC == null || action == null) {
+      return false;
+    }
+    OwnerData<?> ownerData = easyNPC.getEasyNPCOwnerData();
+    UUID ownerUUID = ownerData != null ? ownerData.getOwnerUUID() : null;
+    AccessKey accessKey =
+        new AccessKey(serverPlayer.getUUID(), serverPlayer.isCreative(), ownerUUID, action);
+    Boolean result = accessCache.get(accessKey);
+    if (result == null) {
+      result = accessPolicy.hasAccess(serverPlayer, ownerUUID, action);
+      if (accessCache.size() >= MAX_CACHE_ENTRIES) {
+        accessCache.clear();
+      }
+      accessCache.put(accessKey, result);
+    }
+    return result;
+  }
+
   public static boolean hasAccess(CommandSourceStack context, UUID uuid) {
     if (context == null || uuid == null) {
       return false;
@@ -108,11 +161,13 @@ public class AccessManager {
       return null;
     }
 
-    if (!serverPlayer.isCreative() && !easyNPC.getEasyNPCOwnerData().isOwner(serverPlayer)) {
+    if (!hasAccess(serverPlayer, easyNPC, AccessType.EDIT)) {
       log.error("[{}:{}] Player has no access!", uuid, serverPlayer);
       return null;
     }
 
     return easyNPC;
   }
+
+  private record AccessKey(UUID playerUUID, boolean creative, UUID ownerUUID, Enum<?> action) {}
 }
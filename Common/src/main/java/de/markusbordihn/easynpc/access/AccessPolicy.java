@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.access;
+
+import java.util.UUID;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Pluggable policy which decides if a player is allowed to perform an action on an Easy NPC of the
+ * given owner. The action is an {@link AccessType} for edits over commands and network messages or
+ * a configuration type for the configuration menus. Results are cached by the {@link
+ * AccessManager}, so a policy should only depend on the player, the owner and the action.
+ */
+@FunctionalInterface
+public interface AccessPolicy {
+
+  boolean hasAccess(ServerPlayer serverPlayer, UUID ownerUUID, Enum<?> action);
+}
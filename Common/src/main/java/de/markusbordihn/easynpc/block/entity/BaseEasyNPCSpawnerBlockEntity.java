@@ -21,6 +21,7 @@ package de.markusbordihn.easynpc.block.entity;
 
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.block.BaseEasyNPCSpawnerBlock;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.item.configuration.EasyNPCPresetItem;
 import java.util.HashSet;
@@ -34,6 +35,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Inventory;
@@ -411,6 +413,18 @@ public class BaseEasyNPCSpawnerBlockEntity extends BaseContainerBlockEntity {
     }
     Set<EasyNPC<?>> foundEasyNPCs = new HashSet<>();
     AABB aabb = new AABB(blockPos).inflate(range);
+
+    // Use the spawner index on the server side, instead of scanning all entities in range.
+    if (this.level instanceof ServerLevel serverLevel) {
+      for (EasyNPC<?> easyNPC :
+          LivingEntityManager.getEasyNPCsBySpawner(this.spawnerUUID, serverLevel)) {
+        if (easyNPC.getEntity().isAlive() && aabb.contains(easyNPC.getEntity().position())) {
+          foundEasyNPCs.add(easyNPC);
+        }
+      }
+      return foundEasyNPCs;
+    }
+
     for (LivingEntity livingEntity : level.getEntitiesOfClass(LivingEntity.class, aabb)) {
       if (livingEntity instanceof EasyNPC<?> easyNPC
           && easyNPC.getEasyNPCSpawnerData().hasSpawnerUUID()
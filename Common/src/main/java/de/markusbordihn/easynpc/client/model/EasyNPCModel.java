@@ -19,6 +19,7 @@
 
 package de.markusbordihn.easynpc.client.model;
 
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
 import de.markusbordihn.easynpc.data.model.ModelArmPose;
 import de.markusbordihn.easynpc.data.model.ModelPose;
 import de.markusbordihn.easynpc.data.position.CustomPosition;
@@ -564,6 +565,10 @@ public interface EasyNPCModel<E extends Entity> {
     boolean hasSmartAnimations = modelData.useSmartAnimations();
     boolean hasAdditionalModelAnimation = false;
 
+    // Reduce animations for distant entities, based on the render level of detail.
+    boolean hasReducedDetail = RenderLevelOfDetailManager.hasReducedDetail();
+    boolean hasFrozenPose = RenderLevelOfDetailManager.hasFrozenPose();
+
     if (isCustomModelPose) {
       // Handle custom model pose and animation.
       this.setupCustomModelPose(
@@ -575,15 +580,17 @@ public interface EasyNPCModel<E extends Entity> {
           ageInTicks,
           netHeadYaw,
           headPitch);
-      this.animateCustomModelPose(
-          entity,
-          modelPose,
-          modelData,
-          limbSwing,
-          limbSwingAmount,
-          ageInTicks,
-          netHeadYaw,
-          headPitch);
+      if (!hasFrozenPose) {
+        this.animateCustomModelPose(
+            entity,
+            modelPose,
+            modelData,
+            limbSwing,
+            limbSwingAmount,
+            ageInTicks,
+            netHeadYaw,
+            headPitch);
+      }
     } else if (isDefaultModelPose) {
       hasAdjustedDefaultModelPose =
           this.handleDefaultModelPose(
@@ -591,7 +598,8 @@ public interface EasyNPCModel<E extends Entity> {
     }
 
     // Use smart animations for better performance, if enabled.
-    if (modelData.useSmartAnimations() || isCustomModelPose || hasAdjustedDefaultModelPose) {
+    if (!hasReducedDetail
+        && (modelData.useSmartAnimations() || isCustomModelPose || hasAdjustedDefaultModelPose)) {
       hasSmartAnimations =
           this.handleSmartAnimations(
               entity,
@@ -602,19 +610,24 @@ public interface EasyNPCModel<E extends Entity> {
               ageInTicks,
               netHeadYaw,
               headPitch);
+    } else if (hasReducedDetail) {
+      // Frozen pose also skips the default model animations.
+      hasSmartAnimations = hasFrozenPose;
     }
 
     // Handle additional model animation.
-    hasAdditionalModelAnimation =
-        this.additionalModelAnimation(
-            entity,
-            attackData,
-            modelData,
-            limbSwing,
-            limbSwingAmount,
-            ageInTicks,
-            netHeadYaw,
-            headPitch);
+    if (!hasFrozenPose) {
+      hasAdditionalModelAnimation =
+          this.additionalModelAnimation(
+              entity,
+              attackData,
+              modelData,
+              limbSwing,
+              limbSwingAmount,
+              ageInTicks,
+              netHeadYaw,
+              headPitch);
+    }
 
     // Handle additional model adjustments parts.
     this.adjustDefaultModelParts(entity, easyNPC);
@@ -73,13 +73,15 @@ public interface EasyNPCRenderer<E extends PathfinderMob, M extends EntityModel<
         && !RendererManager.isUnsupportedEntityType(renderEntityType)) {
 
       // Try to render custom entity or living entity over existing renderer.
-      PathfinderMob customEntity = RendererManager.getPathfinderMob(renderEntityType);
+      PathfinderMob customEntity =
+          RendererManager.hasEntityRenderer(renderEntityType)
+              ? RendererManager.getRenderProxy(entity, renderEntityType)
+              : null;
       if (customEntity != null) {
         LivingEntityRenderer<?, ?> livingEntityRenderer =
             RendererManager.getLivingEntityRenderer(renderEntityType);
         if (livingEntityRenderer != null) {
           renderCustomLivingEntity(
-              entity,
               customEntity,
               (LivingEntityRenderer<LivingEntity, EntityModel<LivingEntity>>) livingEntityRenderer,
               entityYaw,
@@ -93,7 +95,6 @@ public interface EasyNPCRenderer<E extends PathfinderMob, M extends EntityModel<
         EntityRenderer<?> entityRenderer = RendererManager.getEntityRenderer(renderEntityType);
         if (entityRenderer != null) {
           renderCustomEntity(
-              entity,
               customEntity,
               (EntityRenderer<Entity>) entityRenderer,
               entityYaw,
@@ -113,7 +114,6 @@ public interface EasyNPCRenderer<E extends PathfinderMob, M extends EntityModel<
   }
 
   static void renderCustomEntity(
-      PathfinderMob entity,
       Entity customEntity,
       EntityRenderer<Entity> entityRenderer,
       float entityYaw,
@@ -121,12 +121,10 @@ public interface EasyNPCRenderer<E extends PathfinderMob, M extends EntityModel<
       PoseStack poseStack,
       MultiBufferSource buffer,
       int packedLight) {
-    RendererManager.copyCustomEntityData(entity, customEntity);
     entityRenderer.render(customEntity, entityYaw, partialTicks, poseStack, buffer, packedLight);
   }
 
   static void renderCustomLivingEntity(
-      PathfinderMob entity,
       LivingEntity customEntity,
       LivingEntityRenderer<LivingEntity, EntityModel<LivingEntity>> livingEntityRenderer,
       float entityYaw,
@@ -134,7 +132,6 @@ public interface EasyNPCRenderer<E extends PathfinderMob, M extends EntityModel<
       PoseStack poseStack,
       MultiBufferSource buffer,
       int packedLight) {
-    RendererManager.copyCustomLivingEntityData(entity, customEntity);
     livingEntityRenderer.render(
         customEntity, entityYaw, partialTicks, poseStack, buffer, packedLight);
   }
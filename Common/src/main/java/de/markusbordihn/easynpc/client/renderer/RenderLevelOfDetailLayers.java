@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.client.renderer;
+
+import de.markusbordihn.easynpc.client.renderer.entity.layers.CatCollarLayer;
+import de.markusbordihn.easynpc.client.renderer.entity.layers.HeldItemLayer;
+import de.markusbordihn.easynpc.client.renderer.entity.layers.OuterLayer;
+import de.markusbordihn.easynpc.client.renderer.entity.layers.ProfessionLayer;
+import de.markusbordihn.easynpc.client.renderer.entity.layers.VariantLayer;
+import de.markusbordihn.easynpc.client.renderer.entity.layers.VariantOverLayer;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.model.EntityModel;
+import net.minecraft.client.renderer.entity.layers.CrossedArmsItemLayer;
+import net.minecraft.client.renderer.entity.layers.ElytraLayer;
+import net.minecraft.client.renderer.entity.layers.ItemInHandLayer;
+import net.minecraft.client.renderer.entity.layers.RenderLayer;
+import net.minecraft.client.renderer.entity.layers.StuckInBodyLayer;
+import net.minecraft.world.entity.LivingEntity;
+
+/**
+ * Swaps the layers of a renderer for the given level of detail. The reduced layer lists are created
+ * once, so that switching between the levels does not allocate any new objects.
+ */
+public class RenderLevelOfDetailLayers<E extends LivingEntity, M extends EntityModel<E>> {
+
+  private final List<RenderLayer<E, M>> layers;
+  private List<RenderLayer<E, M>> fullLayers;
+  private List<RenderLayer<E, M>> reducedLayers;
+  private boolean hasModifiedLayers = false;
+
+  public RenderLevelOfDetailLayers(List<RenderLayer<E, M>> layers) {
+    this.layers = layers;
+  }
+
+  public static boolean isDetailLayer(RenderLayer<?, ?> renderLayer) {
+    return renderLayer instanceof VariantLayer<?, ?>
+        || renderLayer instanceof VariantOverLayer<?, ?>
+        || renderLayer instanceof ProfessionLayer<?, ?>
+        || renderLayer instanceof OuterLayer<?, ?>
+        || renderLayer instanceof CatCollarLayer<?, ?>
+        || renderLayer instanceof HeldItemLayer<?, ?>
+        || renderLayer instanceof ItemInHandLayer<?, ?>
+        || renderLayer instanceof CrossedArmsItemLayer<?, ?>
+        || renderLayer instanceof ElytraLayer<?, ?>
+        || renderLayer instanceof StuckInBodyLayer<?, ?>;
+  }
+
+  public void apply(RenderLevelOfDetail levelOfDetail) {
+    if (levelOfDetail == RenderLevelOfDetail.NEAR || this.layers.isEmpty()) {
+      return;
+    }
+
+    // Cache full and reduced layer lists on first use, after all layers are added.
+    if (this.fullLayers == null) {
+      this.fullLayers = new ArrayList<>(this.layers);
+      this.reducedLayers = new ArrayList<>(this.layers.size());
+      for (RenderLayer<E, M> renderLayer : this.fullLayers) {
+        if (!isDetailLayer(renderLayer)) {
+          this.reducedLayers.add(renderLayer);
+        }
+      }
+    }
+
+    this.layers.clear();
+    if (levelOfDetail == RenderLevelOfDetail.MID) {
+      this.layers.addAll(this.reducedLayers);
+    }
+    this.hasModifiedLayers = true;
+  }
+
+  public void restore() {
+    if (this.hasModifiedLayers) {
+      this.layers.clear();
+      this.layers.addAll(this.fullLayers);
+      this.hasModifiedLayers = false;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.client.renderer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class RenderLevelOfDetailManager {
+
+  private static final RenderLevelOfDetail[] LEVELS = RenderLevelOfDetail.values();
+  private static final int[] renderCounter = new int[LEVELS.length];
+  private static final int[] lastRenderCounter = new int[LEVELS.length];
+  private static boolean enabled = true;
+  private static boolean guiRender = false;
+  private static double midDistanceSqr = 24 * 24;
+  private static double farDistanceSqr = 48 * 48;
+  private static double cullDistanceSqr = 0;
+  private static RenderLevelOfDetail currentLevelOfDetail = RenderLevelOfDetail.NEAR;
+
+  private RenderLevelOfDetailManager() {}
+
+  public static void setEnabled(boolean enabled) {
+    RenderLevelOfDetailManager.enabled = enabled;
+  }
+
+  public static void setMidDistance(int distance) {
+    midDistanceSqr = (double) distance * distance;
+  }
+
+  public static void setFarDistance(int distance) {
+    farDistanceSqr = (double) distance * distance;
+  }
+
+  /** Distance after which the model is no longer rendered at all, 0 disables culling. */
+  public static void setCullDistance(int distance) {
+    cullDistanceSqr = (double) distance * distance;
+  }
+
+  /** GUI previews are using the camera distance of the world entity and need the full detail. */
+  public static void setGuiRender(boolean guiRender) {
+    RenderLevelOfDetailManager.guiRender = guiRender;
+  }
+
+  public static RenderLevelOfDetail getLevelOfDetail(double distanceSqr) {
+    if (!enabled || guiRender) {
+      return RenderLevelOfDetail.NEAR;
+    }
+    if (cullDistanceSqr > 0 && distanceSqr > cullDistanceSqr) {
+      return RenderLevelOfDetail.CULLED;
+    } else if (distanceSqr > farDistanceSqr) {
+      return RenderLevelOfDetail.FAR;
+    } else if (distanceSqr > midDistanceSqr) {
+      return RenderLevelOfDetail.MID;
+    }
+    return RenderLevelOfDetail.NEAR;
+  }
+
+  public static RenderLevelOfDetail getCurrentLevelOfDetail() {
+    return currentLevelOfDetail;
+  }
+
+  public static void setCurrentLevelOfDetail(RenderLevelOfDetail levelOfDetail) {
+    currentLevelOfDetail = levelOfDetail;
+  }
+
+  public static void resetCurrentLevelOfDetail() {
+    currentLevelOfDetail = RenderLevelOfDetail.NEAR;
+  }
+
+  public static boolean hasReducedDetail() {
+    return currentLevelOfDetail != RenderLevelOfDetail.NEAR;
+  }
+
+  public static boolean hasFrozenPose() {
+    return currentLevelOfDetail == RenderLevelOfDetail.FAR
+        || currentLevelOfDetail == RenderLevelOfDetail.CULLED;
+  }
+
+  /** Stores the counters of the last frame and resets them for the next frame. */
+  public static void startFrame() {
+    System.arraycopy(renderCounter, 0, lastRenderCounter, 0, renderCounter.length);
+    Arrays.fill(renderCounter, 0);
+  }
+
+  public static void countLevelOfDetail(RenderLevelOfDetail levelOfDetail) {
+    if (!guiRender) {
+      renderCounter[levelOfDetail.ordinal()]++;
+    }
+  }
+
+  public static List<String> getDebugText() {
+    List<String> debugText = new ArrayList<>(2);
+    StringBuilder stringBuilder = new StringBuilder("EasyNPC LOD:");
+    for (RenderLevelOfDetail levelOfDetail : LEVELS) {
+      stringBuilder
+          .append(' ')
+          .append(levelOfDetail.name())
+          .append('=')
+          .append(lastRenderCounter[levelOfDetail.ordinal()]);
+    }
+    debugText.add(stringBuilder.toString());
+    if (!enabled) {
+      debugText.add("EasyNPC LOD: disabled");
+    }
+    return debugText;
+  }
+}
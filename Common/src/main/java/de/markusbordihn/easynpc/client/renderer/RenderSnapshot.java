@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.client.renderer;
+
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.Pose;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Fixed-layout snapshot of the render relevant state, which was last applied to a proxy entity.
+ * Only the motion, the pose, the flags and the equipment slots which changed since the last update
+ * are copied to the proxy entity. The motion only changes once per tick, or if a screen renders
+ * the entity with its own rotations, so most frames of the same tick copy nothing.
+ */
+public final class RenderSnapshot {
+
+  private static final EquipmentSlot[] EQUIPMENT_SLOTS = EquipmentSlot.values();
+  private static final int FLAG_AGGRESSIVE = 1;
+  private static final int FLAG_LEFT_HANDED = 1 << 1;
+
+  private final ItemStack[] equipment = new ItemStack[EQUIPMENT_SLOTS.length];
+  private Pose pose;
+  private int flags = -1;
+  private int tickCount = -1;
+  private float yRot;
+  private float xRot;
+  private float yHeadRot;
+  private float yHeadRotO;
+  private float yBodyRot;
+  private float yBodyRotO;
+
+  private static int getFlags(PathfinderMob pathfinderMob) {
+    int flags = 0;
+    if (pathfinderMob.isAggressive()) {
+      flags |= FLAG_AGGRESSIVE;
+    }
+    if (pathfinderMob.isLeftHanded()) {
+      flags |= FLAG_LEFT_HANDED;
+    }
+    return flags;
+  }
+
+  private boolean hasMotionChanged(PathfinderMob sourceEntity) {
+    return sourceEntity.tickCount != this.tickCount
+        || sourceEntity.getYRot() != this.yRot
+        || sourceEntity.getXRot() != this.xRot
+        || sourceEntity.getYHeadRot() != this.yHeadRot
+        || sourceEntity.yHeadRotO != this.yHeadRotO
+        || sourceEntity.yBodyRot != this.yBodyRot
+        || sourceEntity.yBodyRotO != this.yBodyRotO;
+  }
+
+  public void update(PathfinderMob sourceEntity, PathfinderMob proxyEntity) {
+    if (hasMotionChanged(sourceEntity)) {
+      RendererManager.copyCustomLivingEntityData(sourceEntity, proxyEntity);
+      this.tickCount = sourceEntity.tickCount;
+      this.yRot = sourceEntity.getYRot();
+      this.xRot = sourceEntity.getXRot();
+      this.yHeadRot = sourceEntity.getYHeadRot();
+      this.yHeadRotO = sourceEntity.yHeadRotO;
+      this.yBodyRot = sourceEntity.yBodyRot;
+      this.yBodyRotO = sourceEntity.yBodyRotO;
+    }
+
+    Pose sourcePose = sourceEntity.getPose();
+    if (sourcePose != this.pose) {
+      proxyEntity.setPose(sourcePose);
+      this.pose = sourcePose;
+    }
+
+    int sourceFlags = getFlags(sourceEntity);
+    if (sourceFlags != this.flags) {
+      proxyEntity.setAggressive((sourceFlags & FLAG_AGGRESSIVE) != 0);
+      proxyEntity.setLeftHanded((sourceFlags & FLAG_LEFT_HANDED) != 0);
+      this.flags = sourceFlags;
+    }
+
+    // Synced equipment is replaced by new item stacks, so an identity check is sufficient.
+    for (EquipmentSlot equipmentSlot : EQUIPMENT_SLOTS) {
+      ItemStack itemStack = sourceEntity.getItemBySlot(equipmentSlot);
+      if (itemStack != this.equipment[equipmentSlot.ordinal()]) {
+        proxyEntity.setItemSlot(equipmentSlot, itemStack.copy());
+        this.equipment[equipmentSlot.ordinal()] = itemStack;
+      }
+    }
+  }
+}
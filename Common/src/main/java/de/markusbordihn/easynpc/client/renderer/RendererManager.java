@@ -20,10 +20,14 @@
 package de.markusbordihn.easynpc.client.renderer;
 
 import de.markusbordihn.easynpc.Constants;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.entity.EntityRenderDispatcher;
 import net.minecraft.client.renderer.entity.EntityRenderer;
@@ -45,7 +49,14 @@ public class RendererManager {
   private static final Map<EntityType<?>, EntityRenderer<?>> entityRendererMap = new HashMap<>();
   private static final Map<EntityType<?>, LivingEntityRenderer<?, ?>> livingEntityRendererMap =
       new HashMap<>();
+  private static final Map<UUID, RenderProxy> renderProxyMap = new HashMap<>();
+  private static final Map<EntityType<?>, Deque<PathfinderMob>> renderProxyPoolMap =
+      new HashMap<>();
+  private static final int MAX_POOLED_RENDER_PROXIES = 8;
+  private static final int RENDER_PROXY_TIMEOUT_TICKS = 200;
   private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static long lastRenderProxyCleanup;
+  private static Level renderProxyLevel;
 
   private RendererManager() {}
 
@@ -108,14 +119,9 @@ public class RendererManager {
     }
 
     // Verify if entity type is supported and created entity is a PathfinderMob.
-    Entity entity = entityType.create(level);
-    if (entity instanceof PathfinderMob pathfinderMob) {
+    PathfinderMob pathfinderMob = createPathfinderMob(entityType, level);
+    if (pathfinderMob != null) {
       log.debug("{} Registering PathfinderMob {} for {}", LOG_PREFIX, pathfinderMob, entityType);
-
-      // For better performance we disable AI, sound and physics for the entity.
-      pathfinderMob.setNoAi(true);
-      pathfinderMob.setSilent(true);
-      pathfinderMob.noPhysics = true;
       setPathfinderMob(entityType, pathfinderMob);
       return pathfinderMob;
     } else {
@@ -126,6 +132,94 @@ public class RendererManager {
     return null;
   }
 
+  private static PathfinderMob createPathfinderMob(EntityType<?> entityType, Level level) {
+    Entity entity = entityType.create(level);
+    if (entity instanceof PathfinderMob pathfinderMob) {
+      // For better performance we disable AI, sound and physics for the entity.
+      pathfinderMob.setNoAi(true);
+      pathfinderMob.setSilent(true);
+      pathfinderMob.noPhysics = true;
+      return pathfinderMob;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the proxy entity of the given entity for the render entity type. Each entity keeps its
+   * own proxy, which is taken from a pool per entity type and only receives the changed render
+   * state through its {@link RenderSnapshot}. Unused proxies are returned to the pool.
+   */
+  public static PathfinderMob getRenderProxy(PathfinderMob entity, EntityType<?> entityType) {
+    if (entity == null || entityType == null || unsupportedEntityTypes.contains(entityType)) {
+      return null;
+    }
+
+    // Proxies belong to a single level and are dropped together with the level.
+    if (entity.level() != renderProxyLevel) {
+      clearRenderProxies();
+      renderProxyLevel = entity.level();
+    }
+
+    long gameTime = entity.level().getGameTime();
+    if (gameTime - lastRenderProxyCleanup > RENDER_PROXY_TIMEOUT_TICKS
+        || gameTime < lastRenderProxyCleanup) {
+      releaseUnusedRenderProxies(gameTime);
+      lastRenderProxyCleanup = gameTime;
+    }
+
+    RenderProxy renderProxy = renderProxyMap.get(entity.getUUID());
+    if (renderProxy == null || renderProxy.entityType != entityType) {
+      if (renderProxy != null) {
+        releaseRenderProxy(renderProxy);
+      }
+      Deque<PathfinderMob> renderProxyPool = renderProxyPoolMap.get(entityType);
+      PathfinderMob pathfinderMob =
+          renderProxyPool != null && !renderProxyPool.isEmpty()
+              ? renderProxyPool.poll()
+              : createPathfinderMob(entityType, entity.level());
+      if (pathfinderMob == null) {
+        return null;
+      }
+      renderProxy = new RenderProxy(entityType, pathfinderMob);
+      renderProxyMap.put(entity.getUUID(), renderProxy);
+    }
+
+    renderProxy.lastUsedGameTime = gameTime;
+    renderProxy.renderSnapshot.update(entity, renderProxy.pathfinderMob);
+    return renderProxy.pathfinderMob;
+  }
+
+  /** Removes all render proxies and pools, e.g. after a level change or disconnect. */
+  public static void clearRenderProxies() {
+    if (!renderProxyMap.isEmpty() || !renderProxyPoolMap.isEmpty()) {
+      log.debug("{} Clearing {} render proxies", LOG_PREFIX, renderProxyMap.size());
+    }
+    renderProxyMap.clear();
+    renderProxyPoolMap.clear();
+    renderProxyLevel = null;
+    lastRenderProxyCleanup = 0;
+  }
+
+  private static void releaseRenderProxy(RenderProxy renderProxy) {
+    Deque<PathfinderMob> renderProxyPool =
+        renderProxyPoolMap.computeIfAbsent(renderProxy.entityType, key -> new ArrayDeque<>());
+    if (renderProxyPool.size() < MAX_POOLED_RENDER_PROXIES) {
+      renderProxyPool.add(renderProxy.pathfinderMob);
+    }
+  }
+
+  private static void releaseUnusedRenderProxies(long gameTime) {
+    Iterator<RenderProxy> iterator = renderProxyMap.values().iterator();
+    while (iterator.hasNext()) {
+      RenderProxy renderProxy = iterator.next();
+      if (gameTime - renderProxy.lastUsedGameTime > RENDER_PROXY_TIMEOUT_TICKS
+          || gameTime < renderProxy.lastUsedGameTime) {
+        releaseRenderProxy(renderProxy);
+        iterator.remove();
+      }
+    }
+  }
+
   public static void registerRenderer(EntityType<?> entityType, Level level) {
     if (entityType == null) {
       return;
@@ -205,4 +299,17 @@ public class RendererManager {
     targetEntity.attackAnim = sourceEntity.attackAnim;
     targetEntity.oAttackAnim = sourceEntity.oAttackAnim;
   }
+
+  private static final class RenderProxy {
+
+    private final EntityType<?> entityType;
+    private final PathfinderMob pathfinderMob;
+    private final RenderSnapshot renderSnapshot = new RenderSnapshot();
+    private long lastUsedGameTime;
+
+    private RenderProxy(EntityType<?> entityType, PathfinderMob pathfinderMob) {
+      this.entityType = entityType;
+      this.pathfinderMob = pathfinderMob;
+    }
+  }
 }
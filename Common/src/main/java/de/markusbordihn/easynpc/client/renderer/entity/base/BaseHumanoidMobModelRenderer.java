@@ -23,6 +23,9 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.client.renderer.EasyNPCModelRenderer;
 import de.markusbordihn.easynpc.client.renderer.EasyNPCRenderer;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetail;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailLayers;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
 import de.markusbordihn.easynpc.entity.EasyNPCBaseModelEntity;
 import java.util.Map;
 import net.minecraft.client.model.ArmedModel;
@@ -42,6 +45,8 @@ public class BaseHumanoidMobModelRenderer<
   protected final Map<V, ResourceLocation> textures;
   protected final Map<V, ResourceLocation> texturesOverlay;
   protected final ResourceLocation defaultTexture;
+  protected final RenderLevelOfDetailLayers<E, M> levelOfDetailLayers =
+      new RenderLevelOfDetailLayers<>(this.layers);
 
   public BaseHumanoidMobModelRenderer(
       EntityRendererProvider.Context context,
@@ -119,6 +124,11 @@ public class BaseHumanoidMobModelRenderer<
     return EasyNPCModelRenderer.getEntityLightLevel(entity, blockPos);
   }
 
+  @Override
+  protected float getBob(E entity, float partialTicks) {
+    return RenderLevelOfDetailManager.hasFrozenPose() ? 0.0F : super.getBob(entity, partialTicks);
+  }
+
   @Override
   public void render(
       E entity,
@@ -127,15 +137,30 @@ public class BaseHumanoidMobModelRenderer<
       PoseStack poseStack,
       MultiBufferSource buffer,
       int packedLight) {
-
-    // Render model specific pose.
-    this.renderModel(
-        entity, this.getModel(), entityYaw, partialTicks, poseStack, buffer, packedLight);
-
-    // Render entity with optional custom renderer or default renderer.
-    if (!EasyNPCRenderer.renderEntity(
-        entity, entityYaw, partialTicks, poseStack, buffer, packedLight)) {
-      super.render(entity, entityYaw, partialTicks, poseStack, buffer, packedLight);
+    // Determine level of detail based on the distance to the camera.
+    RenderLevelOfDetail levelOfDetail =
+        RenderLevelOfDetailManager.getLevelOfDetail(
+            this.entityRenderDispatcher.distanceToSqr(entity));
+    RenderLevelOfDetailManager.countLevelOfDetail(levelOfDetail);
+    if (levelOfDetail == RenderLevelOfDetail.CULLED) {
+      return;
+    }
+    RenderLevelOfDetailManager.setCurrentLevelOfDetail(levelOfDetail);
+    this.levelOfDetailLayers.apply(levelOfDetail);
+
+    try {
+      // Render model specific pose.
+      this.renderModel(
+          entity, this.getModel(), entityYaw, partialTicks, poseStack, buffer, packedLight);
+
+      // Render entity with optional custom renderer or default renderer.
+      if (!EasyNPCRenderer.renderEntity(
+          entity, entityYaw, partialTicks, poseStack, buffer, packedLight)) {
+        super.render(entity, entityYaw, partialTicks, poseStack, buffer, packedLight);
+      }
+    } finally {
+      this.levelOfDetailLayers.restore();
+      RenderLevelOfDetailManager.resetCurrentLevelOfDetail();
     }
   }
 }
@@ -23,6 +23,9 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.client.renderer.EasyNPCModelRenderer;
 import de.markusbordihn.easynpc.client.renderer.EasyNPCRenderer;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetail;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailLayers;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
 import de.markusbordihn.easynpc.entity.EasyNPCBaseModelEntity;
 import java.util.Map;
 import net.minecraft.client.model.EntityModel;
@@ -40,6 +43,8 @@ public class BaseLivingEntityModelRenderer<
   protected final Map<V, ResourceLocation> textures;
   protected final Map<V, ResourceLocation> texturesOverlay;
   protected final ResourceLocation defaultTexture;
+  protected final RenderLevelOfDetailLayers<E, M> levelOfDetailLayers =
+      new RenderLevelOfDetailLayers<>(this.layers);
 
   public BaseLivingEntityModelRenderer(
       EntityRendererProvider.Context context,
@@ -108,6 +113,11 @@ public class BaseLivingEntityModelRenderer<
     return EasyNPCModelRenderer.getEntityLightLevel(entity, blockPos);
   }
 
+  @Override
+  protected float getBob(E entity, float partialTicks) {
+    return RenderLevelOfDetailManager.hasFrozenPose() ? 0.0F : super.getBob(entity, partialTicks);
+  }
+
   @Override
   public void render(
       E entity,
@@ -116,14 +126,30 @@ public class BaseLivingEntityModelRenderer<
       PoseStack poseStack,
       MultiBufferSource buffer,
       int packedLight) {
-    // Render model specific pose.
-    this.renderModel(
-        entity, this.getModel(), entityYaw, partialTicks, poseStack, buffer, packedLight);
-
-    // Render entity with optional custom renderer or default renderer.
-    if (!EasyNPCRenderer.renderEntity(
-        entity, entityYaw, partialTicks, poseStack, buffer, packedLight)) {
-      super.render(entity, entityYaw, partialTicks, poseStack, buffer, packedLight);
+    // Determine level of detail based on the distance to the camera.
+    RenderLevelOfDetail levelOfDetail =
+        RenderLevelOfDetailManager.getLevelOfDetail(
+            this.entityRenderDispatcher.distanceToSqr(entity));
+    RenderLevelOfDetailManager.countLevelOfDetail(levelOfDetail);
+    if (levelOfDetail == RenderLevelOfDetail.CULLED) {
+      return;
+    }
+    RenderLevelOfDetailManager.setCurrentLevelOfDetail(levelOfDetail);
+    this.levelOfDetailLayers.apply(levelOfDetail);
+
+    try {
+      // Render model specific pose.
+      this.renderModel(
+          entity, this.getModel(), entityYaw, partialTicks, poseStack, buffer, packedLight);
+
+      // Render entity with optional custom renderer or default renderer.
+      if (!EasyNPCRenderer.renderEntity(
+          entity, entityYaw, partialTicks, poseStack, buffer, packedLight)) {
+        super.render(entity, entityYaw, partialTicks, poseStack, buffer, packedLight);
+      }
+    } finally {
+      this.levelOfDetailLayers.restore();
+      RenderLevelOfDetailManager.resetCurrentLevelOfDetail();
     }
   }
 }
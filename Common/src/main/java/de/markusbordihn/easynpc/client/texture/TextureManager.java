@@ -49,7 +49,7 @@ public class TextureManager {
   private TextureManager() {}
 
   public static ResourceLocation addCustomTexture(TextureModelKey textureModelKey, File file) {
-    log.info(
+    log.debug(
         "{} Registering texture {} with UUID {}.",
         LOG_PREFIX,
         file.getName(),
@@ -289,7 +289,7 @@ public class TextureManager {
     }
 
     if (legacySupport && nativeImage.getWidth() == 64 && nativeImage.getHeight() == 32) {
-      log.info("{} Processing legacy image {} from 64x32 to 64x64 ...", LOG_PREFIX, nativeImage);
+      log.debug("{} Processing legacy image {} from 64x32 to 64x64 ...", LOG_PREFIX, nativeImage);
       nativeImage = getNativeImageFromLegacyImage(nativeImage);
     }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.AttackData;
+import java.util.UUID;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.UuidArgument;
+import net.minecraft.network.chat.Component;
+
+public class AttackCommand {
+
+  private AttackCommand() {}
+
+  public static ArgumentBuilder<CommandSourceStack, ?> register() {
+    return Commands.literal("attack")
+        .requires(cs -> cs.hasPermission(Commands.LEVEL_ALL))
+        .then(
+            Commands.literal("hit_scan")
+                .then(
+                    Commands.argument("uuid", UuidArgument.uuid())
+                        .suggests(SuggestionProvider::suggestEasyNPCs)
+                        .then(
+                            Commands.argument("enabled", BoolArgumentType.bool())
+                                .executes(
+                                    context ->
+                                        setHitScan(
+                                            context.getSource(),
+                                            UuidArgument.getUuid(context, "uuid"),
+                                            BoolArgumentType.getBool(context, "enabled"))))));
+  }
+
+  private static int setHitScan(CommandSourceStack context, UUID uuid, boolean enabled) {
+    if (uuid == null) {
+      return 0;
+    }
+
+    // Check if server player has access to the EasyNPC entity.
+    if (!AccessManager.hasAccess(context, uuid)) {
+      context.sendFailure(Component.literal("You are not allowed to edit this EasyNPC!"));
+      return 0;
+    }
+
+    // Check for attack data
+    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, context.getLevel());
+    AttackData<?> attackData = easyNPC != null ? easyNPC.getEasyNPCAttackData() : null;
+    if (attackData == null) {
+      context.sendFailure(Component.literal("No attack data available for " + easyNPC));
+      return 0;
+    }
+
+    attackData.setAttackHitScan(enabled);
+    context.sendSuccess(
+        () ->
+            Component.literal(
+                "Set hit-scan ranged attacks to " + enabled + " for EasyNPC with UUID " + uuid),
+        true);
+    return Command.SINGLE_SUCCESS;
+  }
+}
@@ -41,9 +41,11 @@ public class CommandManager {
     commandDispatcher.register(
         Commands.literal(Constants.MOD_COMMAND)
             // @formatter:off
+            .then(AttackCommand.register())
             .then(ConfigureCommand.register())
             .then(DebugCommand.register())
             .then(DialogCommand.register())
+            .then(FactionCommand.register())
             .then(NavigationCommand.register())
             .then(OwnerCommand.register())
             .then(PresetCommand.register())
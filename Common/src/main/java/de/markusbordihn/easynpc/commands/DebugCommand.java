@@ -21,10 +21,15 @@ package de.markusbordihn.easynpc.commands;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.debug.DebugEventBuffer;
 import de.markusbordihn.easynpc.debug.DebugManager;
+import de.markusbordihn.easynpc.debug.LoadTestManager;
+import java.nio.file.Path;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -37,7 +42,121 @@ public class DebugCommand implements Command<CommandSourceStack> {
   public static ArgumentBuilder<CommandSourceStack, ?> register() {
     return Commands.literal("debug")
         .requires(cs -> cs.hasPermission(Commands.LEVEL_GAMEMASTERS))
-        .then(Commands.argument("enable", BoolArgumentType.bool()).executes(command));
+        .then(Commands.argument("enable", BoolArgumentType.bool()).executes(command))
+        .then(Commands.literal("dump").executes(context -> dumpEvents(context.getSource())))
+        .then(
+            Commands.literal("events")
+                .then(
+                    Commands.argument("enable", BoolArgumentType.bool())
+                        .executes(
+                            context ->
+                                enableEvents(
+                                    context.getSource(),
+                                    BoolArgumentType.getBool(context, "enable")))))
+        .then(
+            Commands.literal("load")
+                .then(
+                    Commands.literal("spawn")
+                        .then(
+                            Commands.argument("count", IntegerArgumentType.integer(1, 1000))
+                                .executes(
+                                    context ->
+                                        spawnLoadTest(
+                                            context.getSource(),
+                                            IntegerArgumentType.getInteger(context, "count"),
+                                            32))
+                                .then(
+                                    Commands.argument(
+                                            "radius", IntegerArgumentType.integer(1, 256))
+                                        .executes(
+                                            context ->
+                                                spawnLoadTest(
+                                                    context.getSource(),
+                                                    IntegerArgumentType.getInteger(
+                                                        context, "count"),
+                                                    IntegerArgumentType.getInteger(
+                                                        context, "radius"))))))
+                .then(
+                    Commands.literal("remove")
+                        .executes(context -> removeLoadTest(context.getSource())))
+                .then(
+                    Commands.literal("stats")
+                        .executes(context -> showLoadTestStats(context.getSource())))
+                .then(
+                    Commands.literal("check")
+                        .then(
+                            Commands.argument("max_mspt", DoubleArgumentType.doubleArg(0))
+                                .executes(
+                                    context ->
+                                        checkLoadTest(
+                                            context.getSource(),
+                                            DoubleArgumentType.getDouble(context, "max_mspt"))))));
+  }
+
+  private static int dumpEvents(CommandSourceStack commandSource) {
+    if (DebugEventBuffer.getNumberOfEvents() == 0) {
+      commandSource.sendFailure(
+          Component.literal(
+              "No debug events recorded, use '/"
+                  + Constants.MOD_COMMAND
+                  + " debug events true' to record them."));
+      return 0;
+    }
+    Path dumpFile = DebugEventBuffer.dump();
+    if (dumpFile == null) {
+      commandSource.sendFailure(Component.literal("Unable to write debug events!"));
+      return 0;
+    }
+    commandSource.sendSuccess(
+        () -> Component.literal("Wrote debug events to " + dumpFile.toAbsolutePath()), false);
+    return Command.SINGLE_SUCCESS;
+  }
+
+  private static int enableEvents(CommandSourceStack commandSource, boolean enable) {
+    DebugEventBuffer.setEnabled(enable);
+    commandSource.sendSuccess(
+        () -> Component.literal((enable ? "Enabled" : "Disabled") + " recording of debug events."),
+        false);
+    return Command.SINGLE_SUCCESS;
+  }
+
+  private static int spawnLoadTest(CommandSourceStack commandSource, int count, int radius) {
+    int spawned =
+        LoadTestManager.spawnEasyNPCs(
+            commandSource.getLevel(), commandSource.getPosition(), count, radius);
+    commandSource.sendSuccess(
+        () -> Component.literal("Spawned " + spawned + " load test NPCs."), false);
+    return spawned;
+  }
+
+  private static int removeLoadTest(CommandSourceStack commandSource) {
+    int removed = LoadTestManager.removeEasyNPCs(commandSource.getLevel());
+    commandSource.sendSuccess(
+        () -> Component.literal("Removed " + removed + " load test NPCs."), false);
+    return removed;
+  }
+
+  private static int showLoadTestStats(CommandSourceStack commandSource) {
+    String stats = LoadTestManager.getStats(commandSource.getServer());
+    commandSource.sendSuccess(() -> Component.literal(stats), false);
+    return Command.SINGLE_SUCCESS;
+  }
+
+  private static int checkLoadTest(CommandSourceStack commandSource, double maxTickTime) {
+    double averageTickTime = LoadTestManager.getAverageTickTime(commandSource.getServer());
+    if (averageTickTime > maxTickTime) {
+      commandSource.sendFailure(
+          Component.literal(
+              String.format("MSPT %.2f exceeds the limit of %.2f!", averageTickTime, maxTickTime)));
+      return 0;
+    }
+    commandSource.sendSuccess(
+        () ->
+            Component.literal(
+                String.format(
+                    "MSPT %.2f is within the limit of %.2f.", averageTickTime, maxTickTime)),
+        false);
+    return Command.SINGLE_SUCCESS;
   }
 
   @Override
@@ -73,6 +192,7 @@ public class DebugCommand implements Command<CommandSourceStack> {
           false);
     }
     DebugManager.enableDebugLevel(enable);
+    DebugEventBuffer.setEnabled(enable);
     return 0;
   }
 }
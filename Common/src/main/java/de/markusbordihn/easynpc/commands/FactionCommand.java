@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.data.faction.FactionType;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.FactionData;
+import java.util.UUID;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.UuidArgument;
+import net.minecraft.network.chat.Component;
+
+public class FactionCommand {
+
+  private static final String EASY_NPC_PREFIX = "EasyNPC ";
+
+  private FactionCommand() {}
+
+  public static ArgumentBuilder<CommandSourceStack, ?> register() {
+    return Commands.literal("faction")
+        .requires(cs -> cs.hasPermission(Commands.LEVEL_ALL))
+        .then(
+            Commands.literal("set")
+                .then(
+                    Commands.argument("uuid", UuidArgument.uuid())
+                        .suggests(SuggestionProvider::suggestEasyNPCs)
+                        .then(
+                            Commands.argument("faction", StringArgumentType.string())
+                                .suggests(SuggestionProvider::suggestFactionTypes)
+                                .executes(
+                                    context ->
+                                        setFaction(
+                                            context.getSource(),
+                                            UuidArgument.getUuid(context, "uuid"),
+                                            StringArgumentType.getString(context, "faction"))))))
+        .then(
+            Commands.literal("get")
+                .then(
+                    Commands.argument("uuid", UuidArgument.uuid())
+                        .suggests(SuggestionProvider::suggestEasyNPCs)
+                        .executes(
+                            context ->
+                                getFaction(
+                                    context.getSource(), UuidArgument.getUuid(context, "uuid")))));
+  }
+
+  private static int setFaction(CommandSourceStack context, UUID uuid, String faction) {
+    if (uuid == null || faction == null || faction.isEmpty()) {
+      return 0;
+    }
+
+    // Check if server player has access to the EasyNPC entity.
+    if (!AccessManager.hasAccess(context, uuid)) {
+      context.sendFailure(Component.literal("You are not allowed to edit this EasyNPC!"));
+      return 0;
+    }
+
+    // Check for faction data
+    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, context.getLevel());
+    FactionData<?> factionData = easyNPC != null ? easyNPC.getEasyNPCFactionData() : null;
+    if (factionData == null) {
+      context.sendFailure(Component.literal("No faction data available for " + easyNPC));
+      return 0;
+    }
+
+    // Validate faction, to avoid clearing the faction for unknown or misspelled names.
+    FactionType factionType;
+    try {
+      factionType = FactionType.valueOf(faction);
+    } catch (IllegalArgumentException e) {
+      context.sendFailure(Component.literal("Unknown faction " + faction + " for " + easyNPC));
+      return 0;
+    }
+
+    factionData.setFaction(factionType);
+    context.sendSuccess(
+        () ->
+            Component.literal(
+                EASY_NPC_PREFIX + easyNPC.getUUID() + " faction was changed to " + factionType),
+        true);
+    return Command.SINGLE_SUCCESS;
+  }
+
+  private static int getFaction(CommandSourceStack context, UUID uuid) {
+    if (uuid == null) {
+      return 0;
+    }
+
+    // Get faction data for EasyNPC entity.
+    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, context.getLevel());
+    FactionData<?> factionData = easyNPC != null ? easyNPC.getEasyNPCFactionData() : null;
+    if (factionData == null) {
+      context.sendFailure(Component.literal("No faction data available for " + easyNPC));
+      return 0;
+    }
+
+    context.sendSuccess(
+        () ->
+            Component.literal(
+                EASY_NPC_PREFIX + easyNPC.getUUID() + " belongs to " + factionData.getFaction()),
+        false);
+    return Command.SINGLE_SUCCESS;
+  }
+}
@@ -22,10 +22,13 @@ package de.markusbordihn.easynpc.commands;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.directory.EasyNPCDirectory;
+import de.markusbordihn.easynpc.data.directory.EasyNPCDirectoryEntry;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
 import de.markusbordihn.easynpc.handler.OwnerHandler;
+import java.util.List;
 import java.util.UUID;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -68,7 +71,16 @@ public class OwnerCommand {
                         .executes(
                             context ->
                                 getOwner(
-                                    context.getSource(), UuidArgument.getUuid(context, "uuid")))));
+                                    context.getSource(), UuidArgument.getUuid(context, "uuid")))))
+        .then(
+            Commands.literal("list")
+                .then(
+                    Commands.argument("player", EntityArgument.player())
+                        .executes(
+                            context ->
+                                listOwned(
+                                    context.getSource(),
+                                    EntityArgument.getPlayer(context, "player")))));
   }
 
   private static int setOwner(CommandSourceStack context, UUID uuid, ServerPlayer serverPlayer) {
@@ -98,6 +110,39 @@ public class OwnerCommand {
     return Command.SINGLE_SUCCESS;
   }
 
+  private static int listOwned(CommandSourceStack context, ServerPlayer serverPlayer) {
+    if (serverPlayer == null) {
+      return 0;
+    }
+
+    // Use the directory, which also includes EasyNPCs in unloaded chunks.
+    List<EasyNPCDirectoryEntry> entries =
+        EasyNPCDirectory.getEntriesByOwner(context.getServer(), serverPlayer.getUUID());
+    if (entries.isEmpty()) {
+      context.sendFailure(
+          Component.literal("No EasyNPCs found for " + serverPlayer.getName().getString()));
+      return 0;
+    }
+
+    context.sendSuccess(
+        () -> Component.literal(serverPlayer.getName().getString() + " owns " + entries.size()),
+        false);
+    for (EasyNPCDirectoryEntry entry : entries) {
+      context.sendSuccess(
+          () ->
+              Component.literal(
+                  "- "
+                      + EASY_NPC_PREFIX
+                      + entry.uuid()
+                      + " ("
+                      + entry.name()
+                      + ") at "
+                      + entry.blockPos().toShortString()),
+          false);
+    }
+    return Command.SINGLE_SUCCESS;
+  }
+
   private static int getOwner(CommandSourceStack context, UUID uuid) {
     if (uuid == null) {
       return 0;
@@ -27,6 +27,7 @@ import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.access.AccessManager;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.io.CompactPresetFormat;
 import de.markusbordihn.easynpc.io.WorldPresetDataFiles;
 import de.markusbordihn.easynpc.network.NetworkMessageHandlerManager;
 import java.io.IOException;
@@ -42,7 +43,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.DoubleTag;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -174,7 +174,7 @@ public class PresetCommand {
     if (presetPath != null && presetPath.toFile().exists()) {
       log.info("Importing world preset {} from {}...", preset, presetPath);
       try {
-        compoundTag = NbtIo.readCompressed(presetPath.toFile());
+        compoundTag = CompactPresetFormat.read(presetPath.toFile());
       } catch (IOException exception) {
         log.error("Unable to read world preset {} from {}!", preset, presetPath);
         context.sendFailure(
@@ -190,7 +190,8 @@ public class PresetCommand {
             && context.getServer().getResourceManager().getResource(preset).isPresent()) {
       try {
         log.info("Importing preset {} from mod resources...", preset);
-        compoundTag = NbtIo.readCompressed(context.getServer().getResourceManager().open(preset));
+        compoundTag =
+            CompactPresetFormat.read(context.getServer().getResourceManager().open(preset));
       } catch (IOException exception) {
         log.error("Unable to read preset {} from mod resources!", preset);
         context.sendFailure(Component.literal("Preset file " + preset + " not found!"));
@@ -221,7 +222,7 @@ public class PresetCommand {
         preset,
         entityType,
         position,
-        compoundTag.getUUID(Entity.UUID_TAG));
+        compoundTag.hasUUID(Entity.UUID_TAG) ? compoundTag.getUUID(Entity.UUID_TAG) : null);
     log.debug("Importing preset {} with compound tag {}", preset, compoundTag);
 
     // Overwrite spawn position if coordinates are given.
@@ -23,6 +23,8 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import de.markusbordihn.easynpc.data.directory.EasyNPCDirectory;
+import de.markusbordihn.easynpc.data.faction.FactionType;
 import de.markusbordihn.easynpc.data.render.RenderType;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
@@ -36,6 +38,7 @@ import java.util.stream.Stream;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 
 public class SuggestionProvider {
@@ -91,15 +94,19 @@ public class SuggestionProvider {
 
   private SuggestionProvider() {}
 
-  // Return all EasyNPCs for creative mode or only the owned EasyNPCs of the player.
+  // Return all EasyNPCs for creative mode or only the owned EasyNPCs of the player, including
+  // EasyNPCs in unloaded chunks.
   protected static CompletableFuture<Suggestions> suggestEasyNPCs(
       CommandContext<CommandSourceStack> context, SuggestionsBuilder build)
       throws CommandSyntaxException {
     ServerPlayer serverPlayer = context.getSource().getPlayerOrException();
+    MinecraftServer server = context.getSource().getServer();
     return SharedSuggestionProvider.suggest(
-        serverPlayer.isCreative()
-            ? LivingEntityManager.getUUIDStrings()
-            : LivingEntityManager.getUUIDStringsByOwner(serverPlayer),
+        (serverPlayer.isCreative()
+                ? EasyNPCDirectory.getEntries(server)
+                : EasyNPCDirectory.getEntriesByOwner(server, serverPlayer.getUUID()))
+            .stream()
+            .map(entry -> entry.uuid().toString()),
         build);
   }
 
@@ -130,6 +137,12 @@ public class SuggestionProvider {
     return SharedSuggestionProvider.suggest(RenderType.getRenderTypeNames(), build);
   }
 
+  // Return all faction types.
+  protected static CompletableFuture<Suggestions> suggestFactionTypes(
+      CommandContext<CommandSourceStack> context, SuggestionsBuilder build) {
+    return SharedSuggestionProvider.suggest(FactionType.getFactionTypeNames(), build);
+  }
+
   // Return all entity types from the entity registry.
   protected static CompletableFuture<Suggestions> suggestEntityTypes(
       CommandContext<CommandSourceStack> context, SuggestionsBuilder build) {
@@ -20,6 +20,7 @@
 package de.markusbordihn.easynpc.commands;
 
 import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.access.AccessManager;
@@ -79,7 +80,53 @@ public class TradingCommand {
                         .executes(
                             context ->
                                 reset(
-                                    context.getSource(), UuidArgument.getUuid(context, "uuid")))));
+                                    context.getSource(), UuidArgument.getUuid(context, "uuid")))))
+        .then(
+            Commands.literal("per_player_stock")
+                .requires(
+                    commandSourceStack ->
+                        commandSourceStack.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                .then(
+                    Commands.argument("uuid", UuidArgument.uuid())
+                        .suggests(SuggestionProvider::suggestEasyNPCs)
+                        .then(
+                            Commands.argument("enabled", BoolArgumentType.bool())
+                                .executes(
+                                    context ->
+                                        setPerPlayerStock(
+                                            context.getSource(),
+                                            UuidArgument.getUuid(context, "uuid"),
+                                            BoolArgumentType.getBool(context, "enabled"))))));
+  }
+
+  private static int setPerPlayerStock(CommandSourceStack context, UUID uuid, boolean enabled) {
+    if (uuid == null) {
+      return 0;
+    }
+
+    // Check if server player has access to the EasyNPC entity.
+    if (!AccessManager.hasAccess(context, uuid)) {
+      context.sendFailure(Component.literal("You are not allowed to edit this EasyNPC!"));
+      return 0;
+    }
+
+    // Check for trading data
+    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, context.getLevel());
+    TradingData<?> tradingData = easyNPC.getEasyNPCTradingData();
+    if (tradingData == null) {
+      context.sendFailure(Component.literal("No trading data available for " + easyNPC));
+      return 0;
+    }
+
+    // Change stock mode and reset the existing stock for a clean start.
+    tradingData.setTradingPerPlayerStock(enabled);
+    tradingData.resetTradingStock();
+    context.sendSuccess(
+        () ->
+            Component.literal(
+                (enabled ? "Enabled" : "Disabled") + " per-player trading stock for " + easyNPC),
+        false);
+    return Command.SINGLE_SUCCESS;
   }
 
   private static int reset(CommandSourceStack context, UUID uuid) {
@@ -104,6 +151,7 @@ public class TradingCommand {
     // Reset trading offers for the EasyNPC entity.
     context.sendSuccess(() -> Component.literal("Resetting trading offers for " + easyNPC), false);
     tradingData.resetTradingOffers();
+    tradingData.resetTradingStock();
     return Command.SINGLE_SUCCESS;
   }
 
@@ -37,6 +37,7 @@ public class ActionEventSet {
 
   // Cache
   private boolean hasDistanceActionEvent = false;
+  private boolean shared = false;
 
   public ActionEventSet() {}
 
@@ -44,6 +45,15 @@ public class ActionEventSet {
     this.load(compoundTag);
   }
 
+  public boolean isShared() {
+    return this.shared;
+  }
+
+  public ActionEventSet markShared() {
+    this.shared = true;
+    return this;
+  }
+
   public void setActionEvent(ActionEventType actionEventType, ActionDataEntry actionDataEntry) {
     if (actionEventType != null
         && actionEventType != ActionEventType.NONE
@@ -19,6 +19,7 @@
 
 package de.markusbordihn.easynpc.data.action;
 
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.LivingEntity;
 
@@ -66,7 +67,12 @@ public class ActionUtils {
     // Replace NPC macros.
     if (entity != null) {
       output = output.replace(MACRO_NPC_UUID, entity.getUUID().toString());
-      output = output.replace(MACRO_NPC, entity.getName().getString());
+      output =
+          output.replace(
+              MACRO_NPC,
+              entity instanceof EasyNPC<?> easyNPC
+                  ? easyNPC.getEasyNPCNameString()
+                  : entity.getName().getString());
     }
 
     // Replace player macros.
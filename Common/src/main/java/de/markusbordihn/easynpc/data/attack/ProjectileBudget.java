@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.attack;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+
+/**
+ * Bounded per-level budget for projectile entities fired by NPCs. Projectiles are released once
+ * they are removed or older than {@link #MAX_AGE_TICKS}, in which case they are discarded, so that
+ * arrows stuck in the ground do not keep the budget busy. Ranged attacks which exceed the budget
+ * fall back to hit-scan attacks.
+ */
+public final class ProjectileBudget {
+
+  public static final int MAX_PROJECTILES_PER_LEVEL = 64;
+  public static final int MAX_AGE_TICKS = 200;
+  private static final Map<ResourceKey<Level>, Deque<Entity>> levelProjectileMap =
+      new HashMap<>();
+
+  private ProjectileBudget() {}
+
+  public static boolean hasBudget(Level level) {
+    if (level == null || level.isClientSide()) {
+      return false;
+    }
+    synchronized (levelProjectileMap) {
+      Deque<Entity> projectiles = levelProjectileMap.get(level.dimension());
+      if (projectiles == null) {
+        return true;
+      }
+      projectiles.removeIf(ProjectileBudget::releaseProjectile);
+      return projectiles.size() < MAX_PROJECTILES_PER_LEVEL;
+    }
+  }
+
+  public static void track(Entity projectile) {
+    if (projectile == null || projectile.level().isClientSide()) {
+      return;
+    }
+    synchronized (levelProjectileMap) {
+      levelProjectileMap
+          .computeIfAbsent(projectile.level().dimension(), key -> new ArrayDeque<>())
+          .add(projectile);
+    }
+  }
+
+  public static int getNumberOfProjectiles(Level level) {
+    synchronized (levelProjectileMap) {
+      Deque<Entity> projectiles = levelProjectileMap.get(level.dimension());
+      return projectiles != null ? projectiles.size() : 0;
+    }
+  }
+
+  public static void clear() {
+    synchronized (levelProjectileMap) {
+      levelProjectileMap.clear();
+    }
+  }
+
+  private static boolean releaseProjectile(Entity projectile) {
+    if (projectile.isRemoved()) {
+      return true;
+    }
+    if (projectile.tickCount > MAX_AGE_TICKS) {
+      projectile.discard();
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.cache;
+
+import de.markusbordihn.easynpc.data.server.ServerDataIndex;
+import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Keeps the last serialized tag of the larger data sections of an NPC, so that unchanged sections
+ * are not serialized again on every save. A section is dirty after any change of its entity data
+ * or if the optional key object is replaced. The cache only hands out copies of its tags, because
+ * the saved data could be modified later, e.g. by merging presets, while it is still waiting for
+ * the chunk storage.
+ */
+public final class SaveDataCache {
+
+  private final EnumMap<Section, CompoundTag> tagMap = new EnumMap<>(Section.class);
+  private final EnumMap<Section, Object> keyMap = new EnumMap<>(Section.class);
+  private final EnumSet<Section> dirtySections = EnumSet.allOf(Section.class);
+
+  private static Section getSection(SynchedDataIndex synchedDataIndex) {
+    return switch (synchedDataIndex) {
+      case MODEL_LOCK_ROTATION, MODEL_PACKED_POSE, MODEL_POSE, MODEL_SMART_ANIMATIONS ->
+          Section.MODEL;
+      case SOUND_DATA_SET, VARIANT -> Section.SOUND;
+      case TRADING_BASIC_MAX_USES,
+          TRADING_BASIC_REWARDED_XP,
+          TRADING_INVENTORY,
+          TRADING_MERCHANT_OFFERS,
+          TRADING_RESETS_EVERY_MIN,
+          TRADING_TYPE ->
+          Section.TRADING;
+      default -> null;
+    };
+  }
+
+  private static Section getSection(ServerDataIndex serverDataIndex) {
+    return switch (serverDataIndex) {
+      case ACTION_EVENT_SET -> Section.ACTION_EVENT;
+      case DIALOG_DATA_SET -> Section.DIALOG;
+      case OBJECTIVE_DATA_SET -> Section.OBJECTIVE;
+      case TRADING_PER_PLAYER_STOCK, TRADING_STOCK -> Section.TRADING;
+      default -> null;
+    };
+  }
+
+  public void markDirty(Section section) {
+    this.dirtySections.add(section);
+  }
+
+  public void markDirty(SynchedDataIndex synchedDataIndex) {
+    Section section = getSection(synchedDataIndex);
+    if (section != null) {
+      this.dirtySections.add(section);
+    }
+  }
+
+  public void markDirty(ServerDataIndex serverDataIndex) {
+    Section section = getSection(serverDataIndex);
+    if (section != null) {
+      this.dirtySections.add(section);
+    }
+  }
+
+  public void markAllDirty() {
+    this.dirtySections.addAll(EnumSet.allOf(Section.class));
+  }
+
+  public boolean isDirty(Section section) {
+    return this.dirtySections.contains(section);
+  }
+
+  /**
+   * Returns a copy of the cached tag, or null if the section is dirty or the key object was
+   * replaced.
+   */
+  public CompoundTag get(Section section, Object key) {
+    if (this.dirtySections.contains(section) || this.keyMap.get(section) != key) {
+      return null;
+    }
+    CompoundTag compoundTag = this.tagMap.get(section);
+    return compoundTag != null ? compoundTag.copy() : null;
+  }
+
+  public CompoundTag put(Section section, Object key, CompoundTag compoundTag) {
+    this.tagMap.put(section, compoundTag.copy());
+    this.keyMap.put(section, key);
+    this.dirtySections.remove(section);
+    return compoundTag;
+  }
+
+  public enum Section {
+    ACTION_EVENT,
+    DIALOG,
+    MODEL,
+    OBJECTIVE,
+    SOUND,
+    TRADING
+  }
+}
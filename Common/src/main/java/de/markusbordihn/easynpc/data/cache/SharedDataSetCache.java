@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.function.Function;
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Interns data sets by the content of the compound tag they are loaded from. NPCs with identical
+ * data share one instance, which must be treated as read-only and copied before any modification.
+ * Values are weakly referenced, so unused data sets are released together with their NPCs.
+ */
+public final class SharedDataSetCache<T> {
+
+  private final Cache<CompoundTag, T> cache = CacheBuilder.newBuilder().weakValues().build();
+  private final Function<CompoundTag, T> factory;
+
+  public SharedDataSetCache(Function<CompoundTag, T> factory) {
+    this.factory = factory;
+  }
+
+  public T get(CompoundTag compoundTag) {
+    T dataSet = this.cache.getIfPresent(compoundTag);
+    if (dataSet == null) {
+      dataSet = this.factory.apply(compoundTag);
+      this.cache.put(compoundTag.copy(), dataSet);
+    }
+    return dataSet;
+  }
+
+  public long size() {
+    return this.cache.size();
+  }
+
+  public void clear() {
+    this.cache.invalidateAll();
+  }
+}
@@ -41,6 +41,7 @@ public class DialogDataSet {
   private final HashMap<UUID, DialogDataEntry> dialogByIdMap = new HashMap<>();
   private String defaultDialogLabel = "default";
   private DialogType dialogType = DialogType.STANDARD;
+  private boolean shared = false;
 
   public DialogDataSet() {}
 
@@ -52,6 +53,15 @@ public class DialogDataSet {
     this.load(compoundTag);
   }
 
+  public boolean isShared() {
+    return this.shared;
+  }
+
+  public DialogDataSet markShared() {
+    this.shared = true;
+    return this;
+  }
+
   public void addDefaultDialog(DialogDataEntry dialogData) {
     if (this.addDialog(dialogData)) {
       this.setDefaultDialog(dialogData);
@@ -21,6 +21,7 @@ package de.markusbordihn.easynpc.data.dialog;
 
 import de.markusbordihn.easynpc.data.action.ActionDataEntry;
 import de.markusbordihn.easynpc.data.action.ActionType;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.utils.TextFormattingCodes;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -46,7 +47,12 @@ public class DialogUtils {
     if (hasDialogMacros(text)) {
       // Replace entity macros.
       if (entity != null) {
-        text = text.replace(MACRO_NPC_STRING, entity.getName().getString());
+        text =
+            text.replace(
+                MACRO_NPC_STRING,
+                entity instanceof EasyNPC<?> easyNPC
+                    ? easyNPC.getEasyNPCNameString()
+                    : entity.getName().getString());
       }
 
       // Replace player macros.
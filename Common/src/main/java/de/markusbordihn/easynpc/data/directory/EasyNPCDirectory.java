@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.directory;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.saveddata.SavedData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Persistent directory of all Easy NPCs of a level, including NPCs in unloaded chunks. The entries
+ * are updated whenever an NPC is added, removed, moved to another chunk or saved, which allows
+ * commands to find and list NPCs without loading any chunks.
+ */
+public class EasyNPCDirectory extends SavedData {
+
+  public static final String DATA_NAME = Constants.MOD_ID + "_directory";
+  public static final String DATA_ENTRIES_TAG = "Entries";
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private final Map<UUID, EasyNPCDirectoryEntry> entryMap = new LinkedHashMap<>();
+
+  public EasyNPCDirectory() {
+    super();
+  }
+
+  public static EasyNPCDirectory load(CompoundTag compoundTag) {
+    EasyNPCDirectory easyNPCDirectory = new EasyNPCDirectory();
+    ListTag entryListTag = compoundTag.getList(DATA_ENTRIES_TAG, Tag.TAG_COMPOUND);
+    for (int i = 0; i < entryListTag.size(); i++) {
+      EasyNPCDirectoryEntry entry = EasyNPCDirectoryEntry.load(entryListTag.getCompound(i));
+      easyNPCDirectory.entryMap.put(entry.uuid(), entry);
+    }
+    log.debug("Loaded {} entries for the Easy NPC directory.", easyNPCDirectory.entryMap.size());
+    return easyNPCDirectory;
+  }
+
+  public static EasyNPCDirectory get(ServerLevel serverLevel) {
+    return serverLevel
+        .getDataStorage()
+        .computeIfAbsent(EasyNPCDirectory::load, EasyNPCDirectory::new, DATA_NAME);
+  }
+
+  public static void updateEasyNPC(EasyNPC<?> easyNPC) {
+    if (easyNPC.getEntity().level() instanceof ServerLevel serverLevel) {
+      get(serverLevel).update(easyNPC);
+    }
+  }
+
+  /**
+   * Removes the NPC from the directory, if the NPC was killed, discarded or moved to another
+   * dimension. NPCs which are only unloaded together with their chunk are kept.
+   */
+  public static void removeEasyNPC(EasyNPC<?> easyNPC) {
+    Entity entity = easyNPC.getEntity();
+    if (!(entity.level() instanceof ServerLevel serverLevel)) {
+      return;
+    }
+    Entity.RemovalReason removalReason = entity.getRemovalReason();
+    if (removalReason != null
+        && (removalReason.shouldDestroy()
+            || removalReason == Entity.RemovalReason.CHANGED_DIMENSION)) {
+      get(serverLevel).remove(entity.getUUID());
+    } else {
+      get(serverLevel).update(easyNPC);
+    }
+  }
+
+  public static List<EasyNPCDirectoryEntry> getEntries(MinecraftServer server) {
+    List<EasyNPCDirectoryEntry> result = new ArrayList<>();
+    if (server != null) {
+      for (ServerLevel serverLevel : server.getAllLevels()) {
+        result.addAll(get(serverLevel).getEntries());
+      }
+    }
+    return result;
+  }
+
+  public static List<EasyNPCDirectoryEntry> getEntriesByOwner(
+      MinecraftServer server, UUID ownerUUID) {
+    List<EasyNPCDirectoryEntry> result = new ArrayList<>();
+    if (server != null && ownerUUID != null) {
+      for (ServerLevel serverLevel : server.getAllLevels()) {
+        for (EasyNPCDirectoryEntry entry : get(serverLevel).getEntries()) {
+          if (ownerUUID.equals(entry.ownerUUID())) {
+            result.add(entry);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  public void update(EasyNPC<?> easyNPC) {
+    EasyNPCDirectoryEntry entry = EasyNPCDirectoryEntry.of(easyNPC);
+    if (!entry.equals(this.entryMap.put(entry.uuid(), entry))) {
+      this.setDirty();
+    }
+  }
+
+  public void remove(UUID uuid) {
+    if (this.entryMap.remove(uuid) != null) {
+      this.setDirty();
+    }
+  }
+
+  public EasyNPCDirectoryEntry getEntry(UUID uuid) {
+    return this.entryMap.get(uuid);
+  }
+
+  public Collection<EasyNPCDirectoryEntry> getEntries() {
+    return Collections.unmodifiableCollection(this.entryMap.values());
+  }
+
+  public int size() {
+    return this.entryMap.size();
+  }
+
+  @Override
+  public CompoundTag save(CompoundTag compoundTag) {
+    ListTag entryListTag = new ListTag();
+    for (EasyNPCDirectoryEntry entry : this.entryMap.values()) {
+      entryListTag.add(entry.save(new CompoundTag()));
+    }
+    compoundTag.put(DATA_ENTRIES_TAG, entryListTag);
+    return compoundTag;
+  }
+}
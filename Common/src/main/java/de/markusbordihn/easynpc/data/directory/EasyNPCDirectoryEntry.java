@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.directory;
+
+import de.markusbordihn.easynpc.data.skin.SkinModel;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
+import de.markusbordihn.easynpc.entity.easynpc.data.SkinData;
+import de.markusbordihn.easynpc.entity.easynpc.data.SpawnerData;
+import java.util.UUID;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.Entity;
+
+public record EasyNPCDirectoryEntry(
+    UUID uuid,
+    BlockPos blockPos,
+    UUID ownerUUID,
+    String name,
+    SkinModel skinModel,
+    UUID spawnerUUID) {
+
+  public static final String DATA_UUID_TAG = "UUID";
+  public static final String DATA_POSITION_TAG = "Pos";
+  public static final String DATA_OWNER_TAG = "Owner";
+  public static final String DATA_NAME_TAG = "Name";
+  public static final String DATA_SKIN_MODEL_TAG = "SkinModel";
+  public static final String DATA_SPAWNER_UUID_TAG = "SpawnerUUID";
+
+  public static EasyNPCDirectoryEntry of(EasyNPC<?> easyNPC) {
+    Entity entity = easyNPC.getEntity();
+    OwnerData<?> ownerData = easyNPC.getEasyNPCOwnerData();
+    SkinData<?> skinData = easyNPC.getEasyNPCSkinData();
+    SpawnerData<?> spawnerData = easyNPC.getEasyNPCSpawnerData();
+    return new EasyNPCDirectoryEntry(
+        entity.getUUID(),
+        entity.blockPosition(),
+        ownerData != null ? ownerData.getOwnerUUID() : null,
+        easyNPC.getEasyNPCNameString(),
+        skinData != null ? skinData.getSkinModel() : null,
+        spawnerData != null ? spawnerData.getSpawnerUUID() : null);
+  }
+
+  public static EasyNPCDirectoryEntry load(CompoundTag compoundTag) {
+    return new EasyNPCDirectoryEntry(
+        compoundTag.getUUID(DATA_UUID_TAG),
+        BlockPos.of(compoundTag.getLong(DATA_POSITION_TAG)),
+        compoundTag.hasUUID(DATA_OWNER_TAG) ? compoundTag.getUUID(DATA_OWNER_TAG) : null,
+        compoundTag.getString(DATA_NAME_TAG),
+        compoundTag.contains(DATA_SKIN_MODEL_TAG)
+            ? SkinModel.get(compoundTag.getString(DATA_SKIN_MODEL_TAG))
+            : null,
+        compoundTag.hasUUID(DATA_SPAWNER_UUID_TAG)
+            ? compoundTag.getUUID(DATA_SPAWNER_UUID_TAG)
+            : null);
+  }
+
+  public CompoundTag save(CompoundTag compoundTag) {
+    compoundTag.putUUID(DATA_UUID_TAG, this.uuid);
+    compoundTag.putLong(DATA_POSITION_TAG, this.blockPos.asLong());
+    if (this.ownerUUID != null) {
+      compoundTag.putUUID(DATA_OWNER_TAG, this.ownerUUID);
+    }
+    compoundTag.putString(DATA_NAME_TAG, this.name != null ? this.name : "");
+    if (this.skinModel != null) {
+      compoundTag.putString(DATA_SKIN_MODEL_TAG, this.skinModel.name());
+    }
+    if (this.spawnerUUID != null) {
+      compoundTag.putUUID(DATA_SPAWNER_UUID_TAG, this.spawnerUUID);
+    }
+    return compoundTag;
+  }
+}
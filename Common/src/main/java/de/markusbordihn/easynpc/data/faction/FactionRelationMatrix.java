@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.faction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed and symmetric relation matrix between all factions. The hostile factions of each
+ * faction are resolved once, so that target goals only need to look up the matching members in
+ * the faction index instead of testing every nearby entity.
+ */
+public final class FactionRelationMatrix {
+
+  private static final FactionType[] FACTION_TYPES = FactionType.values();
+  private static final FactionRelationType[][] RELATIONS =
+      new FactionRelationType[FACTION_TYPES.length][FACTION_TYPES.length];
+  private static final FactionType[][] HOSTILE_FACTIONS = new FactionType[FACTION_TYPES.length][];
+
+  static {
+    for (FactionType factionType : FACTION_TYPES) {
+      for (FactionType otherFactionType : FACTION_TYPES) {
+        RELATIONS[factionType.ordinal()][otherFactionType.ordinal()] =
+            factionType == otherFactionType && factionType != FactionType.NONE
+                ? FactionRelationType.ALLY
+                : FactionRelationType.NEUTRAL;
+      }
+    }
+
+    // Guards protect villagers against bandits, illagers and undead.
+    setRelation(FactionType.GUARD, FactionType.VILLAGER, FactionRelationType.ALLY);
+    setRelation(FactionType.GUARD, FactionType.BANDIT, FactionRelationType.ENEMY);
+    setRelation(FactionType.GUARD, FactionType.ILLAGER, FactionRelationType.ENEMY);
+    setRelation(FactionType.GUARD, FactionType.UNDEAD, FactionRelationType.ENEMY);
+
+    // Bandits raid villagers and tolerate illagers.
+    setRelation(FactionType.BANDIT, FactionType.VILLAGER, FactionRelationType.HOSTILE);
+    setRelation(FactionType.BANDIT, FactionType.ILLAGER, FactionRelationType.FRIENDLY);
+    setRelation(FactionType.BANDIT, FactionType.UNDEAD, FactionRelationType.HOSTILE);
+
+    // Illagers and undead are hostile to villagers.
+    setRelation(FactionType.ILLAGER, FactionType.VILLAGER, FactionRelationType.ENEMY);
+    setRelation(FactionType.UNDEAD, FactionType.VILLAGER, FactionRelationType.ENEMY);
+
+    for (FactionType factionType : FACTION_TYPES) {
+      List<FactionType> hostileFactions = new ArrayList<>();
+      for (FactionType otherFactionType : FACTION_TYPES) {
+        if (isHostile(factionType, otherFactionType)) {
+          hostileFactions.add(otherFactionType);
+        }
+      }
+      HOSTILE_FACTIONS[factionType.ordinal()] = hostileFactions.toArray(new FactionType[0]);
+    }
+  }
+
+  private FactionRelationMatrix() {}
+
+  private static void setRelation(
+      FactionType factionType, FactionType otherFactionType, FactionRelationType relationType) {
+    RELATIONS[factionType.ordinal()][otherFactionType.ordinal()] = relationType;
+    RELATIONS[otherFactionType.ordinal()][factionType.ordinal()] = relationType;
+  }
+
+  public static FactionRelationType getRelation(
+      FactionType factionType, FactionType otherFactionType) {
+    if (factionType == null || otherFactionType == null) {
+      return FactionRelationType.NEUTRAL;
+    }
+    return RELATIONS[factionType.ordinal()][otherFactionType.ordinal()];
+  }
+
+  public static boolean isHostile(FactionType factionType, FactionType otherFactionType) {
+    FactionRelationType relationType = getRelation(factionType, otherFactionType);
+    return relationType == FactionRelationType.HOSTILE || relationType == FactionRelationType.ENEMY;
+  }
+
+  public static boolean isFriendly(FactionType factionType, FactionType otherFactionType) {
+    FactionRelationType relationType = getRelation(factionType, otherFactionType);
+    return relationType == FactionRelationType.FRIENDLY || relationType == FactionRelationType.ALLY;
+  }
+
+  /** Returns the precomputed hostile factions, the returned array must not be modified. */
+  public static FactionType[] getHostileFactions(FactionType factionType) {
+    return HOSTILE_FACTIONS[(factionType != null ? factionType : FactionType.NONE).ordinal()];
+  }
+}
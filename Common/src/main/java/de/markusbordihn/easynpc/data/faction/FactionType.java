@@ -19,9 +19,29 @@
 
 package de.markusbordihn.easynpc.data.faction;
 
+import java.util.stream.Stream;
+
 public enum FactionType {
+  NONE,
   ANIMAL,
+  BANDIT,
+  GUARD,
   ILLAGER,
   UNDEAD,
-  VIILLAGER,
+  VILLAGER;
+
+  public static FactionType get(String factionType) {
+    if (factionType == null || factionType.isEmpty()) {
+      return FactionType.NONE;
+    }
+    try {
+      return FactionType.valueOf(factionType);
+    } catch (IllegalArgumentException e) {
+      return FactionType.NONE;
+    }
+  }
+
+  public static Stream<String> getFactionTypeNames() {
+    return Stream.of(FactionType.values()).map(Enum::name);
+  }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.model;
+
+import de.markusbordihn.easynpc.data.position.CustomPosition;
+import de.markusbordihn.easynpc.data.rotation.CustomRotation;
+import de.markusbordihn.easynpc.data.scale.CustomScale;
+import java.util.Arrays;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+
+/**
+ * Immutable container for the position, rotation, scale and visibility of all model parts. The
+ * whole pose is synced as a single entity data value, only non-default parts are written and all
+ * floats are quantized to shorts for the network transfer.
+ */
+public final class PackedModelPose {
+
+  public static final CustomPosition DEFAULT_POSITION = new CustomPosition(0, 0, 0);
+  public static final CustomRotation DEFAULT_ROTATION = new CustomRotation(0, 0, 0);
+  public static final CustomScale DEFAULT_SCALE = new CustomScale(1, 1, 1);
+
+  private static final ModelPart[] MODEL_PARTS = ModelPart.values();
+  private static final int NUMBER_OF_PARTS = MODEL_PARTS.length;
+
+  // Quantization factors, chosen to cover the ranges of the configuration sliders.
+  private static final float POSITION_FACTOR = 1000f;
+  private static final float ROTATION_FACTOR = 10000f;
+  private static final float SCALE_FACTOR = 1000f;
+
+  private final CustomPosition[] positions;
+  private final CustomRotation[] rotations;
+  private final CustomScale[] scales;
+  private final int visibleMask;
+  private final int hashCode;
+
+  private PackedModelPose(
+      CustomPosition[] positions, CustomRotation[] rotations, CustomScale[] scales, int visibleMask) {
+    this.positions = positions;
+    this.rotations = rotations;
+    this.scales = scales;
+    this.visibleMask = visibleMask;
+    this.hashCode =
+        31 * (31 * (31 * hashParts(positions) + hashParts(rotations)) + hashParts(scales))
+            + visibleMask;
+  }
+
+  public static PackedModelPose create(int visibleMask) {
+    CustomPosition[] positions = new CustomPosition[NUMBER_OF_PARTS];
+    CustomRotation[] rotations = new CustomRotation[NUMBER_OF_PARTS];
+    CustomScale[] scales = new CustomScale[NUMBER_OF_PARTS];
+    Arrays.fill(positions, DEFAULT_POSITION);
+    Arrays.fill(rotations, DEFAULT_ROTATION);
+    Arrays.fill(scales, DEFAULT_SCALE);
+    return new PackedModelPose(positions, rotations, scales, visibleMask);
+  }
+
+  public static int getVisibleBit(ModelPart modelPart) {
+    return 1 << modelPart.ordinal();
+  }
+
+  public static PackedModelPose read(FriendlyByteBuf buffer) {
+    CustomPosition[] positions = new CustomPosition[NUMBER_OF_PARTS];
+    CustomRotation[] rotations = new CustomRotation[NUMBER_OF_PARTS];
+    CustomScale[] scales = new CustomScale[NUMBER_OF_PARTS];
+
+    int positionMask = buffer.readVarInt();
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      positions[index] =
+          (positionMask & (1 << index)) != 0
+              ? new CustomPosition(
+                  readQuantized(buffer, POSITION_FACTOR),
+                  readQuantized(buffer, POSITION_FACTOR),
+                  readQuantized(buffer, POSITION_FACTOR))
+              : DEFAULT_POSITION;
+    }
+
+    int rotationMask = buffer.readVarInt();
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      rotations[index] =
+          (rotationMask & (1 << index)) != 0
+              ? new CustomRotation(
+                  readQuantized(buffer, ROTATION_FACTOR),
+                  readQuantized(buffer, ROTATION_FACTOR),
+                  readQuantized(buffer, ROTATION_FACTOR))
+              : DEFAULT_ROTATION;
+    }
+
+    int scaleMask = buffer.readVarInt();
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      scales[index] =
+          (scaleMask & (1 << index)) != 0
+              ? new CustomScale(
+                  readQuantized(buffer, SCALE_FACTOR),
+                  readQuantized(buffer, SCALE_FACTOR),
+                  readQuantized(buffer, SCALE_FACTOR))
+              : DEFAULT_SCALE;
+    }
+
+    return new PackedModelPose(positions, rotations, scales, buffer.readVarInt());
+  }
+
+  private static float readQuantized(FriendlyByteBuf buffer, float factor) {
+    return buffer.readShort() / factor;
+  }
+
+  private static void writeQuantized(FriendlyByteBuf buffer, float value, float factor) {
+    buffer.writeShort(Mth.clamp(Math.round(value * factor), Short.MIN_VALUE, Short.MAX_VALUE));
+  }
+
+  private static int hashParts(Object[] parts) {
+    int result = 1;
+    for (Object part : parts) {
+      result = 31 * result + part.hashCode();
+    }
+    return result;
+  }
+
+  public void write(FriendlyByteBuf buffer) {
+    int positionMask = 0;
+    int rotationMask = 0;
+    int scaleMask = 0;
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      if (this.positions[index].hasChanged()) {
+        positionMask |= 1 << index;
+      }
+      if (this.rotations[index].hasChanged()) {
+        rotationMask |= 1 << index;
+      }
+      if (this.scales[index].hasChanged()) {
+        scaleMask |= 1 << index;
+      }
+    }
+
+    buffer.writeVarInt(positionMask);
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      if ((positionMask & (1 << index)) != 0) {
+        CustomPosition position = this.positions[index];
+        writeQuantized(buffer, position.x(), POSITION_FACTOR);
+        writeQuantized(buffer, position.y(), POSITION_FACTOR);
+        writeQuantized(buffer, position.z(), POSITION_FACTOR);
+      }
+    }
+
+    buffer.writeVarInt(rotationMask);
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      if ((rotationMask & (1 << index)) != 0) {
+        CustomRotation rotation = this.rotations[index];
+        writeQuantized(buffer, rotation.x(), ROTATION_FACTOR);
+        writeQuantized(buffer, rotation.y(), ROTATION_FACTOR);
+        writeQuantized(buffer, rotation.z(), ROTATION_FACTOR);
+      }
+    }
+
+    buffer.writeVarInt(scaleMask);
+    for (int index = 0; index < NUMBER_OF_PARTS; index++) {
+      if ((scaleMask & (1 << index)) != 0) {
+        CustomScale scale = this.scales[index];
+        writeQuantized(buffer, scale.x(), SCALE_FACTOR);
+        writeQuantized(buffer, scale.y(), SCALE_FACTOR);
+        writeQuantized(buffer, scale.z(), SCALE_FACTOR);
+      }
+    }
+
+    buffer.writeVarInt(this.visibleMask);
+  }
+
+  public CustomPosition getPosition(ModelPart modelPart) {
+    return this.positions[modelPart.ordinal()];
+  }
+
+  public CustomRotation getRotation(ModelPart modelPart) {
+    return this.rotations[modelPart.ordinal()];
+  }
+
+  public CustomScale getScale(ModelPart modelPart) {
+    return this.scales[modelPart.ordinal()];
+  }
+
+  public boolean isVisible(ModelPart modelPart) {
+    return (this.visibleMask & getVisibleBit(modelPart)) != 0;
+  }
+
+  public int getVisibleMask() {
+    return this.visibleMask;
+  }
+
+  public PackedModelPose withPosition(ModelPart modelPart, CustomPosition position) {
+    CustomPosition newPosition = position != null ? position : DEFAULT_POSITION;
+    if (newPosition.equals(this.positions[modelPart.ordinal()])) {
+      return this;
+    }
+    CustomPosition[] newPositions = this.positions.clone();
+    newPositions[modelPart.ordinal()] = newPosition;
+    return new PackedModelPose(newPositions, this.rotations, this.scales, this.visibleMask);
+  }
+
+  public PackedModelPose withRotation(ModelPart modelPart, CustomRotation rotation) {
+    CustomRotation newRotation = rotation != null ? rotation : DEFAULT_ROTATION;
+    if (newRotation.equals(this.rotations[modelPart.ordinal()])) {
+      return this;
+    }
+    CustomRotation[] newRotations = this.rotations.clone();
+    newRotations[modelPart.ordinal()] = newRotation;
+    return new PackedModelPose(this.positions, newRotations, this.scales, this.visibleMask);
+  }
+
+  public PackedModelPose withScale(ModelPart modelPart, CustomScale scale) {
+    CustomScale newScale = scale != null ? scale : DEFAULT_SCALE;
+    if (newScale.equals(this.scales[modelPart.ordinal()])) {
+      return this;
+    }
+    CustomScale[] newScales = this.scales.clone();
+    newScales[modelPart.ordinal()] = newScale;
+    return new PackedModelPose(this.positions, this.rotations, newScales, this.visibleMask);
+  }
+
+  public PackedModelPose withVisible(ModelPart modelPart, boolean visible) {
+    int newVisibleMask =
+        visible
+            ? this.visibleMask | getVisibleBit(modelPart)
+            : this.visibleMask & ~getVisibleBit(modelPart);
+    if (newVisibleMask == this.visibleMask) {
+      return this;
+    }
+    return new PackedModelPose(this.positions, this.rotations, this.scales, newVisibleMask);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof PackedModelPose packedModelPose)) {
+      return false;
+    }
+    return this.hashCode == packedModelPose.hashCode
+        && this.visibleMask == packedModelPose.visibleMask
+        && Arrays.equals(this.positions, packedModelPose.positions)
+        && Arrays.equals(this.rotations, packedModelPose.rotations)
+        && Arrays.equals(this.scales, packedModelPose.scales);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hashCode;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.navigation;
+
+import de.markusbordihn.easynpc.Constants;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.NodeEvaluator;
+import net.minecraft.world.level.pathfinder.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Level-scoped cache for paths of the navigation goals. Paths are keyed by the entity type and
+ * size, the start and target block and the navigation flags and are reused as a copy, as long as
+ * no block update hit one of the chunks of the path and the path is not older than {@link
+ * #MAX_AGE_TICKS}.
+ */
+public final class PathCache {
+
+  public static final int MAX_AGE_TICKS = 1200;
+  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final int MAX_ENTRIES_PER_LEVEL = 512;
+  private static final int CHUNK_BUCKETS = 4096;
+  private static final AtomicIntegerArray chunkVersions = new AtomicIntegerArray(CHUNK_BUCKETS);
+  private static final Map<ResourceKey<Level>, Map<PathKey, PathEntry>> levelPathCacheMap =
+      new HashMap<>();
+
+  private PathCache() {}
+
+  private static int getChunkBucket(int chunkX, int chunkZ) {
+    return (chunkX * 31 + chunkZ * 961) & (CHUNK_BUCKETS - 1);
+  }
+
+  public static void invalidateChunk(BlockPos blockPos) {
+    chunkVersions.incrementAndGet(getChunkBucket(blockPos.getX() >> 4, blockPos.getZ() >> 4));
+  }
+
+  public static void clear() {
+    synchronized (levelPathCacheMap) {
+      levelPathCacheMap.clear();
+    }
+  }
+
+  public static Path createPath(PathfinderMob pathfinderMob, BlockPos targetPos, int accuracy) {
+    PathNavigation pathNavigation = pathfinderMob.getNavigation();
+    Level level = pathfinderMob.level();
+    if (level.isClientSide() || targetPos == null) {
+      return pathNavigation.createPath(targetPos, accuracy);
+    }
+
+    // Keep the current path, if it already leads to the same target.
+    Path currentPath = pathNavigation.getPath();
+    if (currentPath != null && !currentPath.isDone() && targetPos.equals(currentPath.getTarget())) {
+      return currentPath;
+    }
+
+    NodeEvaluator nodeEvaluator = pathNavigation.getNodeEvaluator();
+    PathKey pathKey =
+        new PathKey(
+            pathfinderMob.getType(),
+            Mth.ceil(pathfinderMob.getBbWidth()),
+            Mth.ceil(pathfinderMob.getBbHeight()),
+            pathfinderMob.blockPosition().asLong(),
+            targetPos.asLong(),
+            accuracy,
+            (nodeEvaluator.canPassDoors() ? 1 : 0)
+                | (nodeEvaluator.canOpenDoors() ? 2 : 0)
+                | (nodeEvaluator.canFloat() ? 4 : 0));
+    long gameTime = level.getGameTime();
+
+    synchronized (levelPathCacheMap) {
+      Map<PathKey, PathEntry> pathCacheMap =
+          levelPathCacheMap.computeIfAbsent(level.dimension(), key -> createPathCacheMap());
+      PathEntry pathEntry = pathCacheMap.get(pathKey);
+      if (pathEntry != null) {
+        if (pathEntry.isValid(gameTime)) {
+          return copyPath(pathEntry.path);
+        }
+        pathCacheMap.remove(pathKey);
+      }
+    }
+
+    Path path = pathNavigation.createPath(targetPos, accuracy);
+    if (path != null && path.getNodeCount() > 0) {
+      PathEntry pathEntry = new PathEntry(copyPath(path), gameTime);
+      synchronized (levelPathCacheMap) {
+        levelPathCacheMap
+            .computeIfAbsent(level.dimension(), key -> createPathCacheMap())
+            .put(pathKey, pathEntry);
+      }
+      log.debug("Cached path {} for {} to {}", path, pathfinderMob, targetPos);
+    }
+    return path;
+  }
+
+  private static Map<PathKey, PathEntry> createPathCacheMap() {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<PathKey, PathEntry> eldest) {
+        return size() > MAX_ENTRIES_PER_LEVEL;
+      }
+    };
+  }
+
+  private static Path copyPath(Path path) {
+    // Navigation replaces nodes while following a path, so every user gets its own node list.
+    List<Node> nodes = new ArrayList<>(path.getNodeCount());
+    for (int index = 0; index < path.getNodeCount(); index++) {
+      nodes.add(path.getNode(index));
+    }
+    return new Path(nodes, path.getTarget(), path.canReach());
+  }
+
+  private record PathKey(
+      EntityType<?> entityType,
+      int width,
+      int height,
+      long startPos,
+      long targetPos,
+      int accuracy,
+      int flags) {}
+
+  private static final class PathEntry {
+
+    private final Path path;
+    private final long gameTime;
+    private final int[] chunkBuckets;
+    private final int[] chunkBucketVersions;
+
+    private PathEntry(Path path, long gameTime) {
+      this.path = path;
+      this.gameTime = gameTime;
+      int[] buckets = new int[path.getNodeCount()];
+      int numberOfBuckets = 0;
+      for (int index = 0; index < path.getNodeCount(); index++) {
+        Node node = path.getNode(index);
+        int bucket = getChunkBucket(node.x >> 4, node.z >> 4);
+        if (numberOfBuckets == 0 || buckets[numberOfBuckets - 1] != bucket) {
+          buckets[numberOfBuckets++] = bucket;
+        }
+      }
+      this.chunkBuckets = Arrays.copyOf(buckets, numberOfBuckets);
+      this.chunkBucketVersions = new int[numberOfBuckets];
+      for (int index = 0; index < numberOfBuckets; index++) {
+        this.chunkBucketVersions[index] = chunkVersions.get(this.chunkBuckets[index]);
+      }
+    }
+
+    private boolean isValid(long currentGameTime) {
+      if (currentGameTime - this.gameTime > MAX_AGE_TICKS || currentGameTime < this.gameTime) {
+        return false;
+      }
+      for (int index = 0; index < this.chunkBuckets.length; index++) {
+        if (chunkVersions.get(this.chunkBuckets[index]) != this.chunkBucketVersions[index]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.navigation;
+
+import de.markusbordihn.easynpc.block.ModBlockTags;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Cached support surface of a single NPC. The block below the NPC is only looked up again, if the
+ * NPC changed its block position, a block update hit the same column or the cached value is older
+ * than {@link #MAX_AGE_TICKS}. Block updates are tracked with a version per hashed column, so a
+ * collision only causes an additional lookup.
+ */
+public final class SupportSurface {
+
+  public static final int MAX_AGE_TICKS = 200;
+  private static final int COLUMN_BUCKETS = 4096;
+  private static final AtomicIntegerArray columnVersions = new AtomicIntegerArray(COLUMN_BUCKETS);
+
+  private long blockPos = Long.MIN_VALUE;
+  private int columnVersion;
+  private long gameTime;
+  private boolean supported;
+
+  private static int getColumnBucket(int x, int z) {
+    return (x * 31 + z * 961) & (COLUMN_BUCKETS - 1);
+  }
+
+  public static void invalidateColumn(BlockPos blockPos) {
+    columnVersions.incrementAndGet(getColumnBucket(blockPos.getX(), blockPos.getZ()));
+  }
+
+  public boolean isSupported(Level level, BlockPos onPos) {
+    long onPosValue = onPos.asLong();
+    int currentColumnVersion = columnVersions.get(getColumnBucket(onPos.getX(), onPos.getZ()));
+    long currentGameTime = level.getGameTime();
+    if (onPosValue != this.blockPos
+        || currentColumnVersion != this.columnVersion
+        || currentGameTime - this.gameTime > MAX_AGE_TICKS
+        || currentGameTime < this.gameTime) {
+      this.supported = !level.getBlockState(onPos).is(ModBlockTags.NON_SUPPORTING);
+      this.blockPos = onPosValue;
+      this.columnVersion = currentColumnVersion;
+      this.gameTime = currentGameTime;
+    }
+    return this.supported;
+  }
+
+  public void invalidate() {
+    this.blockPos = Long.MIN_VALUE;
+  }
+}
@@ -24,6 +24,7 @@ public enum ObjectiveType {
   NONE(false),
   ATTACK_ANIMAL,
   ATTACK_ENTITY_BY_UUID,
+  ATTACK_FACTION_ENEMY,
   ATTACK_MOB,
   ATTACK_MOB_WITHOUT_CREEPER,
   ATTACK_MONSTER,
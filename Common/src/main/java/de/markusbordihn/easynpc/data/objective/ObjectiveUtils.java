@@ -28,6 +28,7 @@ import de.markusbordihn.easynpc.entity.easynpc.ai.goal.CustomMeleeAttackGoal;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.FollowLivingEntityGoal;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.GunAttackGoal;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.MoveBackToHomeGoal;
+import de.markusbordihn.easynpc.entity.easynpc.ai.goal.NearestFactionEnemyTargetGoal;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.RandomStrollAroundGoal;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.RandomStrollAroundHomeGoal;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.ResetLookAtPlayerGoal;
@@ -245,6 +246,12 @@ public class ObjectiveUtils {
               objectiveDataEntry.isMustSeeTarget(),
               objectiveDataEntry.isMustReachTarget(),
               Enemy.class::isInstance);
+      case ATTACK_FACTION_ENEMY ->
+          new NearestFactionEnemyTargetGoal<>(
+              easyNPC,
+              objectiveDataEntry.getInterval(),
+              objectiveDataEntry.isMustSeeTarget(),
+              objectiveDataEntry.isMustReachTarget());
       case ATTACK_VILLAGER ->
           new NearestAttackableTargetGoal<>(
               pathfinderMob, AbstractVillager.class, objectiveDataEntry.isMustSeeTarget());
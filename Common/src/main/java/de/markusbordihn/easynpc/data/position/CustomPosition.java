@@ -65,4 +65,22 @@ public class CustomPosition {
   public boolean hasChanged(float x, float y, float z) {
     return this.x != x || this.y != y || this.z != z;
   }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof CustomPosition customPosition)) {
+      return false;
+    }
+    return Float.compare(this.x, customPosition.x) == 0
+        && Float.compare(this.y, customPosition.y) == 0
+        && Float.compare(this.z, customPosition.z) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return java.util.Objects.hash(this.x, this.y, this.z);
+  }
 }
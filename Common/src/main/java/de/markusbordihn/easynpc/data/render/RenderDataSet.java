@@ -20,7 +20,10 @@
 package de.markusbordihn.easynpc.data.render;
 
 import de.markusbordihn.easynpc.Constants;
+import java.util.Objects;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.EntityType;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +45,16 @@ public class RenderDataSet {
     this.load(compoundTag);
   }
 
+  /** Reads the fixed-layout network format, see {@link #write(FriendlyByteBuf)}. */
+  public static RenderDataSet read(FriendlyByteBuf buffer) {
+    RenderDataSet renderDataSet = new RenderDataSet();
+    renderDataSet.renderType = buffer.readEnum(RenderType.class);
+    int entityTypeId = buffer.readVarInt();
+    renderDataSet.renderEntityType =
+        entityTypeId > 0 ? BuiltInRegistries.ENTITY_TYPE.byId(entityTypeId - 1) : null;
+    return renderDataSet;
+  }
+
   public RenderType getRenderType() {
     return this.renderType;
   }
@@ -96,4 +109,30 @@ public class RenderDataSet {
   public CompoundTag createTag() {
     return this.save(new CompoundTag());
   }
+
+  /** Writes the render type and the registry id of the entity type, instead of a NBT compound. */
+  public void write(FriendlyByteBuf buffer) {
+    buffer.writeEnum(this.renderType);
+    buffer.writeVarInt(
+        this.renderEntityType != null
+            ? BuiltInRegistries.ENTITY_TYPE.getId(this.renderEntityType) + 1
+            : 0);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof RenderDataSet renderDataSet)) {
+      return false;
+    }
+    return this.renderType == renderDataSet.renderType
+        && this.renderEntityType == renderDataSet.renderEntityType;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.renderType, this.renderEntityType);
+  }
 }
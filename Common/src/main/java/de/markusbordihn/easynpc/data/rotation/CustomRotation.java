@@ -51,4 +51,22 @@ public class CustomRotation extends Rotations {
   public boolean hasChanged(float x, float y, float z) {
     return this.x != x || this.y != y || this.z != z;
   }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof CustomRotation customRotation)) {
+      return false;
+    }
+    return Float.compare(this.x, customRotation.x) == 0
+        && Float.compare(this.y, customRotation.y) == 0
+        && Float.compare(this.z, customRotation.z) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return java.util.Objects.hash(this.x, this.y, this.z);
+  }
 }
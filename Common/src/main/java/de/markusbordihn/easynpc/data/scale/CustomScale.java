@@ -65,4 +65,22 @@ public class CustomScale {
   public boolean hasChanged(float x, float y, float z) {
     return this.x != x || this.y != y || this.z != z;
   }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof CustomScale customScale)) {
+      return false;
+    }
+    return Float.compare(this.x, customScale.x) == 0
+        && Float.compare(this.y, customScale.y) == 0
+        && Float.compare(this.z, customScale.z) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return java.util.Objects.hash(this.x, this.y, this.z);
+  }
 }
@@ -49,11 +49,15 @@ public enum ServerDataIndex {
 
   // Custom Data Index (>= 20)
   ACTION_EVENT_SET,
+  ATTACK_HIT_SCAN,
   DIALOG_DATA_SET,
+  FACTION,
   OBJECTIVE_DATA_SET,
   OBJECTIVE_PLAYER_SET,
   OBJECTIVE_ENTITY_SET,
   SPAWNER_UUID,
+  TRADING_PER_PLAYER_STOCK,
+  TRADING_STOCK,
   UNKNOWN; // @formatter:on
 
   public static final int MAX_FREE_INDEX = 20;
@@ -31,6 +31,7 @@ public class SoundDataSet {
   public static final String DATA_SOUND_DATA_SET_TAG = "SoundDataSet";
 
   private final Map<SoundType, SoundDataEntry> soundDataEntryMap = new EnumMap<>(SoundType.class);
+  private boolean shared = false;
 
   public SoundDataSet() {}
 
@@ -38,6 +39,15 @@ public class SoundDataSet {
     this.load(compoundTag);
   }
 
+  public boolean isShared() {
+    return this.shared;
+  }
+
+  public SoundDataSet markShared() {
+    this.shared = true;
+    return this;
+  }
+
   public boolean hasSound(SoundType type) {
     return soundDataEntryMap.containsKey(type);
   }
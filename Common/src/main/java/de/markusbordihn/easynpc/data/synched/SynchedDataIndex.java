@@ -34,41 +34,9 @@ public enum SynchedDataIndex {
   ATTRIBUTE_IS_PUSHABLE,
   ATTRIBUTE_LIGHT_LEVEL,
   ATTRIBUTE_PUSH_ENTITIES,
-  MODEL_ARMS_POSITION,
-  MODEL_ARMS_ROTATION,
-  MODEL_ARMS_SCALE,
-  MODEL_ARMS_VISIBLE,
-  MODEL_BODY_POSITION,
-  MODEL_BODY_ROTATION,
-  MODEL_BODY_SCALE,
-  MODEL_BODY_VISIBLE,
-  MODEL_BOOTS_VISIBLE,
-  MODEL_CHESTPLATE_VISIBLE,
-  MODEL_HEAD_POSITION,
-  MODEL_HEAD_ROTATION,
-  MODEL_HEAD_SCALE,
-  MODEL_HEAD_VISIBLE,
-  MODEL_HELMET_VISIBLE,
-  MODEL_LEFT_ARM_POSITION,
-  MODEL_LEFT_ARM_ROTATION,
-  MODEL_LEFT_ARM_SCALE,
-  MODEL_LEFT_ARM_VISIBLE,
-  MODEL_LEFT_LEG_POSITION,
-  MODEL_LEFT_LEG_ROTATION,
-  MODEL_LEFT_LEG_SCALE,
-  MODEL_LEFT_LEG_VISIBLE,
-  MODEL_LEGGINGS_VISIBLE,
   MODEL_LOCK_ROTATION,
+  MODEL_PACKED_POSE,
   MODEL_POSE,
-  MODEL_RIGHT_ARM_POSITION,
-  MODEL_RIGHT_ARM_ROTATION,
-  MODEL_RIGHT_ARM_SCALE,
-  MODEL_RIGHT_ARM_VISIBLE,
-  MODEL_RIGHT_LEG_POSITION,
-  MODEL_RIGHT_LEG_ROTATION,
-  MODEL_RIGHT_LEG_SCALE,
-  MODEL_RIGHT_LEG_VISIBLE,
-  MODEL_ROOT_ROTATION,
   MODEL_SMART_ANIMATIONS,
   NAVIGATION_HOME_POSITION,
   OWNER_UUID,
@@ -19,17 +19,15 @@
 
 package de.markusbordihn.easynpc.data.synched;
 
-import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.debug.DebugEventBuffer;
+import de.markusbordihn.easynpc.debug.DebugEventType;
 import java.util.Map;
 import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.network.syncher.EntityDataSerializer;
 import net.minecraft.world.entity.Entity;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 public final class SynchedEntityData {
 
-  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
   private final Entity entity;
   private final Class<? extends Entity> entityClass;
   private final Map<SynchedDataIndex, EntityDataAccessor<?>> entityDataAccessorMap;
@@ -39,11 +37,13 @@ public final class SynchedEntityData {
     this.entity = entity;
     this.entityClass = entity.getClass();
     this.entityDataAccessorMap = entityDataAccessorMap;
-    log.info(
-        "Initialized SynchedEntityData for {} ({}) with {}",
-        entity,
-        entityClass,
-        this.entityDataAccessorMap);
+    if (DebugEventBuffer.isEnabled()) {
+      DebugEventBuffer.record(
+          DebugEventType.INIT_SYNCED_DATA,
+          entity.getId(),
+          entity.tickCount,
+          entityDataAccessorMap.size());
+    }
   }
 
   public <T> EntityDataAccessor<T> register(
@@ -71,4 +71,10 @@ public final class SynchedEntityData {
         (EntityDataAccessor<T>) this.entityDataAccessorMap.get(synchedDataIndex);
     this.entity.getEntityData().set(entityDataAccessor, data);
   }
+
+  public <T> void set(SynchedDataIndex synchedDataIndex, T data, boolean force) {
+    EntityDataAccessor<T> entityDataAccessor =
+        (EntityDataAccessor<T>) this.entityDataAccessorMap.get(synchedDataIndex);
+    this.entity.getEntityData().set(entityDataAccessor, data, force);
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.trading;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * Per-player use counters of the trading offers of a single NPC. Counters are stored as primitive
+ * arrays keyed by the player UUID and expire lazily, after the configured reset interval since the
+ * first trade of the player has passed. The counters are indexed by the position in the trade table
+ * and are cleared, whenever the trade definitions are changed.
+ */
+public final class TradeStock {
+
+  private static final String ENTRIES_TAG = "Entries";
+  private static final String UUID_TAG = "UUID";
+  private static final String USES_TAG = "Uses";
+  private static final String TIME_TAG = "Time";
+
+  private final Map<UUID, Entry> entryMap = new HashMap<>();
+
+  public static TradeStock load(CompoundTag compoundTag) {
+    TradeStock tradeStock = new TradeStock();
+    if (compoundTag == null || !compoundTag.contains(ENTRIES_TAG, Tag.TAG_LIST)) {
+      return tradeStock;
+    }
+    ListTag entriesTag = compoundTag.getList(ENTRIES_TAG, Tag.TAG_COMPOUND);
+    for (int index = 0; index < entriesTag.size(); index++) {
+      CompoundTag entryTag = entriesTag.getCompound(index);
+      if (entryTag.hasUUID(UUID_TAG)) {
+        tradeStock.entryMap.put(
+            entryTag.getUUID(UUID_TAG),
+            new Entry(entryTag.getIntArray(USES_TAG), entryTag.getLong(TIME_TAG)));
+      }
+    }
+    return tradeStock;
+  }
+
+  private static boolean isExpired(Entry entry, long gameTime, long resetTicks) {
+    return resetTicks > 0 && gameTime - entry.time >= resetTicks;
+  }
+
+  /** Returns the use counters of the player, or an empty array if there are none. */
+  public int[] getUses(UUID playerUUID, long gameTime, long resetTicks) {
+    Entry entry = this.entryMap.get(playerUUID);
+    if (entry == null) {
+      return new int[0];
+    }
+    if (isExpired(entry, gameTime, resetTicks)) {
+      this.entryMap.remove(playerUUID);
+      return new int[0];
+    }
+    return entry.uses.clone();
+  }
+
+  public void increaseUses(UUID playerUUID, int offerIndex, long gameTime, long resetTicks) {
+    if (offerIndex < 0) {
+      return;
+    }
+    Entry entry = this.entryMap.get(playerUUID);
+    if (entry == null || isExpired(entry, gameTime, resetTicks)) {
+      entry = new Entry(new int[offerIndex + 1], gameTime);
+      this.entryMap.put(playerUUID, entry);
+    } else if (entry.uses.length <= offerIndex) {
+      int[] uses = new int[offerIndex + 1];
+      System.arraycopy(entry.uses, 0, uses, 0, entry.uses.length);
+      entry.uses = uses;
+    }
+    entry.uses[offerIndex]++;
+  }
+
+  /** Removes all expired entries and returns true, if any entry was removed. */
+  public boolean removeExpired(long gameTime, long resetTicks) {
+    return this.entryMap.values().removeIf(entry -> isExpired(entry, gameTime, resetTicks));
+  }
+
+  public void clear() {
+    this.entryMap.clear();
+  }
+
+  public boolean isEmpty() {
+    return this.entryMap.isEmpty();
+  }
+
+  public int size() {
+    return this.entryMap.size();
+  }
+
+  public CompoundTag save() {
+    ListTag entriesTag = new ListTag();
+    for (Map.Entry<UUID, Entry> entry : this.entryMap.entrySet()) {
+      CompoundTag entryTag = new CompoundTag();
+      entryTag.putUUID(UUID_TAG, entry.getKey());
+      entryTag.putIntArray(USES_TAG, entry.getValue().uses);
+      entryTag.putLong(TIME_TAG, entry.getValue().time);
+      entriesTag.add(entryTag);
+    }
+    CompoundTag compoundTag = new CompoundTag();
+    compoundTag.put(ENTRIES_TAG, entriesTag);
+    return compoundTag;
+  }
+
+  private static final class Entry {
+
+    private final long time;
+    private int[] uses;
+
+    private Entry(int[] uses, long time) {
+      this.uses = uses;
+      this.time = time;
+    }
+  }
+}
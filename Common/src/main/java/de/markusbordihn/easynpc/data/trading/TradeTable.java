@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.data.trading;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.trading.MerchantOffer;
+import net.minecraft.world.item.trading.MerchantOffers;
+
+/**
+ * Immutable trade definitions of a trading NPC. The definitions are separated from the per-offer
+ * use counters and interned, so that all NPCs with the same trades (e.g. spawned from the same
+ * preset) share a single table. The mutable merchant offers are created from the table without
+ * any NBT serialization.
+ */
+public final class TradeTable {
+
+  public static final TradeTable EMPTY = new TradeTable(Collections.emptyList());
+  private static final Interner<TradeTable> INTERNER = Interners.newWeakInterner();
+
+  private final List<TradeDefinition> tradeDefinitions;
+  private final int hashCode;
+
+  private TradeTable(List<TradeDefinition> tradeDefinitions) {
+    this.tradeDefinitions = tradeDefinitions;
+    this.hashCode = tradeDefinitions.hashCode();
+  }
+
+  public static TradeTable of(MerchantOffers merchantOffers) {
+    if (merchantOffers == null || merchantOffers.isEmpty()) {
+      return EMPTY;
+    }
+    List<TradeDefinition> tradeDefinitions = new ArrayList<>(merchantOffers.size());
+    for (MerchantOffer merchantOffer : merchantOffers) {
+      // Skip offers which are missing item a, item b or result item.
+      if ((merchantOffer.getBaseCostA().isEmpty() && merchantOffer.getCostB().isEmpty())
+          || merchantOffer.getResult().isEmpty()) {
+        continue;
+      }
+      tradeDefinitions.add(
+          new TradeDefinition(
+              merchantOffer.getBaseCostA().copy(),
+              merchantOffer.getCostB().copy(),
+              merchantOffer.getResult().copy(),
+              merchantOffer.getMaxUses(),
+              merchantOffer.getXp(),
+              merchantOffer.getPriceMultiplier(),
+              merchantOffer.getDemand()));
+    }
+    return tradeDefinitions.isEmpty()
+        ? EMPTY
+        : INTERNER.intern(new TradeTable(Collections.unmodifiableList(tradeDefinitions)));
+  }
+
+  public MerchantOffers createMerchantOffers() {
+    return this.createMerchantOffers(new int[0]);
+  }
+
+  public MerchantOffers createMerchantOffers(int[] uses) {
+    MerchantOffers merchantOffers = new MerchantOffers();
+    for (int index = 0; index < this.tradeDefinitions.size(); index++) {
+      int offerUses = index < uses.length ? uses[index] : 0;
+      merchantOffers.add(this.tradeDefinitions.get(index).createMerchantOffer(offerUses));
+    }
+    return merchantOffers;
+  }
+
+  public int size() {
+    return this.tradeDefinitions.size();
+  }
+
+  public boolean isEmpty() {
+    return this.tradeDefinitions.isEmpty();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof TradeTable tradeTable)) {
+      return false;
+    }
+    return this.hashCode == tradeTable.hashCode
+        && this.tradeDefinitions.equals(tradeTable.tradeDefinitions);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hashCode;
+  }
+
+  private record TradeDefinition(
+      ItemStack costA,
+      ItemStack costB,
+      ItemStack result,
+      int maxUses,
+      int xp,
+      float priceMultiplier,
+      int demand) {
+
+    private static int hashItemStack(ItemStack itemStack) {
+      return itemStack.isEmpty()
+          ? 0
+          : Objects.hash(itemStack.getItem(), itemStack.getCount(), itemStack.getTag());
+    }
+
+    public MerchantOffer createMerchantOffer(int uses) {
+      // Each offer gets its own item stacks, because the table is shared between NPCs.
+      return new MerchantOffer(
+          this.costA.copy(),
+          this.costB.copy(),
+          this.result.copy(),
+          uses,
+          this.maxUses,
+          this.xp,
+          this.priceMultiplier,
+          this.demand);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof TradeDefinition tradeDefinition)) {
+        return false;
+      }
+      return this.maxUses == tradeDefinition.maxUses
+          && this.xp == tradeDefinition.xp
+          && Float.compare(this.priceMultiplier, tradeDefinition.priceMultiplier) == 0
+          && this.demand == tradeDefinition.demand
+          && ItemStack.matches(this.costA, tradeDefinition.costA)
+          && ItemStack.matches(this.costB, tradeDefinition.costB)
+          && ItemStack.matches(this.result, tradeDefinition.result);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          hashItemStack(this.costA),
+          hashItemStack(this.costB),
+          hashItemStack(this.result),
+          this.maxUses,
+          this.xp,
+          this.priceMultiplier,
+          this.demand);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.debug;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.io.DataFileHandler;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import net.minecraft.world.entity.Entity;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In-memory ring buffer for routine NPC lifecycle events, which would otherwise be written to the
+ * log for every NPC. The events are stored in pre-allocated arrays and the payload is only
+ * converted to a string on dump, so recording is allocation free and a disabled buffer costs a
+ * single field check. Payloads should be small immutable values like enums, never entities.
+ */
+public final class DebugEventBuffer {
+
+  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final String LOG_PREFIX = "[Debug Event Buffer]";
+  private static final String DEBUG_FOLDER_NAME = "debug";
+  private static final int CAPACITY = 4096;
+  private static final DebugEventType[] eventTypes = new DebugEventType[CAPACITY];
+  private static final int[] entityIds = new int[CAPACITY];
+  private static final long[] ticks = new long[CAPACITY];
+  private static final Object[] payloads = new Object[CAPACITY];
+  private static volatile boolean enabled = false;
+  private static int nextIndex = 0;
+  private static long numberOfEvents = 0;
+
+  private DebugEventBuffer() {}
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean enabled) {
+    DebugEventBuffer.enabled = enabled;
+  }
+
+  public static void record(DebugEventType eventType, Entity entity, Object payload) {
+    if (!enabled || entity == null) {
+      return;
+    }
+    record(
+        eventType,
+        entity.getId(),
+        entity.level() != null ? entity.level().getGameTime() : entity.tickCount,
+        payload);
+  }
+
+  public static void record(DebugEventType eventType, int entityId, long tick, Object payload) {
+    if (!enabled) {
+      return;
+    }
+    add(eventType, entityId, tick, payload);
+  }
+
+  private static synchronized void add(
+      DebugEventType eventType, int entityId, long tick, Object payload) {
+    eventTypes[nextIndex] = eventType;
+    entityIds[nextIndex] = entityId;
+    ticks[nextIndex] = tick;
+    payloads[nextIndex] = payload;
+    nextIndex = (nextIndex + 1) % CAPACITY;
+    numberOfEvents++;
+  }
+
+  public static synchronized int getNumberOfEvents() {
+    return (int) Math.min(numberOfEvents, CAPACITY);
+  }
+
+  public static synchronized void clear() {
+    Arrays.fill(eventTypes, null);
+    Arrays.fill(payloads, null);
+    nextIndex = 0;
+    numberOfEvents = 0;
+  }
+
+  /** Writes all buffered events, oldest first, to a new file in the debug cache folder. */
+  public static synchronized Path dump() {
+    Path debugFolder = DataFileHandler.getOrCreateCacheFolder(DEBUG_FOLDER_NAME);
+    if (debugFolder == null) {
+      return null;
+    }
+    String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+    Path dumpFile = debugFolder.resolve("events_" + timestamp + ".log");
+    int size = getNumberOfEvents();
+    int startIndex = numberOfEvents > CAPACITY ? nextIndex : 0;
+    try (BufferedWriter writer = Files.newBufferedWriter(dumpFile, StandardCharsets.UTF_8)) {
+      for (int offset = 0; offset < size; offset++) {
+        int index = (startIndex + offset) % CAPACITY;
+        writer.write(
+            String.format(
+                "%d\t%s\t%d\t%s",
+                ticks[index],
+                eventTypes[index],
+                entityIds[index],
+                payloads[index]));
+        writer.newLine();
+      }
+    } catch (IOException exception) {
+      log.error("{} Unable to write debug events to {}:", LOG_PREFIX, dumpFile, exception);
+      return null;
+    }
+    log.info("{} Wrote {} debug events to {}", LOG_PREFIX, size, dumpFile);
+    return dumpFile;
+  }
+}
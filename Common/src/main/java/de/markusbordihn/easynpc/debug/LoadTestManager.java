@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.debug;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.action.ActionDataEntry;
+import de.markusbordihn.easynpc.data.action.ActionEventType;
+import de.markusbordihn.easynpc.data.action.ActionType;
+import de.markusbordihn.easynpc.data.dialog.DialogUtils;
+import de.markusbordihn.easynpc.data.objective.ObjectiveDataEntry;
+import de.markusbordihn.easynpc.data.objective.ObjectiveType;
+import de.markusbordihn.easynpc.data.trading.TradingType;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.ModEntityTypes;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.ActionEventData;
+import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
+import de.markusbordihn.easynpc.entity.easynpc.data.ObjectiveData;
+import de.markusbordihn.easynpc.entity.easynpc.data.TradingData;
+import de.markusbordihn.easynpc.entity.easynpc.npc.Humanoid;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.trading.MerchantOffer;
+import net.minecraft.world.item.trading.MerchantOffers;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.phys.Vec3;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In-game load generator, which spawns tagged NPCs with dialogs, distance actions, trades and
+ * objectives and reports the server tick times and the allocation rate of the server thread. The
+ * reported numbers could be checked against a limit, e.g. by a server script before an update.
+ */
+public final class LoadTestManager {
+
+  public static final String LOAD_TEST_TAG = Constants.MOD_ID + "_load_test";
+  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final String LOG_PREFIX = "[Load Test Manager]";
+  private static long lastAllocatedBytes = -1;
+  private static long lastAllocationTime = 0;
+
+  private LoadTestManager() {}
+
+  public static int spawnEasyNPCs(ServerLevel serverLevel, Vec3 center, int count, int radius) {
+    RandomSource random = serverLevel.getRandom();
+    int spawned = 0;
+    for (int index = 0; index < count; index++) {
+      double x = center.x + Mth.nextDouble(random, -radius, radius);
+      double z = center.z + Mth.nextDouble(random, -radius, radius);
+      int y = serverLevel.getHeight(Heightmap.Types.MOTION_BLOCKING, Mth.floor(x), Mth.floor(z));
+      if (spawnEasyNPC(serverLevel, new Vec3(x, y, z), index) != null) {
+        spawned++;
+      }
+    }
+    log.info(
+        "{} Spawned {} load test NPCs around {} in {}", LOG_PREFIX, spawned, center, serverLevel);
+    return spawned;
+  }
+
+  /** Spawns a single tagged load test NPC at the given position, e.g. inside of a game test. */
+  public static EasyNPC<?> spawnEasyNPC(ServerLevel serverLevel, Vec3 position, int index) {
+    Humanoid humanoid = ModEntityTypes.HUMANOID.create(serverLevel);
+    if (humanoid == null) {
+      return null;
+    }
+    humanoid.moveTo(
+        position.x, position.y, position.z, serverLevel.getRandom().nextFloat() * 360F, 0F);
+    humanoid.addTag(LOAD_TEST_TAG);
+    humanoid.setCustomName(Component.literal("Load Test " + index));
+    configureEasyNPC(humanoid);
+    return serverLevel.addFreshEntity(humanoid) ? humanoid : null;
+  }
+
+  private static void configureEasyNPC(EasyNPC<?> easyNPC) {
+    DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
+    if (dialogData != null) {
+      dialogData.setDialogDataSet(DialogUtils.getBasicDialog("Load test dialog for @initiator"));
+    }
+    ActionEventData<?> actionEventData = easyNPC.getEasyNPCActionEventData();
+    if (actionEventData != null) {
+      actionEventData
+          .getMutableActionEventSet()
+          .setActionEvent(
+              ActionEventType.ON_DISTANCE_NEAR,
+              new ActionDataEntry(ActionType.OPEN_NAMED_DIALOG, "default"));
+    }
+    TradingData<?> tradingData = easyNPC.getEasyNPCTradingData();
+    if (tradingData != null) {
+      MerchantOffers merchantOffers = new MerchantOffers();
+      merchantOffers.add(
+          new MerchantOffer(new ItemStack(Items.EMERALD), new ItemStack(Items.BREAD), 64, 1, 1.0F));
+      tradingData.setTradingType(TradingType.BASIC);
+      tradingData.setTradingOffers(merchantOffers);
+    }
+    ObjectiveData<?> objectiveData = easyNPC.getEasyNPCObjectiveData();
+    if (objectiveData != null) {
+      objectiveData.addObjective(new ObjectiveDataEntry(ObjectiveType.RANDOM_STROLL, 6));
+      objectiveData.addObjective(new ObjectiveDataEntry(ObjectiveType.LOOK_AT_PLAYER, 9));
+    }
+  }
+
+  public static int removeEasyNPCs(ServerLevel serverLevel) {
+    List<EasyNPC<?>> easyNPCs = new ArrayList<>();
+    for (EasyNPC<?> easyNPC : LivingEntityManager.getEasyNPCs(serverLevel)) {
+      if (easyNPC.getEntity().getTags().contains(LOAD_TEST_TAG)) {
+        easyNPCs.add(easyNPC);
+      }
+    }
+    for (EasyNPC<?> easyNPC : easyNPCs) {
+      easyNPC.getEntity().discard();
+    }
+    log.info("{} Removed {} load test NPCs from {}", LOG_PREFIX, easyNPCs.size(), serverLevel);
+    return easyNPCs.size();
+  }
+
+  public static double getAverageTickTime(MinecraftServer minecraftServer) {
+    return minecraftServer.getAverageTickTime();
+  }
+
+  public static double getMaxTickTime(MinecraftServer minecraftServer) {
+    long maxTickTime = 0;
+    for (long tickTime : minecraftServer.tickTimes) {
+      maxTickTime = Math.max(maxTickTime, tickTime);
+    }
+    return maxTickTime / 1000000.0;
+  }
+
+  /**
+   * Returns the allocation rate of the server thread in MB/s since the last call, or -1 if it is
+   * not supported by the JVM or this is the first measurement.
+   */
+  public static double getAllocationRate(MinecraftServer minecraftServer) {
+    if (!(ManagementFactory.getThreadMXBean()
+        instanceof com.sun.management.ThreadMXBean threadMXBean)) {
+      return -1;
+    }
+    long allocatedBytes =
+        threadMXBean.getThreadAllocatedBytes(minecraftServer.getRunningThread().getId());
+    long allocationTime = System.nanoTime();
+    double allocationRate = -1;
+    if (lastAllocatedBytes >= 0 && allocatedBytes >= lastAllocatedBytes) {
+      double seconds = (allocationTime - lastAllocationTime) / 1000000000.0;
+      allocationRate = (allocatedBytes - lastAllocatedBytes) / 1048576.0 / Math.max(seconds, 0.001);
+    }
+    lastAllocatedBytes = allocatedBytes;
+    lastAllocationTime = allocationTime;
+    return allocationRate;
+  }
+
+  public static String getStats(MinecraftServer minecraftServer) {
+    double allocationRate = getAllocationRate(minecraftServer);
+    return String.format(
+        "NPCs: %d, MSPT: %.2f (max %.2f), Allocation: %s",
+        LivingEntityManager.getNumberOfServerEasyNPCs(),
+        getAverageTickTime(minecraftServer),
+        getMaxTickTime(minecraftServer),
+        allocationRate >= 0 ? String.format("%.1f MB/s", allocationRate) : "n/a");
+  }
+}
@@ -20,11 +20,15 @@
 package de.markusbordihn.easynpc.entity;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.cache.SaveDataCache;
+import de.markusbordihn.easynpc.data.directory.EasyNPCDirectory;
+import de.markusbordihn.easynpc.data.navigation.SupportSurface;
 import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
 import de.markusbordihn.easynpc.data.server.ServerEntityData;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.data.synched.SynchedEntityData;
 import de.markusbordihn.easynpc.data.ticker.TickerType;
+import de.markusbordihn.easynpc.data.trading.TradeTable;
 import de.markusbordihn.easynpc.data.trading.TradingType;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPCBase;
@@ -63,6 +67,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.ProjectileWeaponItem;
 import net.minecraft.world.item.trading.MerchantOffer;
 import net.minecraft.world.item.trading.MerchantOffers;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
@@ -84,14 +89,25 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
   }
 
   private final ServerEntityData serverEntityData = new ServerEntityData(this);
+  private final SaveDataCache saveDataCache = new SaveDataCache();
+  private final SupportSurface supportSurface = new SupportSurface();
   private final EnumMap<TickerType, Integer> tickerMap = new EnumMap<>(TickerType.class);
   protected MerchantOffers offers;
+  private TradeTable tradeTable;
+  private UUID tradeStockPlayerUUID;
   private SynchedEntityData synchedEntityData;
   private int remainingPersistentAngerTime;
   private UUID persistentAngerTarget;
   private int npcDataVersion = -1;
   private Player tradingPlayer;
   private int attackAnimationTick;
+  private int attributeLightLevel = -1;
+  private static int customNameCacheVersion = 0;
+  private Component customNameCache;
+  private int sanitizedCustomNameVersion = -1;
+  private Component sanitizedCustomName;
+  private String sanitizedCustomNameString;
+  private ChunkPos directoryChunkPos;
 
   public EasyNPCBaseEntity(
       EntityType<? extends PathfinderMob> entityType, Level level, Enum<?> variant) {
@@ -163,6 +179,9 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
   @Override
   public void notifyTrade(MerchantOffer merchantOffer) {
     merchantOffer.increaseUses();
+    if (this.tradeStockPlayerUUID != null && this.offers != null) {
+      this.increaseTradingStockUses(this.tradeStockPlayerUUID, this.offers.indexOf(merchantOffer));
+    }
     this.ambientSoundTime = -this.getAmbientSoundInterval();
     this.rewardTradeXp(merchantOffer);
     if (this.tradingPlayer instanceof ServerPlayer serverPlayer) {
@@ -188,10 +207,42 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
     }
   }
 
+  /** Invalidates the cached names of all NPCs, e.g. after a language change on the client. */
+  public static void invalidateCustomNameCache() {
+    customNameCacheVersion++;
+  }
+
+  /**
+   * Returns the custom name without click events. The result is cached until the custom name
+   * component is replaced, which is the case for any change of the custom name, or until the
+   * cached names are invalidated, because translatable names depend on the client language.
+   */
+  protected Component getSanitizedCustomName() {
+    Component component = this.getCustomName();
+    if (component == null) {
+      return null;
+    }
+    if (component != this.customNameCache
+        || this.sanitizedCustomNameVersion != customNameCacheVersion) {
+      this.sanitizedCustomName = TextUtils.removeAction(component);
+      this.sanitizedCustomNameString = this.sanitizedCustomName.getString();
+      this.customNameCache = component;
+      this.sanitizedCustomNameVersion = customNameCacheVersion;
+    }
+    return this.sanitizedCustomName;
+  }
+
   @Override
   public Component getName() {
-    Component component = this.getCustomName();
-    return component != null ? TextUtils.removeAction(component) : this.getTypeName();
+    Component component = this.getSanitizedCustomName();
+    return component != null ? component : this.getTypeName();
+  }
+
+  @Override
+  public String getEasyNPCNameString() {
+    return this.getSanitizedCustomName() != null
+        ? this.sanitizedCustomNameString
+        : this.getName().getString();
   }
 
   @Override
@@ -237,19 +288,40 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
 
   @Override
   public void updateTradesData() {
-    MerchantOffers merchantOffers = null;
-    if (this.getTradingType() == TradingType.BASIC
-        || this.getTradingType() == TradingType.ADVANCED) {
-      // Create a copy of the offers to avoid side effects.
-      merchantOffers = new MerchantOffers(this.getTradingOffers().createTag());
+    if (this.getTradingType() != TradingType.BASIC
+        && this.getTradingType() != TradingType.ADVANCED) {
+      return;
+    }
+
+    // Shared trade definitions, the use counters are kept in the merchant offers of this NPC.
+    TradeTable newTradeTable = TradeTable.of(this.getTradingOffers());
+    if (!newTradeTable.isEmpty()
+        && (newTradeTable != this.tradeTable
+            || this.offers == null
+            || this.tradeStockPlayerUUID != null)) {
+      this.tradeTable = newTradeTable;
+      this.offers = newTradeTable.createMerchantOffers();
+      this.tradeStockPlayerUUID = null;
     }
-    if (merchantOffers != null && !merchantOffers.isEmpty()) {
-      // Filter out offers which are missing item a, item b or result item.
-      merchantOffers.removeIf(
-          merchantOffer ->
-              (merchantOffer.getBaseCostA().isEmpty() && merchantOffer.getCostB().isEmpty())
-                  || merchantOffer.getResult().isEmpty());
-      this.offers = merchantOffers;
+  }
+
+  @Override
+  public void updateTradesData(Player player) {
+    if (player == null
+        || !this.getTradingPerPlayerStock()
+        || (this.getTradingType() != TradingType.BASIC
+            && this.getTradingType() != TradingType.ADVANCED)) {
+      this.updateTradesData();
+      return;
+    }
+
+    // Create the offers with the use counters of the given player only.
+    TradeTable newTradeTable = TradeTable.of(this.getTradingOffers());
+    if (!newTradeTable.isEmpty()) {
+      this.tradeTable = newTradeTable;
+      this.offers =
+          newTradeTable.createMerchantOffers(this.getTradingStockUses(player.getUUID()));
+      this.tradeStockPlayerUUID = player.getUUID();
     }
   }
 
@@ -356,6 +428,18 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
   @Override
   public <T> void setSynchedEntityData(SynchedDataIndex synchedDataIndex, T data) {
     this.synchedEntityData.set(synchedDataIndex, data);
+    // The save data cache is not available during the construction of the entity.
+    if (this.saveDataCache != null) {
+      this.saveDataCache.markDirty(synchedDataIndex);
+    }
+  }
+
+  @Override
+  public <T> void setSynchedEntityData(SynchedDataIndex synchedDataIndex, T data, boolean force) {
+    this.synchedEntityData.set(synchedDataIndex, data, force);
+    if (this.saveDataCache != null) {
+      this.saveDataCache.markDirty(synchedDataIndex);
+    }
   }
 
   @Override
@@ -366,6 +450,7 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
   @Override
   public <T> void setServerEntityData(ServerDataAccessor<T> entityDataAccessor, T entityData) {
     this.serverEntityData.set(entityDataAccessor, entityData);
+    this.saveDataCache.markDirty(entityDataAccessor.getIndex());
   }
 
   @Override
@@ -378,6 +463,34 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
     this.serverEntityData.define(entityDataAccessor, entityData);
   }
 
+  @Override
+  public SaveDataCache getSaveDataCache() {
+    return this.saveDataCache;
+  }
+
+  @Override
+  public SupportSurface getSupportSurface() {
+    return this.supportSurface;
+  }
+
+  @Override
+  public int getAttributeLightLevel() {
+    // Cache the light level to avoid synced data lookups for every rendered frame.
+    if (this.attributeLightLevel < 0) {
+      this.attributeLightLevel = this.getSynchedEntityData(SynchedDataIndex.ATTRIBUTE_LIGHT_LEVEL);
+    }
+    return this.attributeLightLevel;
+  }
+
+  @Override
+  public void onSyncedDataUpdated(EntityDataAccessor<?> entityDataAccessor) {
+    super.onSyncedDataUpdated(entityDataAccessor);
+    if (entityDataAccessor.equals(
+        entityDataAccessorMap.get(SynchedDataIndex.ATTRIBUTE_LIGHT_LEVEL))) {
+      this.attributeLightLevel = -1;
+    }
+  }
+
   @Override
   public boolean canBeLeashed(Player player) {
     if (!this.isLeashed()
@@ -464,6 +577,12 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
       return;
     }
 
+    // Update the directory entry, if the NPC moved to another chunk.
+    if (!this.chunkPosition().equals(this.directoryChunkPos)) {
+      this.directoryChunkPos = this.chunkPosition();
+      EasyNPCDirectory.updateEasyNPC(this);
+    }
+
     // Handle custom objective base tick.
     this.handleCustomObjectiveBaseTick();
 
@@ -514,11 +633,15 @@ public class EasyNPCBaseEntity<E extends PathfinderMob> extends PathfinderMob
     super.addAdditionalSaveData(compoundTag);
     this.addPersistentAngerSaveData(compoundTag);
     this.addEasyNPCBaseAdditionalSaveData(compoundTag);
+    if (this.isServerSide()) {
+      EasyNPCDirectory.updateEasyNPC(this);
+    }
   }
 
   @Override
   public void readAdditionalSaveData(CompoundTag compoundTag) {
     super.readAdditionalSaveData(compoundTag);
+    this.saveDataCache.markAllDirty();
     this.readPersistentAngerSaveData(this.level(), compoundTag);
     this.readEasyNPCBaseAdditionalSaveData(compoundTag);
   }
@@ -19,8 +19,11 @@
 
 package de.markusbordihn.easynpc.entity;
 
+import de.markusbordihn.easynpc.data.model.PackedModelPose;
+import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPCBaseModel;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.syncher.EntityDataAccessor;
 import net.minecraft.world.entity.EntityDimensions;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.PathfinderMob;
@@ -35,6 +38,8 @@ public class EasyNPCBaseModelEntity<E extends PathfinderMob> extends EasyNPCBase
     EasyNPCBaseModel.registerEasyNPCSyncedData(entityDataAccessorMap, EasyNPCBaseModelEntity.class);
   }
 
+  private PackedModelPose packedModelPose;
+
   public EasyNPCBaseModelEntity(
       EntityType<? extends PathfinderMob> entityType, Level level, Enum<?> variant) {
     super(entityType, level, variant);
@@ -46,6 +51,23 @@ public class EasyNPCBaseModelEntity<E extends PathfinderMob> extends EasyNPCBase
     return super.getDimensions(pose).scale(scaleXZ, getScaleY());
   }
 
+  @Override
+  public PackedModelPose getPackedModelPose() {
+    // Cache the immutable pose to avoid synced data lookups for every model part and frame.
+    if (this.packedModelPose == null) {
+      this.packedModelPose = this.getSynchedEntityData(SynchedDataIndex.MODEL_PACKED_POSE);
+    }
+    return this.packedModelPose;
+  }
+
+  @Override
+  public void onSyncedDataUpdated(EntityDataAccessor<?> entityDataAccessor) {
+    super.onSyncedDataUpdated(entityDataAccessor);
+    if (entityDataAccessor.equals(entityDataAccessorMap.get(SynchedDataIndex.MODEL_PACKED_POSE))) {
+      this.packedModelPose = null;
+    }
+  }
+
   @Override
   protected void defineSynchedData() {
     super.defineSynchedData();
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.entity;
+
+import de.markusbordihn.easynpc.data.faction.FactionType;
+import de.markusbordihn.easynpc.data.skin.SkinModel;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.FactionData;
+import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
+import de.markusbordihn.easynpc.entity.easynpc.data.SkinData;
+import de.markusbordihn.easynpc.entity.easynpc.data.SpawnerData;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the Easy NPC entities of a single side and level, with secondary indexes by owner,
+ * spawner, skin model and faction. The indexes are kept in sync by {@link #update(EasyNPC)}
+ * whenever one of the indexed values changes.
+ */
+public class EasyNPCRegistry {
+
+  private final Map<UUID, EasyNPC<?>> entityMap = new ConcurrentHashMap<>();
+  private final Map<UUID, IndexKeys> indexKeysMap = new ConcurrentHashMap<>();
+  private final Map<UUID, Set<UUID>> ownerIndex = new ConcurrentHashMap<>();
+  private final Map<UUID, Set<UUID>> spawnerIndex = new ConcurrentHashMap<>();
+  private final Map<SkinModel, Set<UUID>> skinModelIndex = new ConcurrentHashMap<>();
+  private final Map<FactionType, Set<UUID>> factionIndex = new ConcurrentHashMap<>();
+
+  private static <K> void addToIndex(Map<K, Set<UUID>> index, K key, UUID uuid) {
+    if (key != null) {
+      index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(uuid);
+    }
+  }
+
+  private static <K> void removeFromIndex(Map<K, Set<UUID>> index, K key, UUID uuid) {
+    if (key != null) {
+      index.computeIfPresent(
+          key,
+          (k, uuids) -> {
+            uuids.remove(uuid);
+            return uuids.isEmpty() ? null : uuids;
+          });
+    }
+  }
+
+  private static IndexKeys getIndexKeys(EasyNPC<?> easyNPC) {
+    UUID ownerUUID = easyNPC instanceof OwnerData<?> ownerData ? ownerData.getOwnerUUID() : null;
+    UUID spawnerUUID =
+        easyNPC instanceof SpawnerData<?> spawnerData && !easyNPC.isClientSide()
+            ? spawnerData.getSpawnerUUID()
+            : null;
+    SkinModel skinModel =
+        easyNPC instanceof SkinData<?> skinData ? skinData.getSkinModel() : null;
+    FactionType factionType =
+        easyNPC instanceof FactionData<?> factionData
+                && !easyNPC.isClientSide()
+                && factionData.hasFaction()
+            ? factionData.getFaction()
+            : null;
+    return new IndexKeys(ownerUUID, spawnerUUID, skinModel, factionType);
+  }
+
+  public void add(EasyNPC<?> easyNPC) {
+    UUID uuid = easyNPC.getEntity().getUUID();
+    EasyNPC<?> formerEasyNPC = this.entityMap.put(uuid, easyNPC);
+    if (formerEasyNPC != null && formerEasyNPC != easyNPC) {
+      this.removeIndexKeys(uuid);
+    }
+    this.addIndexKeys(uuid, getIndexKeys(easyNPC));
+  }
+
+  public boolean remove(EasyNPC<?> easyNPC) {
+    UUID uuid = easyNPC.getEntity().getUUID();
+    if (!this.entityMap.remove(uuid, easyNPC)) {
+      return false;
+    }
+    this.removeIndexKeys(uuid);
+    return true;
+  }
+
+  public EasyNPC<?> remove(UUID uuid) {
+    EasyNPC<?> easyNPC = this.entityMap.remove(uuid);
+    if (easyNPC != null) {
+      this.removeIndexKeys(uuid);
+    }
+    return easyNPC;
+  }
+
+  /** Updates the secondary indexes, if the entity is registered and an indexed value changed. */
+  public void update(EasyNPC<?> easyNPC) {
+    UUID uuid = easyNPC.getEntity().getUUID();
+    if (this.entityMap.get(uuid) != easyNPC) {
+      return;
+    }
+    IndexKeys indexKeys = getIndexKeys(easyNPC);
+    if (!indexKeys.equals(this.indexKeysMap.get(uuid))) {
+      this.removeIndexKeys(uuid);
+      this.addIndexKeys(uuid, indexKeys);
+    }
+  }
+
+  public EasyNPC<?> get(UUID uuid) {
+    return uuid != null ? this.entityMap.get(uuid) : null;
+  }
+
+  public boolean contains(EasyNPC<?> easyNPC) {
+    return this.entityMap.get(easyNPC.getEntity().getUUID()) == easyNPC;
+  }
+
+  public Collection<EasyNPC<?>> getEasyNPCs() {
+    return this.entityMap.values();
+  }
+
+  public Set<UUID> getUUIDs() {
+    return this.entityMap.keySet();
+  }
+
+  public Set<UUID> getUUIDsByOwner(UUID ownerUUID) {
+    return ownerUUID != null
+        ? this.ownerIndex.getOrDefault(ownerUUID, Collections.emptySet())
+        : Collections.emptySet();
+  }
+
+  public Set<UUID> getUUIDsBySpawner(UUID spawnerUUID) {
+    return spawnerUUID != null
+        ? this.spawnerIndex.getOrDefault(spawnerUUID, Collections.emptySet())
+        : Collections.emptySet();
+  }
+
+  public Set<UUID> getUUIDsBySkinModel(SkinModel skinModel) {
+    return skinModel != null
+        ? this.skinModelIndex.getOrDefault(skinModel, Collections.emptySet())
+        : Collections.emptySet();
+  }
+
+  public Set<UUID> getUUIDsByFaction(FactionType factionType) {
+    return factionType != null
+        ? this.factionIndex.getOrDefault(factionType, Collections.emptySet())
+        : Collections.emptySet();
+  }
+
+  public int size() {
+    return this.entityMap.size();
+  }
+
+  public boolean isEmpty() {
+    return this.entityMap.isEmpty();
+  }
+
+  public void clear() {
+    this.entityMap.clear();
+    this.indexKeysMap.clear();
+    this.ownerIndex.clear();
+    this.spawnerIndex.clear();
+    this.skinModelIndex.clear();
+    this.factionIndex.clear();
+  }
+
+  private void addIndexKeys(UUID uuid, IndexKeys indexKeys) {
+    this.indexKeysMap.put(uuid, indexKeys);
+    addToIndex(this.ownerIndex, indexKeys.ownerUUID(), uuid);
+    addToIndex(this.spawnerIndex, indexKeys.spawnerUUID(), uuid);
+    addToIndex(this.skinModelIndex, indexKeys.skinModel(), uuid);
+    addToIndex(this.factionIndex, indexKeys.factionType(), uuid);
+  }
+
+  private void removeIndexKeys(UUID uuid) {
+    IndexKeys indexKeys = this.indexKeysMap.remove(uuid);
+    if (indexKeys != null) {
+      removeFromIndex(this.ownerIndex, indexKeys.ownerUUID(), uuid);
+      removeFromIndex(this.spawnerIndex, indexKeys.spawnerUUID(), uuid);
+      removeFromIndex(this.skinModelIndex, indexKeys.skinModel(), uuid);
+      removeFromIndex(this.factionIndex, indexKeys.factionType(), uuid);
+    }
+  }
+
+  private record IndexKeys(
+      UUID ownerUUID, UUID spawnerUUID, SkinModel skinModel, FactionType factionType) {}
+}
@@ -20,18 +20,28 @@
 package de.markusbordihn.easynpc.entity;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.access.AccessType;
+import de.markusbordihn.easynpc.data.directory.EasyNPCDirectory;
+import de.markusbordihn.easynpc.data.faction.FactionType;
+import de.markusbordihn.easynpc.data.skin.SkinModel;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -43,22 +53,37 @@ public class LivingEntityManager {
   private static final ConcurrentHashMap<String, ServerPlayer> playerNameMap =
       new ConcurrentHashMap<>();
 
-  private static final ConcurrentHashMap<UUID, EasyNPC<?>> npcEntityMap = new ConcurrentHashMap<>();
+  private static final EasyNPCRegistry clientRegistry = new EasyNPCRegistry();
+
+  private static final ConcurrentHashMap<ResourceKey<Level>, EasyNPCRegistry> serverRegistryMap =
+      new ConcurrentHashMap<>();
 
   private static final ConcurrentHashMap<UUID, ServerPlayer> playerMap = new ConcurrentHashMap<>();
 
   private LivingEntityManager() {}
 
+  private static EasyNPCRegistry getRegistry(EasyNPC<?> easyNPC) {
+    Level level = easyNPC.getEntity().level();
+    return level.isClientSide() ? clientRegistry : getServerRegistry(level.dimension());
+  }
+
+  private static EasyNPCRegistry getServerRegistry(ResourceKey<Level> dimension) {
+    return serverRegistryMap.computeIfAbsent(dimension, key -> new EasyNPCRegistry());
+  }
+
   public static void addEasyNPC(EasyNPC<?> easyNPC) {
     log.debug(
         "{} [Add] EASY NPC entity {}: {}", LOG_PREFIX, easyNPC, easyNPC.getEntity().getUUID());
-    npcEntityMap.put(easyNPC.getEntity().getUUID(), easyNPC);
+    getRegistry(easyNPC).add(easyNPC);
 
     // Inform all server-side easy NPC entities about the new easyNPC.
     if (!easyNPC.isClientSide()) {
-      for (EasyNPC<?> easyNPCChild : npcEntityMap.values()) {
-        if (easyNPCChild != easyNPC) {
-          easyNPCChild.handleEasyNPCJoin(easyNPC);
+      EasyNPCDirectory.updateEasyNPC(easyNPC);
+      for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+        for (EasyNPC<?> easyNPCChild : serverRegistry.getEasyNPCs()) {
+          if (easyNPCChild != easyNPC) {
+            easyNPCChild.handleEasyNPCJoin(easyNPC);
+          }
         }
       }
     }
@@ -67,26 +92,44 @@ public class LivingEntityManager {
   public static void removeEasyNPC(EasyNPC<?> easyNPC) {
     log.debug(
         "{} [Remove] EASY NPC entity {}: {}", LOG_PREFIX, easyNPC, easyNPC.getEntity().getUUID());
-    npcEntityMap.remove(easyNPC.getEntity().getUUID());
+    getRegistry(easyNPC).remove(easyNPC);
 
     // Inform all server-side easy NPC entities about the removed easyNPC.
     if (!easyNPC.isClientSide()) {
-      for (EasyNPC<?> easyNPCChild : npcEntityMap.values()) {
-        if (easyNPCChild != easyNPC) {
-          easyNPCChild.handleEasyNPCLeave(easyNPC);
+      EasyNPCDirectory.removeEasyNPC(easyNPC);
+      for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+        for (EasyNPC<?> easyNPCChild : serverRegistry.getEasyNPCs()) {
+          if (easyNPCChild != easyNPC) {
+            easyNPCChild.handleEasyNPCLeave(easyNPC);
+          }
         }
       }
     }
   }
 
+  /** Updates the owner, spawner, skin model and faction indexes after one of these changed. */
+  public static void updateEasyNPC(EasyNPC<?> easyNPC) {
+    if (easyNPC != null && easyNPC.getEntity() != null && easyNPC.getEntity().level() != null) {
+      getRegistry(easyNPC).update(easyNPC);
+    }
+  }
+
   public static void addLivingEntity(LivingEntity livingEntity) {
     if (log.isTraceEnabled()) {
       log.trace("{} [Add] Living entity {}: {}", LOG_PREFIX, livingEntity, livingEntity.getUUID());
     }
 
-    // Inform all server-side easy NPC entities about the new living entity.
-    for (EasyNPC<?> easyNPC : npcEntityMap.values()) {
-      easyNPC.handleLivingEntityJoin(livingEntity);
+    // Inform all easy NPC entities of the same side about the new living entity.
+    if (livingEntity.level().isClientSide()) {
+      for (EasyNPC<?> easyNPC : clientRegistry.getEasyNPCs()) {
+        easyNPC.handleLivingEntityJoin(livingEntity);
+      }
+      return;
+    }
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      for (EasyNPC<?> easyNPC : serverRegistry.getEasyNPCs()) {
+        easyNPC.handleLivingEntityJoin(livingEntity);
+      }
     }
   }
 
@@ -96,9 +139,17 @@ public class LivingEntityManager {
           "{} [Remove] Living entity {}: {}", LOG_PREFIX, livingEntity, livingEntity.getUUID());
     }
 
-    // Inform all server-side easy NPC entities about the leaved living entity.
-    for (EasyNPC<?> easyNPC : npcEntityMap.values()) {
-      easyNPC.handleLivingEntityLeave(livingEntity);
+    // Inform all easy NPC entities of the same side about the leaved living entity.
+    if (livingEntity.level().isClientSide()) {
+      for (EasyNPC<?> easyNPC : clientRegistry.getEasyNPCs()) {
+        easyNPC.handleLivingEntityLeave(livingEntity);
+      }
+      return;
+    }
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      for (EasyNPC<?> easyNPC : serverRegistry.getEasyNPCs()) {
+        easyNPC.handleLivingEntityLeave(livingEntity);
+      }
     }
   }
 
@@ -108,8 +159,10 @@ public class LivingEntityManager {
     playerNameMap.put(serverPlayer.getName().getString(), serverPlayer);
 
     // Inform all server-side easy NPC entities about the new player.
-    for (EasyNPC<?> easyNPC : npcEntityMap.values()) {
-      easyNPC.handlePlayerJoin(serverPlayer);
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      for (EasyNPC<?> easyNPC : serverRegistry.getEasyNPCs()) {
+        easyNPC.handlePlayerJoin(serverPlayer);
+      }
     }
   }
 
@@ -119,8 +172,10 @@ public class LivingEntityManager {
     playerNameMap.remove(serverPlayer.getName().getString());
 
     // Inform all server-side easy NPC entities about the leaved player.
-    for (EasyNPC<?> easyNPC : npcEntityMap.values()) {
-      easyNPC.handlePlayerLeave(serverPlayer);
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      for (EasyNPC<?> easyNPC : serverRegistry.getEasyNPCs()) {
+        easyNPC.handlePlayerLeave(serverPlayer);
+      }
     }
   }
 
@@ -152,14 +207,105 @@ public class LivingEntityManager {
     if (entity instanceof EasyNPC<?> easyNPC) {
       return easyNPC;
     }
-    return getEasyNPCEntityByUUID(uuid);
+    EasyNPCRegistry serverRegistry = serverRegistryMap.get(serverLevel.dimension());
+    EasyNPC<?> easyNPC = serverRegistry != null ? serverRegistry.get(uuid) : null;
+    return easyNPC != null ? easyNPC : getServerEasyNPCEntityByUUID(uuid);
   }
 
+  /** Returns the client-side instance for client levels and the server-side instance otherwise. */
+  public static EasyNPC<?> getEasyNPCEntityByUUID(UUID uuid, Level level) {
+    if (level instanceof ServerLevel serverLevel) {
+      return getEasyNPCEntityByUUID(uuid, serverLevel);
+    }
+    return level != null && level.isClientSide()
+        ? getClientEasyNPCEntityByUUID(uuid)
+        : getEasyNPCEntityByUUID(uuid);
+  }
+
+  /** Returns the server-side instance, if available, and the client-side instance otherwise. */
   public static EasyNPC<?> getEasyNPCEntityByUUID(UUID uuid) {
     if (uuid == null) {
       return null;
     }
-    return npcEntityMap.getOrDefault(uuid, null);
+    EasyNPC<?> easyNPC = getServerEasyNPCEntityByUUID(uuid);
+    return easyNPC != null ? easyNPC : clientRegistry.get(uuid);
+  }
+
+  public static EasyNPC<?> getServerEasyNPCEntityByUUID(UUID uuid) {
+    if (uuid == null) {
+      return null;
+    }
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      EasyNPC<?> easyNPC = serverRegistry.get(uuid);
+      if (easyNPC != null) {
+        return easyNPC;
+      }
+    }
+    return null;
+  }
+
+  public static EasyNPC<?> getClientEasyNPCEntityByUUID(UUID uuid) {
+    return clientRegistry.get(uuid);
+  }
+
+  public static Set<EasyNPC<?>> getEasyNPCsBySpawner(UUID spawnerUUID, ServerLevel serverLevel) {
+    EasyNPCRegistry serverRegistry =
+        serverLevel != null ? serverRegistryMap.get(serverLevel.dimension()) : null;
+    if (spawnerUUID == null || serverRegistry == null) {
+      return Collections.emptySet();
+    }
+    Set<EasyNPC<?>> result = new HashSet<>();
+    for (UUID uuid : serverRegistry.getUUIDsBySpawner(spawnerUUID)) {
+      EasyNPC<?> easyNPC = serverRegistry.get(uuid);
+      if (easyNPC != null) {
+        result.add(easyNPC);
+      }
+    }
+    return result;
+  }
+
+  public static Set<EasyNPC<?>> getEasyNPCsByFaction(
+      FactionType factionType, ServerLevel serverLevel) {
+    EasyNPCRegistry serverRegistry =
+        serverLevel != null ? serverRegistryMap.get(serverLevel.dimension()) : null;
+    if (factionType == null || serverRegistry == null) {
+      return Collections.emptySet();
+    }
+    Set<EasyNPC<?>> result = new HashSet<>();
+    for (UUID uuid : serverRegistry.getUUIDsByFaction(factionType)) {
+      EasyNPC<?> easyNPC = serverRegistry.get(uuid);
+      if (easyNPC != null) {
+        result.add(easyNPC);
+      }
+    }
+    return result;
+  }
+
+  public static Collection<EasyNPC<?>> getEasyNPCs(ServerLevel serverLevel) {
+    EasyNPCRegistry serverRegistry =
+        serverLevel != null ? serverRegistryMap.get(serverLevel.dimension()) : null;
+    return serverRegistry != null ? serverRegistry.getEasyNPCs() : Collections.emptySet();
+  }
+
+  public static int getNumberOfServerEasyNPCs() {
+    int result = 0;
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      result += serverRegistry.size();
+    }
+    return result;
+  }
+
+  public static Set<EasyNPC<?>> getEasyNPCsBySkinModel(SkinModel skinModel) {
+    Set<EasyNPC<?>> result = new HashSet<>();
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      for (UUID uuid : serverRegistry.getUUIDsBySkinModel(skinModel)) {
+        EasyNPC<?> easyNPC = serverRegistry.get(uuid);
+        if (easyNPC != null) {
+          result.add(easyNPC);
+        }
+      }
+    }
+    return result;
   }
 
   public static ServerPlayer getPlayerByUUID(UUID uuid, ServerLevel serverLevel) {
@@ -181,13 +327,17 @@ public class LivingEntityManager {
   }
 
   public static Stream<String> getUUIDStrings() {
-    return npcEntityMap.keySet().stream().map(UUID::toString);
+    return serverRegistryMap.values().stream()
+        .flatMap(serverRegistry -> serverRegistry.getUUIDs().stream())
+        .map(UUID::toString);
   }
 
   public static Stream<String> getUUIDStringsByOwner(ServerPlayer serverPlayer) {
-    Map<UUID, Entity> npcEntityMapByOwner = getEntityMapByOwner(serverPlayer);
-    return npcEntityMapByOwner != null
-        ? npcEntityMapByOwner.keySet().stream().map(UUID::toString)
+    return serverPlayer != null
+        ? serverRegistryMap.values().stream()
+            .flatMap(
+                serverRegistry -> serverRegistry.getUUIDsByOwner(serverPlayer.getUUID()).stream())
+            .map(UUID::toString)
         : Stream.empty();
   }
 
@@ -197,10 +347,12 @@ public class LivingEntityManager {
 
   public static Map<UUID, Entity> getEntityMapByOwner(UUID ownerUUID) {
     HashMap<UUID, Entity> result = new HashMap<>();
-    for (var entry : npcEntityMap.entrySet()) {
-      EasyNPC<?> easyNPC = entry.getValue();
-      if (easyNPC instanceof OwnerData<?> ownerData && ownerData.isOwner(ownerUUID)) {
-        result.put(entry.getKey(), easyNPC.getEntity());
+    for (EasyNPCRegistry serverRegistry : serverRegistryMap.values()) {
+      for (UUID uuid : serverRegistry.getUUIDsByOwner(ownerUUID)) {
+        EasyNPC<?> easyNPC = serverRegistry.get(uuid);
+        if (easyNPC != null) {
+          result.put(uuid, easyNPC.getEntity());
+        }
       }
     }
     return result;
@@ -214,25 +366,17 @@ public class LivingEntityManager {
   }
 
   public static boolean hasAccess(Entity entity, ServerPlayer serverPlayer) {
-    // Allow admins and creative mode
-    if (serverPlayer.isCreative()) {
-      return true;
-    }
-
-    // Perform more specific checks
-    if (entity instanceof EasyNPC<?> easyNPC && easyNPC instanceof OwnerData<?> ownerData) {
-      UUID uuid = ownerData.getOwnerUUID();
-      return uuid != null && uuid.equals(serverPlayer.getUUID());
+    if (entity instanceof EasyNPC<?> easyNPC) {
+      return AccessManager.hasAccess(serverPlayer, easyNPC, AccessType.EDIT);
     }
-
-    return false;
+    return serverPlayer.isCreative();
   }
 
   public static void discardEasyNPCEntityByUUID(UUID uuid, ServerLevel serverLevel) {
     EasyNPC<?> easyNPC = getEasyNPCEntityByUUID(uuid, serverLevel);
     if (easyNPC != null && easyNPC.getMob() != null) {
       easyNPC.getMob().discard();
-      npcEntityMap.remove(uuid);
+      getRegistry(easyNPC).remove(easyNPC);
     } else {
       log.warn("{} [Discard] Unable to discard EASY NPC entity {}: {}", LOG_PREFIX, easyNPC, uuid);
     }
@@ -20,6 +20,7 @@
 package de.markusbordihn.easynpc.entity.easynpc;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.cache.SaveDataCache;
 import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.entity.EasyNPCBaseEntity;
@@ -29,6 +30,7 @@ import de.markusbordihn.easynpc.entity.easynpc.data.AttributeData;
 import de.markusbordihn.easynpc.entity.easynpc.data.ConfigData;
 import de.markusbordihn.easynpc.entity.easynpc.data.ConfigurationData;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
+import de.markusbordihn.easynpc.entity.easynpc.data.FactionData;
 import de.markusbordihn.easynpc.entity.easynpc.data.GuiData;
 import de.markusbordihn.easynpc.entity.easynpc.data.ModelData;
 import de.markusbordihn.easynpc.entity.easynpc.data.NavigationData;
@@ -112,6 +114,10 @@ public interface EasyNPC<E extends PathfinderMob> extends Npc {
     return this instanceof DialogData<E> dialogData ? dialogData : null;
   }
 
+  default FactionData<E> getEasyNPCFactionData() {
+    return this instanceof FactionData<E> factionData ? factionData : null;
+  }
+
   default GuiData<E> getEasyNPCGuiData() {
     return this instanceof GuiData<E> guiData ? guiData : null;
   }
@@ -242,6 +248,10 @@ public interface EasyNPC<E extends PathfinderMob> extends Npc {
     return this instanceof CrossbowAttackMob crossbowAttackMob ? crossbowAttackMob : null;
   }
 
+  default String getEasyNPCNameString() {
+    return getEntity().getName().getString();
+  }
+
   default Component getEasyNPCTypeName() {
     return getEntity().getType().getDescription();
   }
@@ -318,6 +328,8 @@ public interface EasyNPC<E extends PathfinderMob> extends Npc {
 
   <T> void setSynchedEntityData(SynchedDataIndex synchedDataIndex, T data);
 
+  <T> void setSynchedEntityData(SynchedDataIndex synchedDataIndex, T data, boolean force);
+
   <T> T getSynchedEntityData(SynchedDataIndex synchedDataIndex);
 
   <T> void setServerEntityData(ServerDataAccessor<T> entityDataAccessor, T entityData);
@@ -325,4 +337,6 @@ public interface EasyNPC<E extends PathfinderMob> extends Npc {
   <T> T getServerEntityData(ServerDataAccessor<T> entityDataAccessor);
 
   <T> void defineServerEntityData(ServerDataAccessor<T> entityDataAccessor, T entityData);
+
+  SaveDataCache getSaveDataCache();
 }
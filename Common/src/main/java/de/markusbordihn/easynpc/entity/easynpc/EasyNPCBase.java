@@ -20,12 +20,15 @@
 package de.markusbordihn.easynpc.entity.easynpc;
 
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
+import de.markusbordihn.easynpc.debug.DebugEventBuffer;
+import de.markusbordihn.easynpc.debug.DebugEventType;
 import de.markusbordihn.easynpc.entity.easynpc.data.ActionEventData;
 import de.markusbordihn.easynpc.entity.easynpc.data.AttackData;
 import de.markusbordihn.easynpc.entity.easynpc.data.AttributeData;
 import de.markusbordihn.easynpc.entity.easynpc.data.ConfigData;
 import de.markusbordihn.easynpc.entity.easynpc.data.ConfigurationData;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
+import de.markusbordihn.easynpc.entity.easynpc.data.FactionData;
 import de.markusbordihn.easynpc.entity.easynpc.data.GuiData;
 import de.markusbordihn.easynpc.entity.easynpc.data.NavigationData;
 import de.markusbordihn.easynpc.entity.easynpc.data.ObjectiveData;
@@ -59,6 +62,7 @@ public interface EasyNPCBase<E extends PathfinderMob>
         BaseTickHandler<E>,
         ConfigurationData<E>,
         DialogData<E>,
+        FactionData<E>,
         GuiData<E>,
         NavigationData<E>,
         ConfigData<E>,
@@ -79,6 +83,7 @@ public interface EasyNPCBase<E extends PathfinderMob>
     // Register custom data serializers
     ActionEventData.registerActionEventDataSerializer();
     DialogData.registerDialogDataSerializer();
+    FactionData.registerFactionDataSerializer();
     ObjectiveData.registerObjectiveDataSerializer();
     ProfessionData.registerProfessionDataSerializer();
     RenderData.registerRenderDataSerializer();
@@ -104,7 +109,7 @@ public interface EasyNPCBase<E extends PathfinderMob>
   }
 
   default void registerEasyNPCDefaultHandler(Enum<?> variant) {
-    log.info("Register default handler for {} with variant {} ...", this, variant);
+    DebugEventBuffer.record(DebugEventType.REGISTER_DEFAULT_HANDLER, this.getEntity(), variant);
     VariantData<E> variantData = getEasyNPCVariantData();
     if (variantData != null) {
       variantData.setVariant(variant);
@@ -112,15 +117,23 @@ public interface EasyNPCBase<E extends PathfinderMob>
 
     // Define server-side custom data.
     if (this.isServerSide()) {
-      log.info("Define custom server-side data for {} ...", this);
+      DebugEventBuffer.record(DebugEventType.DEFINE_CUSTOM_DATA, this.getEntity(), null);
       ActionEventData<E> actionEventData = getEasyNPCActionEventData();
       if (actionEventData != null) {
         actionEventData.defineCustomActionData();
       }
+      AttackData<E> attackData = getEasyNPCAttackData();
+      if (attackData != null) {
+        attackData.defineCustomAttackData();
+      }
       DialogData<E> dialogData = getEasyNPCDialogData();
       if (dialogData != null) {
         dialogData.defineCustomDialogData();
       }
+      FactionData<E> factionData = getEasyNPCFactionData();
+      if (factionData != null) {
+        factionData.defineCustomFactionData();
+      }
       ObjectiveData<E> objectiveData = getEasyNPCObjectiveData();
       if (objectiveData != null) {
         objectiveData.defineCustomObjectiveData();
@@ -129,6 +142,10 @@ public interface EasyNPCBase<E extends PathfinderMob>
       if (spawnerData != null) {
         spawnerData.defineCustomSpawnerData();
       }
+      TradingData<E> tradingData = getEasyNPCTradingData();
+      if (tradingData != null) {
+        tradingData.defineCustomTradingData();
+      }
     }
 
     // Register default data, if needed.
@@ -143,7 +160,7 @@ public interface EasyNPCBase<E extends PathfinderMob>
   }
 
   default void defineEasyNPCBaseSyncedData() {
-    log.info("Define synced data for {}", this);
+    DebugEventBuffer.record(DebugEventType.DEFINE_SYNCED_DATA, this.getEntity(), null);
 
     // First define variant data to ensure that all other data can be linked to the variant.
     VariantData<E> variantData = getEasyNPCVariantData();
@@ -220,6 +237,10 @@ public interface EasyNPCBase<E extends PathfinderMob>
     if (dialogData != null) {
       dialogData.addAdditionalDialogData(compoundTag);
     }
+    FactionData<E> factionData = getEasyNPCFactionData();
+    if (factionData != null) {
+      factionData.addAdditionalFactionData(compoundTag);
+    }
     NavigationData<E> navigationData = getEasyNPCNavigationData();
     if (navigationData != null) {
       navigationData.addAdditionalNavigationData(compoundTag);
@@ -263,7 +284,7 @@ public interface EasyNPCBase<E extends PathfinderMob>
   }
 
   default void readEasyNPCBaseAdditionalSaveData(CompoundTag compoundTag) {
-    log.info("Read additional save data for {} ...", this);
+    DebugEventBuffer.record(DebugEventType.READ_SAVE_DATA, this.getEntity(), null);
 
     // First read important data to ensure that all other data can be linked to the variant.
     ConfigData<E> configData = getEasyNPCConfigData();
@@ -292,6 +313,10 @@ public interface EasyNPCBase<E extends PathfinderMob>
     if (dialogData != null) {
       dialogData.readAdditionalDialogData(compoundTag);
     }
+    FactionData<E> factionData = getEasyNPCFactionData();
+    if (factionData != null) {
+      factionData.readAdditionalFactionData(compoundTag);
+    }
     NavigationData<E> navigationData = getEasyNPCNavigationData();
     if (navigationData != null) {
       navigationData.readAdditionalNavigationData(compoundTag);
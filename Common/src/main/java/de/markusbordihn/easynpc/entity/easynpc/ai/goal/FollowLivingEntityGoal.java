@@ -19,6 +19,7 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.ai.goal;
 
+import de.markusbordihn.easynpc.data.navigation.PathCache;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.NavigationData;
 import java.util.EnumSet;
@@ -110,7 +111,9 @@ public class FollowLivingEntityGoal extends Goal {
         if (this.pathfinderMob.distanceToSqr(this.livingEntity) >= 144.0D) {
           this.teleportToLivingEntity();
         } else {
-          this.pathNavigation.moveTo(this.livingEntity, this.speedModifier);
+          this.pathNavigation.moveTo(
+              PathCache.createPath(this.pathfinderMob, this.livingEntity.blockPosition(), 1),
+              this.speedModifier);
         }
       }
     }
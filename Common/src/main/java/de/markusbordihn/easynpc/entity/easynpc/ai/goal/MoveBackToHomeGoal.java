@@ -19,6 +19,7 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.ai.goal;
 
+import de.markusbordihn.easynpc.data.navigation.PathCache;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.NavigationData;
 import net.minecraft.core.BlockPos;
@@ -26,6 +27,7 @@ import net.minecraft.core.SectionPos;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.entity.ai.goal.RandomStrollGoal;
 import net.minecraft.world.entity.ai.util.DefaultRandomPos;
+import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.Vec3;
 
 public class MoveBackToHomeGoal<T extends EasyNPC<?>> extends RandomStrollGoal {
@@ -85,4 +87,11 @@ public class MoveBackToHomeGoal<T extends EasyNPC<?>> extends RandomStrollGoal {
             this.mob, 10, 7, Vec3.atBottomCenterOf(homePosition), 1.5707963705062866)
         : null;
   }
+
+  @Override
+  public void start() {
+    BlockPos targetPos = BlockPos.containing(this.wantedX, this.wantedY, this.wantedZ);
+    Path path = PathCache.createPath(this.mob, targetPos, 1);
+    this.mob.getNavigation().moveTo(path, this.speedModifier);
+  }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.entity.easynpc.ai.goal;
+
+import de.markusbordihn.easynpc.data.faction.FactionRelationMatrix;
+import de.markusbordihn.easynpc.data.faction.FactionType;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.FactionData;
+import java.util.EnumSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.entity.ai.goal.target.TargetGoal;
+import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+
+/**
+ * Target goal which selects the nearest member of a hostile faction. Instead of scanning the
+ * surrounding area per entity class, the candidates are taken from the per-level faction index and
+ * only the hostile factions of the precomputed relation matrix are considered.
+ */
+public class NearestFactionEnemyTargetGoal<T extends EasyNPC<?>> extends TargetGoal {
+
+  private final T easyNPC;
+  private final int randomInterval;
+  private final TargetingConditions targetingConditions;
+  private LivingEntity target;
+
+  public NearestFactionEnemyTargetGoal(
+      T easyNPC, int randomInterval, boolean mustSee, boolean mustReach) {
+    super(easyNPC.getMob(), mustSee, mustReach);
+    this.easyNPC = easyNPC;
+    this.randomInterval = reducedTickDelay(randomInterval);
+    this.targetingConditions = TargetingConditions.forCombat().range(this.getFollowDistance());
+    this.setFlags(EnumSet.of(Goal.Flag.TARGET));
+  }
+
+  @Override
+  public boolean canUse() {
+    if (this.randomInterval > 0 && this.mob.getRandom().nextInt(this.randomInterval) != 0) {
+      return false;
+    }
+    this.target = this.findTarget();
+    return this.target != null;
+  }
+
+  @Override
+  public void start() {
+    this.mob.setTarget(this.target);
+    super.start();
+  }
+
+  private LivingEntity findTarget() {
+    FactionData<?> factionData = this.easyNPC.getEasyNPCFactionData();
+    if (factionData == null
+        || !factionData.hasFaction()
+        || !(this.mob.level() instanceof ServerLevel serverLevel)) {
+      return null;
+    }
+
+    double followDistance = this.getFollowDistance();
+    double nearestDistance = followDistance * followDistance;
+    LivingEntity nearestTarget = null;
+    FactionType[] hostileFactions =
+        FactionRelationMatrix.getHostileFactions(factionData.getFaction());
+    for (FactionType factionType : hostileFactions) {
+      for (EasyNPC<?> hostileEasyNPC :
+          LivingEntityManager.getEasyNPCsByFaction(factionType, serverLevel)) {
+        LivingEntity livingEntity = hostileEasyNPC.getLivingEntity();
+        if (livingEntity == null || livingEntity == this.mob || !livingEntity.isAlive()) {
+          continue;
+        }
+        // Cheap distance check first, the targeting conditions include a line-of-sight test.
+        double distance = this.mob.distanceToSqr(livingEntity);
+        if (distance < nearestDistance
+            && this.targetingConditions.test(this.mob, livingEntity)) {
+          nearestDistance = distance;
+          nearestTarget = livingEntity;
+        }
+      }
+    }
+    return nearestTarget;
+  }
+}
@@ -20,6 +20,7 @@
 package de.markusbordihn.easynpc.entity.easynpc.ai.goal;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.navigation.PathCache;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.NavigationData;
 import net.minecraft.core.BlockPos;
@@ -27,6 +28,7 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ai.goal.RandomStrollGoal;
 import net.minecraft.world.entity.ai.util.AirRandomPos;
 import net.minecraft.world.entity.ai.util.LandRandomPos;
+import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.Vec3;
 
 public class RandomStrollAroundHomeGoal<T extends EasyNPC<?>> extends RandomStrollGoal {
@@ -78,4 +80,11 @@ public class RandomStrollAroundHomeGoal<T extends EasyNPC<?>> extends RandomStro
   private Vec3 getPositionTowardsAnywhere() {
     return LandRandomPos.getPos(this.mob, 10, 7);
   }
+
+  @Override
+  public void start() {
+    BlockPos targetPos = BlockPos.containing(this.wantedX, this.wantedY, this.wantedZ);
+    Path path = PathCache.createPath(this.mob, targetPos, 1);
+    this.mob.getNavigation().moveTo(path, this.speedModifier);
+  }
 }
@@ -22,6 +22,8 @@ package de.markusbordihn.easynpc.entity.easynpc.data;
 import de.markusbordihn.easynpc.data.action.ActionDataEntry;
 import de.markusbordihn.easynpc.data.action.ActionEventSet;
 import de.markusbordihn.easynpc.data.action.ActionEventType;
+import de.markusbordihn.easynpc.data.cache.SaveDataCache.Section;
+import de.markusbordihn.easynpc.data.cache.SharedDataSetCache;
 import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
 import de.markusbordihn.easynpc.data.server.ServerDataIndex;
 import de.markusbordihn.easynpc.data.server.ServerEntityData;
@@ -54,6 +56,8 @@ public interface ActionEventData<E extends PathfinderMob> extends EasyNPC<E> {
 
   ServerDataAccessor<ActionEventSet> CUSTOM_DATA_ACTION_EVENT_SET =
       ServerEntityData.defineId(ServerDataIndex.ACTION_EVENT_SET, ACTION_EVENT_SET);
+  SharedDataSetCache<ActionEventSet> SHARED_ACTION_EVENT_SETS =
+      new SharedDataSetCache<>(compoundTag -> new ActionEventSet(compoundTag).markShared());
   ServerDataAccessor<Integer> CUSTOM_DATA_ACTION_PERMISSION_LEVEL =
       ServerEntityData.defineId(EntityDataSerializers.INT);
 
@@ -70,6 +74,26 @@ public interface ActionEventData<E extends PathfinderMob> extends EasyNPC<E> {
 
   default void setActionEventSet(ActionEventSet actions) {
     setServerEntityData(CUSTOM_DATA_ACTION_EVENT_SET, actions);
+    this.updateActionDataVersion();
+  }
+
+  default void updateActionDataVersion() {
+    // The dialog menu caches the action data together with the dialog data.
+    DialogData<E> dialogData = this.getEasyNPCDialogData();
+    if (dialogData != null) {
+      dialogData.updateDialogDataVersion();
+    }
+  }
+
+  default ActionEventSet getMutableActionEventSet() {
+    ActionEventSet actionEventSet = getActionEventSet();
+    if (actionEventSet != null && actionEventSet.isShared()) {
+      actionEventSet = new ActionEventSet(actionEventSet.createTag());
+      setActionEventSet(actionEventSet);
+    }
+    this.getSaveDataCache().markDirty(Section.ACTION_EVENT);
+    this.updateActionDataVersion();
+    return actionEventSet;
   }
 
   default boolean hasActionEvent(ActionEventType actionEventType) {
@@ -85,7 +109,7 @@ public interface ActionEventData<E extends PathfinderMob> extends EasyNPC<E> {
   }
 
   default void clearActionEventSet() {
-    setServerEntityData(CUSTOM_DATA_ACTION_EVENT_SET, new ActionEventSet());
+    this.setActionEventSet(new ActionEventSet());
   }
 
   default int getActionPermissionLevel() {
@@ -94,6 +118,7 @@ public interface ActionEventData<E extends PathfinderMob> extends EasyNPC<E> {
 
   default void setActionPermissionLevel(int actionPermissionLevel) {
     setServerEntityData(CUSTOM_DATA_ACTION_PERMISSION_LEVEL, actionPermissionLevel);
+    this.getSaveDataCache().markDirty(Section.ACTION_EVENT);
   }
 
   default void defineSynchedActionData() {}
@@ -104,14 +129,18 @@ public interface ActionEventData<E extends PathfinderMob> extends EasyNPC<E> {
   }
 
   default void addAdditionalActionData(CompoundTag compoundTag) {
-    CompoundTag actionDataTag = new CompoundTag();
-
-    if (this.isServerSide()) {
-      ActionEventSet actionEventSet = this.getActionEventSet();
-      if (actionEventSet != null) {
-        actionEventSet.save(actionDataTag);
+    // Reuse the last serialized action data, if the action data was not changed.
+    ActionEventSet actionEventSet = this.getActionEventSet();
+    CompoundTag actionDataTag = this.getSaveDataCache().get(Section.ACTION_EVENT, actionEventSet);
+    if (actionDataTag == null) {
+      actionDataTag = new CompoundTag();
+      if (this.isServerSide()) {
+        if (actionEventSet != null) {
+          actionEventSet.save(actionDataTag);
+        }
+        actionDataTag.putInt(DATA_ACTION_PERMISSION_LEVEL_TAG, this.getActionPermissionLevel());
       }
-      actionDataTag.putInt(DATA_ACTION_PERMISSION_LEVEL_TAG, this.getActionPermissionLevel());
+      this.getSaveDataCache().put(Section.ACTION_EVENT, actionEventSet, actionDataTag);
     }
 
     compoundTag.put(DATA_ACTION_DATA_TAG, actionDataTag);
@@ -129,7 +158,7 @@ public interface ActionEventData<E extends PathfinderMob> extends EasyNPC<E> {
 
     // Read actions
     if (actionDataTag.contains(ActionEventSet.DATA_ACTION_EVENT_SET_TAG)) {
-      ActionEventSet actionDataSet = new ActionEventSet(actionDataTag);
+      ActionEventSet actionDataSet = SHARED_ACTION_EVENT_SETS.get(actionDataTag);
       this.setActionEventSet(actionDataSet);
     }
 
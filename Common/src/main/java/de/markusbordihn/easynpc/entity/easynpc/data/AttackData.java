@@ -19,6 +19,10 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
+import de.markusbordihn.easynpc.data.attack.ProjectileBudget;
+import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
+import de.markusbordihn.easynpc.data.server.ServerDataIndex;
+import de.markusbordihn.easynpc.data.server.ServerEntityData;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.handlers.AttackHandler;
@@ -40,6 +44,10 @@ public interface AttackData<E extends PathfinderMob>
     extends EasyNPC<E>, NeutralMob, RangedAttackMob, CrossbowAttackMob {
 
   String DATA_AGGRESSIVE_TAG = "Aggressive";
+  String DATA_HIT_SCAN_TAG = "HitScan";
+
+  ServerDataAccessor<Boolean> CUSTOM_DATA_ATTACK_HIT_SCAN =
+      ServerEntityData.defineId(ServerDataIndex.ATTACK_HIT_SCAN, EntityDataSerializers.BOOLEAN);
 
   static void registerSyncedAttackData(
       EnumMap<SynchedDataIndex, EntityDataAccessor<?>> map, Class<? extends Entity> entityClass) {
@@ -75,16 +83,26 @@ public interface AttackData<E extends PathfinderMob>
     setSynchedEntityData(SynchedDataIndex.ATTACK_IS_CHARGING_CROSSBOW, isCharging);
   }
 
+  default boolean getAttackHitScan() {
+    return Boolean.TRUE.equals(getServerEntityData(CUSTOM_DATA_ATTACK_HIT_SCAN));
+  }
+
+  default void setAttackHitScan(boolean hitScan) {
+    setServerEntityData(CUSTOM_DATA_ATTACK_HIT_SCAN, hitScan);
+  }
+
   @Override
   default void shootCrossbowProjectile(
       LivingEntity livingEntity, ItemStack itemStack, Projectile projectile, float rangeFactor) {
     this.shootCrossbowProjectile(
         this.getLivingEntity(), livingEntity, projectile, rangeFactor, 1.6F);
+    ProjectileBudget.track(projectile);
   }
 
   @Override
   default void performRangedAttack(LivingEntity livingEntity, float damage) {
-    AttackHandler.performDefaultRangedAttack(this.getLivingEntity(), livingEntity, damage);
+    AttackHandler.performDefaultRangedAttack(
+        this.getLivingEntity(), livingEntity, damage, this.getAttackHitScan());
   }
 
   default void defineSynchedAttackData() {
@@ -92,13 +110,23 @@ public interface AttackData<E extends PathfinderMob>
     defineSynchedEntityData(SynchedDataIndex.ATTACK_IS_CHARGING_CROSSBOW, false);
   }
 
+  default void defineCustomAttackData() {
+    defineServerEntityData(CUSTOM_DATA_ATTACK_HIT_SCAN, false);
+  }
+
   default void addAdditionalAttackData(CompoundTag compoundTag) {
     compoundTag.putBoolean(DATA_AGGRESSIVE_TAG, this.isAggressive());
+    if (this.isServerSide() && this.getAttackHitScan()) {
+      compoundTag.putBoolean(DATA_HIT_SCAN_TAG, true);
+    }
   }
 
   default void readAdditionalAttackData(CompoundTag compoundTag) {
     if (compoundTag.contains(DATA_AGGRESSIVE_TAG)) {
       this.setAggressive(compoundTag.getBoolean(DATA_AGGRESSIVE_TAG));
     }
+    if (compoundTag.contains(DATA_HIT_SCAN_TAG)) {
+      this.setAttackHitScan(compoundTag.getBoolean(DATA_HIT_SCAN_TAG));
+    }
   }
 }
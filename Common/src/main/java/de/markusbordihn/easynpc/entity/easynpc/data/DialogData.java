@@ -19,6 +19,8 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
+import de.markusbordihn.easynpc.data.cache.SaveDataCache.Section;
+import de.markusbordihn.easynpc.data.cache.SharedDataSetCache;
 import de.markusbordihn.easynpc.data.dialog.DialogButtonData;
 import de.markusbordihn.easynpc.data.dialog.DialogDataEntry;
 import de.markusbordihn.easynpc.data.dialog.DialogDataSet;
@@ -28,6 +30,7 @@ import de.markusbordihn.easynpc.data.server.ServerEntityData;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.menu.MenuManager;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.syncher.EntityDataSerializer;
@@ -54,6 +57,11 @@ public interface DialogData<T extends PathfinderMob> extends EasyNPC<T> {
 
   ServerDataAccessor<DialogDataSet> CUSTOM_DATA_DIALOG_DATA_SET =
       ServerEntityData.defineId(ServerDataIndex.DIALOG_DATA_SET, DIALOG_DATA_SET);
+  SharedDataSetCache<DialogDataSet> SHARED_DIALOG_DATA_SETS =
+      new SharedDataSetCache<>(compoundTag -> new DialogDataSet(compoundTag).markShared());
+  ServerDataAccessor<Long> CUSTOM_DATA_DIALOG_DATA_VERSION =
+      ServerEntityData.defineId(EntityDataSerializers.LONG);
+  AtomicLong DIALOG_DATA_VERSION = new AtomicLong();
 
   String DATA_DIALOG_DATA_TAG = "DialogData";
 
@@ -84,6 +92,31 @@ public interface DialogData<T extends PathfinderMob> extends EasyNPC<T> {
 
   default void setDialogDataSet(DialogDataSet dialogDataSet) {
     setServerEntityData(CUSTOM_DATA_DIALOG_DATA_SET, dialogDataSet);
+    this.updateDialogDataVersion();
+  }
+
+  /**
+   * Returns the version of the dialog and action data, which is increased on every change and is
+   * unique for the running server.
+   */
+  default long getDialogDataVersion() {
+    Long dialogDataVersion = getServerEntityData(CUSTOM_DATA_DIALOG_DATA_VERSION);
+    return dialogDataVersion != null ? dialogDataVersion : 0L;
+  }
+
+  default void updateDialogDataVersion() {
+    setServerEntityData(CUSTOM_DATA_DIALOG_DATA_VERSION, DIALOG_DATA_VERSION.incrementAndGet());
+  }
+
+  default DialogDataSet getMutableDialogDataSet() {
+    DialogDataSet dialogDataSet = getDialogDataSet();
+    if (dialogDataSet != null && dialogDataSet.isShared()) {
+      dialogDataSet = new DialogDataSet(dialogDataSet.createTag());
+      setDialogDataSet(dialogDataSet);
+    }
+    this.getSaveDataCache().markDirty(Section.DIALOG);
+    this.updateDialogDataVersion();
+    return dialogDataSet;
   }
 
   default void clearDialogDataSet() {
@@ -103,15 +136,15 @@ public interface DialogData<T extends PathfinderMob> extends EasyNPC<T> {
   }
 
   default boolean removeDialog(UUID dialogId) {
-    return getDialogDataSet().removeDialog(dialogId);
+    return getMutableDialogDataSet().removeDialog(dialogId);
   }
 
   default boolean removeDialogButton(UUID dialogId, UUID dialogButtonId) {
-    return getDialogDataSet().removeDialogButton(dialogId, dialogButtonId);
+    return getMutableDialogDataSet().removeDialogButton(dialogId, dialogButtonId);
   }
 
   default void setDialog(UUID dialogId, DialogDataEntry dialogData) {
-    getDialogDataSet().setDialog(dialogId, dialogData);
+    getMutableDialogDataSet().setDialog(dialogId, dialogData);
   }
 
   default UUID getDialogId(String dialogLabel) {
@@ -144,16 +177,20 @@ public interface DialogData<T extends PathfinderMob> extends EasyNPC<T> {
 
   default void defineCustomDialogData() {
     defineServerEntityData(CUSTOM_DATA_DIALOG_DATA_SET, new DialogDataSet());
+    defineServerEntityData(
+        CUSTOM_DATA_DIALOG_DATA_VERSION, DIALOG_DATA_VERSION.incrementAndGet());
   }
 
   default void addAdditionalDialogData(CompoundTag compoundTag) {
-    CompoundTag dialogDataTag = new CompoundTag();
-
-    if (this.isServerSide()) {
-      DialogDataSet dialogDataSet = this.getDialogDataSet();
-      if (dialogDataSet != null) {
+    // Reuse the last serialized dialog data, if the dialog data was not changed.
+    DialogDataSet dialogDataSet = this.getDialogDataSet();
+    CompoundTag dialogDataTag = this.getSaveDataCache().get(Section.DIALOG, dialogDataSet);
+    if (dialogDataTag == null) {
+      dialogDataTag = new CompoundTag();
+      if (this.isServerSide() && dialogDataSet != null) {
         dialogDataSet.save(dialogDataTag);
       }
+      this.getSaveDataCache().put(Section.DIALOG, dialogDataSet, dialogDataTag);
     }
 
     compoundTag.put(DATA_DIALOG_DATA_TAG, dialogDataTag);
@@ -171,7 +208,7 @@ public interface DialogData<T extends PathfinderMob> extends EasyNPC<T> {
 
     // Read dialog
     if (dialogDataTag.contains(DialogDataSet.DATA_DIALOG_DATA_SET_TAG)) {
-      DialogDataSet dialogDataSet = new DialogDataSet(dialogDataTag);
+      DialogDataSet dialogDataSet = SHARED_DIALOG_DATA_SETS.get(dialogDataTag);
       this.setDialogDataSet(dialogDataSet);
     }
   }
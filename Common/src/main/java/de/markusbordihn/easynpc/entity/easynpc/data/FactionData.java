@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.entity.easynpc.data;
+
+import de.markusbordihn.easynpc.data.faction.FactionRelationMatrix;
+import de.markusbordihn.easynpc.data.faction.FactionRelationType;
+import de.markusbordihn.easynpc.data.faction.FactionType;
+import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
+import de.markusbordihn.easynpc.data.server.ServerDataIndex;
+import de.markusbordihn.easynpc.data.server.ServerEntityData;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.syncher.EntityDataSerializer;
+import net.minecraft.network.syncher.EntityDataSerializers;
+import net.minecraft.world.entity.PathfinderMob;
+
+public interface FactionData<T extends PathfinderMob> extends EasyNPC<T> {
+
+  EntityDataSerializer<FactionType> FACTION_TYPE =
+      new EntityDataSerializer<>() {
+        public void write(FriendlyByteBuf buffer, FactionType value) {
+          buffer.writeEnum(value);
+        }
+
+        public FactionType read(FriendlyByteBuf buffer) {
+          return buffer.readEnum(FactionType.class);
+        }
+
+        public FactionType copy(FactionType value) {
+          return value;
+        }
+      };
+
+  String DATA_FACTION_TAG = "Faction";
+
+  ServerDataAccessor<FactionType> CUSTOM_DATA_FACTION =
+      ServerEntityData.defineId(ServerDataIndex.FACTION, FACTION_TYPE);
+
+  static void registerFactionDataSerializer() {
+    EntityDataSerializers.registerSerializer(FACTION_TYPE);
+  }
+
+  default FactionType getFaction() {
+    FactionType factionType = this.getServerEntityData(CUSTOM_DATA_FACTION);
+    return factionType != null ? factionType : FactionType.NONE;
+  }
+
+  default void setFaction(FactionType factionType) {
+    this.setServerEntityData(
+        CUSTOM_DATA_FACTION, factionType != null ? factionType : FactionType.NONE);
+    LivingEntityManager.updateEasyNPC(this);
+  }
+
+  default boolean hasFaction() {
+    return this.getFaction() != FactionType.NONE;
+  }
+
+  default FactionRelationType getFactionRelation(FactionType factionType) {
+    return FactionRelationMatrix.getRelation(this.getFaction(), factionType);
+  }
+
+  default boolean isHostileTo(EasyNPC<?> easyNPC) {
+    return easyNPC instanceof FactionData<?> factionData
+        && FactionRelationMatrix.isHostile(this.getFaction(), factionData.getFaction());
+  }
+
+  default void defineCustomFactionData() {
+    defineServerEntityData(CUSTOM_DATA_FACTION, FactionType.NONE);
+  }
+
+  default void addAdditionalFactionData(CompoundTag compoundTag) {
+    if (this.isServerSide() && this.hasFaction()) {
+      compoundTag.putString(DATA_FACTION_TAG, this.getFaction().name());
+    }
+  }
+
+  default void readAdditionalFactionData(CompoundTag compoundTag) {
+    if (compoundTag.contains(DATA_FACTION_TAG)) {
+      this.setFaction(FactionType.get(compoundTag.getString(DATA_FACTION_TAG)));
+    }
+  }
+}
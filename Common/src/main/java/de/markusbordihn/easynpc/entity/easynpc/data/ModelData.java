@@ -19,9 +19,11 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
+import de.markusbordihn.easynpc.data.cache.SaveDataCache.Section;
 import de.markusbordihn.easynpc.data.model.ModelArmPose;
 import de.markusbordihn.easynpc.data.model.ModelPart;
 import de.markusbordihn.easynpc.data.model.ModelPose;
+import de.markusbordihn.easynpc.data.model.PackedModelPose;
 import de.markusbordihn.easynpc.data.scale.CustomScale;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
@@ -57,20 +59,18 @@ public interface ModelData<T extends PathfinderMob>
         }
       };
 
-  EntityDataSerializer<CustomScale> SCALE =
+  EntityDataSerializer<PackedModelPose> PACKED_MODEL_POSE =
       new EntityDataSerializer<>() {
-        public void write(FriendlyByteBuf buffer, CustomScale scale) {
-          buffer.writeFloat(scale.x());
-          buffer.writeFloat(scale.y());
-          buffer.writeFloat(scale.z());
+        public void write(FriendlyByteBuf buffer, PackedModelPose packedModelPose) {
+          packedModelPose.write(buffer);
         }
 
-        public CustomScale read(FriendlyByteBuf buffer) {
-          return new CustomScale(buffer.readFloat(), buffer.readFloat(), buffer.readFloat());
+        public PackedModelPose read(FriendlyByteBuf buffer) {
+          return PackedModelPose.read(buffer);
         }
 
-        public CustomScale copy(CustomScale scale) {
-          return scale;
+        public PackedModelPose copy(PackedModelPose packedModelPose) {
+          return packedModelPose;
         }
       };
   String EASY_NPC_DATA_MODEL_DATA_TAG = "ModelData";
@@ -80,33 +80,25 @@ public interface ModelData<T extends PathfinderMob>
   String EASY_NPC_DATA_MODEL_SCALE_TAG = "Scale";
 
   String EASY_NPC_DATA_MODEL_SMART_ANIMATIONS_TAG = "SmartAnimations";
-  CustomScale DEFAULT_MODEL_PART_SCALE = new CustomScale(1, 1, 1);
+  CustomScale DEFAULT_MODEL_PART_SCALE = PackedModelPose.DEFAULT_SCALE;
 
   static void registerSyncedModelData(
       EnumMap<SynchedDataIndex, EntityDataAccessor<?>> map, Class<? extends Entity> entityClass) {
     log.info("- Registering Synched Model Data for {}.", entityClass.getSimpleName());
     map.put(SynchedDataIndex.MODEL_POSE, SynchedEntityData.defineId(entityClass, MODEL_POSE));
-    map.put(SynchedDataIndex.MODEL_HEAD_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
-    map.put(SynchedDataIndex.MODEL_BODY_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
-    map.put(SynchedDataIndex.MODEL_ARMS_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
-    map.put(SynchedDataIndex.MODEL_LEFT_ARM_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
-    map.put(SynchedDataIndex.MODEL_RIGHT_ARM_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
-    map.put(SynchedDataIndex.MODEL_LEFT_LEG_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
-    map.put(SynchedDataIndex.MODEL_RIGHT_LEG_SCALE, SynchedEntityData.defineId(entityClass, SCALE));
+    map.put(
+        SynchedDataIndex.MODEL_PACKED_POSE,
+        SynchedEntityData.defineId(entityClass, PACKED_MODEL_POSE));
     map.put(
         SynchedDataIndex.MODEL_SMART_ANIMATIONS,
         SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
 
-    ModelPositionData.registerSyncedModelPositionData(map, entityClass);
     ModelRotationData.registerSyncedModelRotationData(map, entityClass);
-    ModelVisibilityData.registerSyncedModelVisibilityData(map, entityClass);
   }
 
   static void registerModelDataSerializer() {
-    ModelPositionData.registerModelPositionDataSerializer();
-    ModelRotationData.registerModelRotationDataSerializer();
     EntityDataSerializers.registerSerializer(MODEL_POSE);
-    EntityDataSerializers.registerSerializer(SCALE);
+    EntityDataSerializers.registerSerializer(PACKED_MODEL_POSE);
   }
 
   default Pose getDefaultPose() {
@@ -125,73 +117,79 @@ public interface ModelData<T extends PathfinderMob>
     setSynchedEntityData(SynchedDataIndex.MODEL_POSE, modelPose);
   }
 
+  @Override
+  default PackedModelPose getPackedModelPose() {
+    return getSynchedEntityData(SynchedDataIndex.MODEL_PACKED_POSE);
+  }
+
+  @Override
+  default void setPackedModelPose(PackedModelPose packedModelPose) {
+    setSynchedEntityData(SynchedDataIndex.MODEL_PACKED_POSE, packedModelPose);
+  }
+
   default CustomScale getModelPartScale(ModelPart modelPart) {
-    return switch (modelPart) {
-      case HEAD -> getModelHeadScale();
-      case BODY -> getModelBodyScale();
-      case ARMS -> getModelArmsScale();
-      case LEFT_ARM -> getModelLeftArmScale();
-      case RIGHT_ARM -> getModelRightArmScale();
-      case LEFT_LEG -> getModelLeftLegScale();
-      case RIGHT_LEG -> getModelRightLegScale();
-      default -> DEFAULT_MODEL_PART_SCALE;
-    };
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null ? packedModelPose.getScale(modelPart) : DEFAULT_MODEL_PART_SCALE;
+  }
+
+  default void setModelPartScale(ModelPart modelPart, CustomScale scale) {
+    setPackedModelPose(getPackedModelPose().withScale(modelPart, scale));
   }
 
   default CustomScale getModelHeadScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_HEAD_SCALE);
+    return getModelPartScale(ModelPart.HEAD);
   }
 
   default void setModelHeadScale(CustomScale modelHeadScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_HEAD_SCALE, modelHeadScale);
+    setModelPartScale(ModelPart.HEAD, modelHeadScale);
   }
 
   default CustomScale getModelBodyScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_BODY_SCALE);
+    return getModelPartScale(ModelPart.BODY);
   }
 
   default void setModelBodyScale(CustomScale modelBodyScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_BODY_SCALE, modelBodyScale);
+    setModelPartScale(ModelPart.BODY, modelBodyScale);
   }
 
   default CustomScale getModelArmsScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_ARMS_SCALE);
+    return getModelPartScale(ModelPart.ARMS);
   }
 
   default void setModelArmsScale(CustomScale modelArmsScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_ARMS_SCALE, modelArmsScale);
+    setModelPartScale(ModelPart.ARMS, modelArmsScale);
   }
 
   default CustomScale getModelLeftArmScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_SCALE);
+    return getModelPartScale(ModelPart.LEFT_ARM);
   }
 
   default void setModelLeftArmScale(CustomScale modelLeftArmScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_SCALE, modelLeftArmScale);
+    setModelPartScale(ModelPart.LEFT_ARM, modelLeftArmScale);
   }
 
   default CustomScale getModelRightArmScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_SCALE);
+    return getModelPartScale(ModelPart.RIGHT_ARM);
   }
 
   default void setModelRightArmScale(CustomScale modelRightArmScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_SCALE, modelRightArmScale);
+    setModelPartScale(ModelPart.RIGHT_ARM, modelRightArmScale);
   }
 
   default CustomScale getModelLeftLegScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_SCALE);
+    return getModelPartScale(ModelPart.LEFT_LEG);
   }
 
   default void setModelLeftLegScale(CustomScale modelLeftLegScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_SCALE, modelLeftLegScale);
+    setModelPartScale(ModelPart.LEFT_LEG, modelLeftLegScale);
   }
 
   default CustomScale getModelRightLegScale() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_SCALE);
+    return getModelPartScale(ModelPart.RIGHT_LEG);
   }
 
   default void setModelRightLegScale(CustomScale modelRightLegScale) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_SCALE, modelRightLegScale);
+    setModelPartScale(ModelPart.RIGHT_LEG, modelRightLegScale);
   }
 
   default boolean useSmartAnimations() {
@@ -313,26 +311,24 @@ public interface ModelData<T extends PathfinderMob>
     defineSynchedEntityData(SynchedDataIndex.MODEL_POSE, ModelPose.DEFAULT);
     defineSynchedEntityData(SynchedDataIndex.MODEL_SMART_ANIMATIONS, true);
 
-    // Model Position Data
-    defineSynchedModelPositionData();
+    // Model Position, Rotation, Scale and Visibility
+    defineSynchedEntityData(
+        SynchedDataIndex.MODEL_PACKED_POSE,
+        PackedModelPose.create(this.getDefaultModelVisibleMask()));
 
-    // Rotation
+    // Rotation Lock
     defineSynchedModelRotationData();
-
-    // Scale
-    defineSynchedEntityData(SynchedDataIndex.MODEL_HEAD_SCALE, new CustomScale(1, 1, 1));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_BODY_SCALE, new CustomScale(1, 1, 1));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_ARMS_SCALE, new CustomScale(1, 1, 1));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_SCALE, new CustomScale(1, 1, 1));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_SCALE, new CustomScale(1, 1, 1));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_SCALE, new CustomScale(1, 1, 1));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_SCALE, new CustomScale(1, 1, 1));
-
-    // Visibility
-    defineSynchedModelVisibilityData();
   }
 
   default void addAdditionalModelData(CompoundTag compoundTag) {
+    // Reuse the last serialized model data, if the model and default pose were not changed.
+    Pose defaultPose = this.getDefaultPose();
+    CompoundTag cachedModelDataTag = this.getSaveDataCache().get(Section.MODEL, defaultPose);
+    if (cachedModelDataTag != null) {
+      compoundTag.put(EASY_NPC_DATA_MODEL_DATA_TAG, cachedModelDataTag);
+      return;
+    }
+
     CompoundTag modelDataTag = new CompoundTag();
 
     // Model Pose
@@ -358,7 +354,9 @@ public interface ModelData<T extends PathfinderMob>
     // Smart Animations
     modelDataTag.putBoolean(EASY_NPC_DATA_MODEL_SMART_ANIMATIONS_TAG, this.useSmartAnimations());
 
-    compoundTag.put(EASY_NPC_DATA_MODEL_DATA_TAG, modelDataTag);
+    compoundTag.put(
+        EASY_NPC_DATA_MODEL_DATA_TAG,
+        this.getSaveDataCache().put(Section.MODEL, defaultPose, modelDataTag));
   }
 
   default void readAdditionalModelData(CompoundTag compoundTag) {
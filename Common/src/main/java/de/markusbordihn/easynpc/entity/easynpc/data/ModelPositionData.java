@@ -20,66 +20,16 @@
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
 import de.markusbordihn.easynpc.data.model.ModelPart;
+import de.markusbordihn.easynpc.data.model.PackedModelPose;
 import de.markusbordihn.easynpc.data.position.CustomPosition;
-import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import java.util.EnumMap;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializer;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.PathfinderMob;
 
 public interface ModelPositionData<T extends PathfinderMob> extends EasyNPC<T> {
 
-  EntityDataSerializer<CustomPosition> POSITION =
-      new EntityDataSerializer<>() {
-        public void write(FriendlyByteBuf buffer, CustomPosition position) {
-          buffer.writeFloat(position.x());
-          buffer.writeFloat(position.y());
-          buffer.writeFloat(position.z());
-        }
-
-        public CustomPosition read(FriendlyByteBuf buffer) {
-          return new CustomPosition(buffer.readFloat(), buffer.readFloat(), buffer.readFloat());
-        }
-
-        public CustomPosition copy(CustomPosition position) {
-          return position;
-        }
-      };
   String EASY_NPC_DATA_MODEL_POSITION_TAG = "Position";
-  CustomPosition DEFAULT_MODEL_PART_POSITION = new CustomPosition(0, 0, 0);
-
-  static void registerSyncedModelPositionData(
-      EnumMap<SynchedDataIndex, EntityDataAccessor<?>> map, Class<? extends Entity> entityClass) {
-    log.info("- Registering Synched Model Position Data for {}.", entityClass.getSimpleName());
-    map.put(
-        SynchedDataIndex.MODEL_HEAD_POSITION, SynchedEntityData.defineId(entityClass, POSITION));
-    map.put(
-        SynchedDataIndex.MODEL_BODY_POSITION, SynchedEntityData.defineId(entityClass, POSITION));
-    map.put(
-        SynchedDataIndex.MODEL_ARMS_POSITION, SynchedEntityData.defineId(entityClass, POSITION));
-    map.put(
-        SynchedDataIndex.MODEL_LEFT_ARM_POSITION,
-        SynchedEntityData.defineId(entityClass, POSITION));
-    map.put(
-        SynchedDataIndex.MODEL_RIGHT_ARM_POSITION,
-        SynchedEntityData.defineId(entityClass, POSITION));
-    map.put(
-        SynchedDataIndex.MODEL_LEFT_LEG_POSITION,
-        SynchedEntityData.defineId(entityClass, POSITION));
-    map.put(
-        SynchedDataIndex.MODEL_RIGHT_LEG_POSITION,
-        SynchedEntityData.defineId(entityClass, POSITION));
-  }
-
-  static void registerModelPositionDataSerializer() {
-    EntityDataSerializers.registerSerializer(POSITION);
-  }
+  CustomPosition DEFAULT_MODEL_PART_POSITION = PackedModelPose.DEFAULT_POSITION;
 
   boolean hasHeadModelPart();
 
@@ -95,73 +45,75 @@ public interface ModelPositionData<T extends PathfinderMob> extends EasyNPC<T> {
 
   boolean hasRightLegModelPart();
 
+  PackedModelPose getPackedModelPose();
+
+  void setPackedModelPose(PackedModelPose packedModelPose);
+
   default CustomPosition getModelPartPosition(ModelPart modelPart) {
-    return switch (modelPart) {
-      case HEAD -> getModelHeadPosition();
-      case BODY -> getModelBodyPosition();
-      case ARMS -> getModelArmsPosition();
-      case LEFT_ARM -> getModelLeftArmPosition();
-      case RIGHT_ARM -> getModelRightArmPosition();
-      case LEFT_LEG -> getModelLeftLegPosition();
-      case RIGHT_LEG -> getModelRightLegPosition();
-      default -> DEFAULT_MODEL_PART_POSITION;
-    };
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null
+        ? packedModelPose.getPosition(modelPart)
+        : DEFAULT_MODEL_PART_POSITION;
+  }
+
+  default void setModelPartPosition(ModelPart modelPart, CustomPosition position) {
+    setPackedModelPose(getPackedModelPose().withPosition(modelPart, position));
   }
 
   default CustomPosition getModelHeadPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_HEAD_POSITION);
+    return getModelPartPosition(ModelPart.HEAD);
   }
 
   default void setModelHeadPosition(CustomPosition modelHeadPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_HEAD_POSITION, modelHeadPosition);
+    setModelPartPosition(ModelPart.HEAD, modelHeadPosition);
   }
 
   default CustomPosition getModelBodyPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_BODY_POSITION);
+    return getModelPartPosition(ModelPart.BODY);
   }
 
   default void setModelBodyPosition(CustomPosition modelBodyPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_BODY_POSITION, modelBodyPosition);
+    setModelPartPosition(ModelPart.BODY, modelBodyPosition);
   }
 
   default CustomPosition getModelArmsPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_ARMS_POSITION);
+    return getModelPartPosition(ModelPart.ARMS);
   }
 
   default void setModelArmsPosition(CustomPosition modelArmsPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_ARMS_POSITION, modelArmsPosition);
+    setModelPartPosition(ModelPart.ARMS, modelArmsPosition);
   }
 
   default CustomPosition getModelLeftArmPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_POSITION);
+    return getModelPartPosition(ModelPart.LEFT_ARM);
   }
 
   default void setModelLeftArmPosition(CustomPosition modelLeftArmPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_POSITION, modelLeftArmPosition);
+    setModelPartPosition(ModelPart.LEFT_ARM, modelLeftArmPosition);
   }
 
   default CustomPosition getModelRightArmPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_POSITION);
+    return getModelPartPosition(ModelPart.RIGHT_ARM);
   }
 
   default void setModelRightArmPosition(CustomPosition modelRightArmPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_POSITION, modelRightArmPosition);
+    setModelPartPosition(ModelPart.RIGHT_ARM, modelRightArmPosition);
   }
 
   default CustomPosition getModelLeftLegPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_POSITION);
+    return getModelPartPosition(ModelPart.LEFT_LEG);
   }
 
   default void setModelLeftLegPosition(CustomPosition modelLeftLegPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_POSITION, modelLeftLegPosition);
+    setModelPartPosition(ModelPart.LEFT_LEG, modelLeftLegPosition);
   }
 
   default CustomPosition getModelRightLegPosition() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_POSITION);
+    return getModelPartPosition(ModelPart.RIGHT_LEG);
   }
 
   default void setModelRightLegPosition(CustomPosition modelRightLegPosition) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_POSITION, modelRightLegPosition);
+    setModelPartPosition(ModelPart.RIGHT_LEG, modelRightLegPosition);
   }
 
   default boolean hasChangedModelPosition() {
@@ -174,17 +126,6 @@ public interface ModelPositionData<T extends PathfinderMob> extends EasyNPC<T> {
         || (hasRightLegModelPart() && getModelRightLegPosition().hasChanged());
   }
 
-  default void defineSynchedModelPositionData() {
-    // Position
-    defineSynchedEntityData(SynchedDataIndex.MODEL_HEAD_POSITION, new CustomPosition(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_BODY_POSITION, new CustomPosition(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_ARMS_POSITION, new CustomPosition(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_POSITION, new CustomPosition(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_POSITION, new CustomPosition(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_POSITION, new CustomPosition(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_POSITION, new CustomPosition(0, 0, 0));
-  }
-
   default void addAdditionalModelPositionData(CompoundTag compoundTag) {
     CompoundTag positionsTag = new CompoundTag();
     if (hasHeadModelPart()
@@ -20,14 +20,13 @@
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
 import de.markusbordihn.easynpc.data.model.ModelPart;
+import de.markusbordihn.easynpc.data.model.PackedModelPose;
 import de.markusbordihn.easynpc.data.rotation.CustomRotation;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import java.util.EnumMap;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializer;
 import net.minecraft.network.syncher.EntityDataSerializers;
 import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.world.entity.Entity;
@@ -35,25 +34,9 @@ import net.minecraft.world.entity.PathfinderMob;
 
 public interface ModelRotationData<T extends PathfinderMob> extends EasyNPC<T> {
 
-  EntityDataSerializer<CustomRotation> ROTATION =
-      new EntityDataSerializer<>() {
-        public void write(FriendlyByteBuf buffer, CustomRotation rotation) {
-          buffer.writeFloat(rotation.x());
-          buffer.writeFloat(rotation.y());
-          buffer.writeFloat(rotation.z());
-        }
-
-        public CustomRotation read(FriendlyByteBuf buffer) {
-          return new CustomRotation(buffer.readFloat(), buffer.readFloat(), buffer.readFloat());
-        }
-
-        public CustomRotation copy(CustomRotation rotation) {
-          return rotation;
-        }
-      };
   String EASY_NPC_DATA_MODEL_ROTATION_TAG = "Rotation";
   String EASY_NPC_DATA_MODEL_LOCK_TAG = "Lock";
-  CustomRotation DEFAULT_MODEL_PART_ROTATION = new CustomRotation(0, 0, 0);
+  CustomRotation DEFAULT_MODEL_PART_ROTATION = PackedModelPose.DEFAULT_ROTATION;
 
   static void registerSyncedModelRotationData(
       EnumMap<SynchedDataIndex, EntityDataAccessor<?>> map, Class<? extends Entity> entityClass) {
@@ -61,30 +44,6 @@ public interface ModelRotationData<T extends PathfinderMob> extends EasyNPC<T> {
     map.put(
         SynchedDataIndex.MODEL_LOCK_ROTATION,
         SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_HEAD_ROTATION, SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_BODY_ROTATION, SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_ARMS_ROTATION, SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_LEFT_ARM_ROTATION,
-        SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_RIGHT_ARM_ROTATION,
-        SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_LEFT_LEG_ROTATION,
-        SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_RIGHT_LEG_ROTATION,
-        SynchedEntityData.defineId(entityClass, ROTATION));
-    map.put(
-        SynchedDataIndex.MODEL_ROOT_ROTATION, SynchedEntityData.defineId(entityClass, ROTATION));
-  }
-
-  static void registerModelRotationDataSerializer() {
-    EntityDataSerializers.registerSerializer(ROTATION);
   }
 
   boolean hasHeadModelPart();
@@ -101,17 +60,19 @@ public interface ModelRotationData<T extends PathfinderMob> extends EasyNPC<T> {
 
   boolean hasRightLegModelPart();
 
+  PackedModelPose getPackedModelPose();
+
+  void setPackedModelPose(PackedModelPose packedModelPose);
+
   default CustomRotation getModelPartRotation(ModelPart modelPart) {
-    return switch (modelPart) {
-      case HEAD -> getModelHeadRotation();
-      case BODY -> getModelBodyRotation();
-      case ARMS -> getModelArmsRotation();
-      case LEFT_ARM -> getModelLeftArmRotation();
-      case RIGHT_ARM -> getModelRightArmRotation();
-      case LEFT_LEG -> getModelLeftLegRotation();
-      case RIGHT_LEG -> getModelRightLegRotation();
-      default -> DEFAULT_MODEL_PART_ROTATION;
-    };
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null
+        ? packedModelPose.getRotation(modelPart)
+        : DEFAULT_MODEL_PART_ROTATION;
+  }
+
+  default void setModelPartRotation(ModelPart modelPart, CustomRotation rotation) {
+    setPackedModelPose(getPackedModelPose().withRotation(modelPart, rotation));
   }
 
   default boolean hasChangedModelRotation() {
@@ -133,79 +94,71 @@ public interface ModelRotationData<T extends PathfinderMob> extends EasyNPC<T> {
   }
 
   default CustomRotation getModelHeadRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_HEAD_ROTATION);
+    return getModelPartRotation(ModelPart.HEAD);
   }
 
   default void setModelHeadRotation(CustomRotation modelHeadRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_HEAD_ROTATION, modelHeadRotation);
+    setModelPartRotation(ModelPart.HEAD, modelHeadRotation);
   }
 
   default CustomRotation getModelBodyRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_BODY_ROTATION);
+    return getModelPartRotation(ModelPart.BODY);
   }
 
   default void setModelBodyRotation(CustomRotation modelBodyRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_BODY_ROTATION, modelBodyRotation);
+    setModelPartRotation(ModelPart.BODY, modelBodyRotation);
   }
 
   default CustomRotation getModelArmsRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_ARMS_ROTATION);
+    return getModelPartRotation(ModelPart.ARMS);
   }
 
   default void setModelArmsRotation(CustomRotation modelArmsRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_ARMS_ROTATION, modelArmsRotation);
+    setModelPartRotation(ModelPart.ARMS, modelArmsRotation);
   }
 
   default CustomRotation getModelLeftArmRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_ROTATION);
+    return getModelPartRotation(ModelPart.LEFT_ARM);
   }
 
   default void setModelLeftArmRotation(CustomRotation modelLeftArmRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_ROTATION, modelLeftArmRotation);
+    setModelPartRotation(ModelPart.LEFT_ARM, modelLeftArmRotation);
   }
 
   default CustomRotation getModelRightArmRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_ROTATION);
+    return getModelPartRotation(ModelPart.RIGHT_ARM);
   }
 
   default void setModelRightArmRotation(CustomRotation modelRightArmRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_ROTATION, modelRightArmRotation);
+    setModelPartRotation(ModelPart.RIGHT_ARM, modelRightArmRotation);
   }
 
   default CustomRotation getModelLeftLegRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_ROTATION);
+    return getModelPartRotation(ModelPart.LEFT_LEG);
   }
 
   default void setModelLeftLegRotation(CustomRotation modelLeftLegRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_ROTATION, modelLeftLegRotation);
+    setModelPartRotation(ModelPart.LEFT_LEG, modelLeftLegRotation);
   }
 
   default CustomRotation getModelRightLegRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_ROTATION);
+    return getModelPartRotation(ModelPart.RIGHT_LEG);
   }
 
   default void setModelRightLegRotation(CustomRotation modelRightLegRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_ROTATION, modelRightLegRotation);
+    setModelPartRotation(ModelPart.RIGHT_LEG, modelRightLegRotation);
   }
 
   default CustomRotation getModelRootRotation() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_ROOT_ROTATION);
+    return getModelPartRotation(ModelPart.ROOT);
   }
 
   default void setModelRootRotation(CustomRotation modelRootRotation) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_ROOT_ROTATION, modelRootRotation);
+    setModelPartRotation(ModelPart.ROOT, modelRootRotation);
   }
 
   default void defineSynchedModelRotationData() {
     defineSynchedEntityData(SynchedDataIndex.MODEL_LOCK_ROTATION, false);
-    defineSynchedEntityData(SynchedDataIndex.MODEL_HEAD_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_BODY_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_ARMS_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_ROTATION, new CustomRotation(0, 0, 0));
-    defineSynchedEntityData(SynchedDataIndex.MODEL_ROOT_ROTATION, new CustomRotation(0, 0, 0));
   }
 
   default void addAdditionalModelRotationData(CompoundTag compoundTag) {
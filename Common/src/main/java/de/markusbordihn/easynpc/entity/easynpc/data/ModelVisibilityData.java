@@ -20,14 +20,9 @@
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
 import de.markusbordihn.easynpc.data.model.ModelPart;
-import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
+import de.markusbordihn.easynpc.data.model.PackedModelPose;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import java.util.EnumMap;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.PathfinderMob;
 
@@ -35,44 +30,6 @@ public interface ModelVisibilityData<T extends PathfinderMob> extends EasyNPC<T>
 
   String EASY_NPC_DATA_MODEL_VISIBLE_TAG = "Visible";
 
-  static void registerSyncedModelVisibilityData(
-      EnumMap<SynchedDataIndex, EntityDataAccessor<?>> map, Class<? extends Entity> entityClass) {
-    log.info("- Registering Synched Model Visibility Data for {}.", entityClass.getSimpleName());
-    map.put(
-        SynchedDataIndex.MODEL_HEAD_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_BODY_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_ARMS_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_LEFT_ARM_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_RIGHT_ARM_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_LEFT_LEG_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_RIGHT_LEG_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_HELMET_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_CHESTPLATE_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_LEGGINGS_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-    map.put(
-        SynchedDataIndex.MODEL_BOOTS_VISIBLE,
-        SynchedEntityData.defineId(entityClass, EntityDataSerializers.BOOLEAN));
-  }
-
   boolean hasHeadModelPart();
 
   boolean hasBodyModelPart();
@@ -89,19 +46,45 @@ public interface ModelVisibilityData<T extends PathfinderMob> extends EasyNPC<T>
 
   boolean canUseArmor();
 
+  PackedModelPose getPackedModelPose();
+
+  void setPackedModelPose(PackedModelPose packedModelPose);
+
+  default int getDefaultModelVisibleMask() {
+    int visibleMask = 0;
+    visibleMask |= this.hasHeadModelPart() ? PackedModelPose.getVisibleBit(ModelPart.HEAD) : 0;
+    visibleMask |= this.hasBodyModelPart() ? PackedModelPose.getVisibleBit(ModelPart.BODY) : 0;
+    visibleMask |= this.hasArmsModelPart() ? PackedModelPose.getVisibleBit(ModelPart.ARMS) : 0;
+    visibleMask |=
+        this.hasLeftArmModelPart() ? PackedModelPose.getVisibleBit(ModelPart.LEFT_ARM) : 0;
+    visibleMask |=
+        this.hasRightArmModelPart() ? PackedModelPose.getVisibleBit(ModelPart.RIGHT_ARM) : 0;
+    visibleMask |=
+        this.hasLeftLegModelPart() ? PackedModelPose.getVisibleBit(ModelPart.LEFT_LEG) : 0;
+    visibleMask |=
+        this.hasRightLegModelPart() ? PackedModelPose.getVisibleBit(ModelPart.RIGHT_LEG) : 0;
+    if (this.canUseArmor()) {
+      visibleMask |= PackedModelPose.getVisibleBit(ModelPart.HELMET);
+      visibleMask |= PackedModelPose.getVisibleBit(ModelPart.CHESTPLATE);
+      visibleMask |= PackedModelPose.getVisibleBit(ModelPart.LEGGINGS);
+      visibleMask |= PackedModelPose.getVisibleBit(ModelPart.BOOTS);
+    }
+    return visibleMask;
+  }
+
   default boolean isModelPartVisible(ModelPart modelPart) {
+    PackedModelPose packedModelPose = getPackedModelPose();
     return switch (modelPart) {
-      case HEAD -> isModelHeadVisible();
-      case BODY -> isModelBodyVisible();
-      case ARMS -> isModelArmsVisible();
-      case LEFT_ARM -> isModelLeftArmVisible();
-      case RIGHT_ARM -> isModelRightArmVisible();
-      case LEFT_LEG -> isModelLeftLegVisible();
-      case RIGHT_LEG -> isModelRightLegVisible();
+      case HEAD, BODY, ARMS, LEFT_ARM, RIGHT_ARM, LEFT_LEG, RIGHT_LEG ->
+          packedModelPose != null && packedModelPose.isVisible(modelPart);
       default -> false;
     };
   }
 
+  default void setModelPartVisible(ModelPart modelPart, boolean visible) {
+    setPackedModelPose(getPackedModelPose().withVisible(modelPart, visible));
+  }
+
   default boolean isModelEquipmentVisible(EquipmentSlot equipmentSlot) {
     if (equipmentSlot == null || !this.canUseArmor()) {
       return false;
@@ -126,106 +109,95 @@ public interface ModelVisibilityData<T extends PathfinderMob> extends EasyNPC<T>
   }
 
   default boolean isModelHeadVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_HEAD_VISIBLE);
+    return isModelPartVisible(ModelPart.HEAD);
   }
 
   default void setModelHeadVisible(boolean modelHeadVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_HEAD_VISIBLE, modelHeadVisible);
+    setModelPartVisible(ModelPart.HEAD, modelHeadVisible);
   }
 
   default boolean isModelBodyVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_BODY_VISIBLE);
+    return isModelPartVisible(ModelPart.BODY);
   }
 
   default void setModelBodyVisible(boolean modelBodyVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_BODY_VISIBLE, modelBodyVisible);
+    setModelPartVisible(ModelPart.BODY, modelBodyVisible);
   }
 
   default boolean isModelArmsVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_ARMS_VISIBLE);
+    return isModelPartVisible(ModelPart.ARMS);
   }
 
   default void setModelArmsVisible(boolean modelArmsVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_ARMS_VISIBLE, modelArmsVisible);
+    setModelPartVisible(ModelPart.ARMS, modelArmsVisible);
   }
 
   default boolean isModelLeftArmVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_VISIBLE);
+    return isModelPartVisible(ModelPart.LEFT_ARM);
   }
 
   default void setModelLeftArmVisible(boolean modelLeftArmVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_VISIBLE, modelLeftArmVisible);
+    setModelPartVisible(ModelPart.LEFT_ARM, modelLeftArmVisible);
   }
 
   default boolean isModelRightArmVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_VISIBLE);
+    return isModelPartVisible(ModelPart.RIGHT_ARM);
   }
 
   default void setModelRightArmVisible(boolean modelRightArmVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_VISIBLE, modelRightArmVisible);
+    setModelPartVisible(ModelPart.RIGHT_ARM, modelRightArmVisible);
   }
 
   default boolean isModelLeftLegVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_VISIBLE);
+    return isModelPartVisible(ModelPart.LEFT_LEG);
   }
 
   default void setModelLeftLegVisible(boolean modelLeftLegVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_VISIBLE, modelLeftLegVisible);
+    setModelPartVisible(ModelPart.LEFT_LEG, modelLeftLegVisible);
   }
 
   default boolean isModelRightLegVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_VISIBLE);
+    return isModelPartVisible(ModelPart.RIGHT_LEG);
   }
 
   default void setModelRightLegVisible(boolean modelRightLegVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_VISIBLE, modelRightLegVisible);
+    setModelPartVisible(ModelPart.RIGHT_LEG, modelRightLegVisible);
   }
 
   default boolean isModelHelmetVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_HELMET_VISIBLE);
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null && packedModelPose.isVisible(ModelPart.HELMET);
   }
 
   default void setModelHelmetVisible(boolean modelHelmetVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_HELMET_VISIBLE, modelHelmetVisible);
+    setModelPartVisible(ModelPart.HELMET, modelHelmetVisible);
   }
 
   default boolean isModelChestplateVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_CHESTPLATE_VISIBLE);
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null && packedModelPose.isVisible(ModelPart.CHESTPLATE);
   }
 
   default void setModelChestplateVisible(boolean modelChestplateVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_CHESTPLATE_VISIBLE, modelChestplateVisible);
+    setModelPartVisible(ModelPart.CHESTPLATE, modelChestplateVisible);
   }
 
   default boolean isModelLeggingsVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_LEGGINGS_VISIBLE);
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null && packedModelPose.isVisible(ModelPart.LEGGINGS);
   }
 
   default void setModelLeggingsVisible(boolean modelLeggingsVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_LEGGINGS_VISIBLE, modelLeggingsVisible);
+    setModelPartVisible(ModelPart.LEGGINGS, modelLeggingsVisible);
   }
 
   default boolean isModelBootsVisible() {
-    return getSynchedEntityData(SynchedDataIndex.MODEL_BOOTS_VISIBLE);
+    PackedModelPose packedModelPose = getPackedModelPose();
+    return packedModelPose != null && packedModelPose.isVisible(ModelPart.BOOTS);
   }
 
   default void setModelBootsVisible(boolean modelBootsVisible) {
-    setSynchedEntityData(SynchedDataIndex.MODEL_BOOTS_VISIBLE, modelBootsVisible);
-  }
-
-  default void defineSynchedModelVisibilityData() {
-    defineSynchedEntityData(SynchedDataIndex.MODEL_HEAD_VISIBLE, this.hasHeadModelPart());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_BODY_VISIBLE, this.hasBodyModelPart());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_ARMS_VISIBLE, this.hasArmsModelPart());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_ARM_VISIBLE, this.hasLeftArmModelPart());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_ARM_VISIBLE, this.hasRightArmModelPart());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEFT_LEG_VISIBLE, this.hasLeftLegModelPart());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_RIGHT_LEG_VISIBLE, this.hasRightLegModelPart());
-
-    defineSynchedEntityData(SynchedDataIndex.MODEL_HELMET_VISIBLE, this.canUseArmor());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_CHESTPLATE_VISIBLE, this.canUseArmor());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_LEGGINGS_VISIBLE, this.canUseArmor());
-    defineSynchedEntityData(SynchedDataIndex.MODEL_BOOTS_VISIBLE, this.canUseArmor());
+    setModelPartVisible(ModelPart.BOOTS, modelBootsVisible);
   }
 
   default void addAdditionalModelVisibilityData(CompoundTag compoundTag) {
@@ -19,6 +19,7 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
+import de.markusbordihn.easynpc.data.navigation.SupportSurface;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
 import de.markusbordihn.easynpc.data.ticker.TickerType;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
@@ -33,9 +34,6 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.navigation.GroundPathNavigation;
-import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 
 public interface NavigationData<T extends PathfinderMob> extends EasyNPC<T> {
@@ -52,6 +50,8 @@ public interface NavigationData<T extends PathfinderMob> extends EasyNPC<T> {
         SynchedEntityData.defineId(entityClass, EntityDataSerializers.BLOCK_POS));
   }
 
+  SupportSurface getSupportSurface();
+
   default BlockPos getHomePosition() {
     return getSynchedEntityData(SynchedDataIndex.NAVIGATION_HOME_POSITION);
   }
@@ -134,15 +134,9 @@ public interface NavigationData<T extends PathfinderMob> extends EasyNPC<T> {
     // Update basic movement relevant data.
     if (tickerData.checkAndIncreaseTicker(TickerType.TRAVEL_EVENT, TRAVEL_EVENT_TICK)) {
 
-      // Define if NPC is on ground or not.
+      // Define if NPC is on ground or not, based on the cached support surface.
       Mob mob = this.getMob();
-      Level level = this.getLevel();
-      BlockState blockState = level.getBlockState(mob.getOnPos());
-      mob.setOnGround(
-          !blockState.is(Blocks.AIR)
-              && !blockState.is(Blocks.GRASS)
-              && !blockState.is(Blocks.WHITE_CARPET)
-              && !blockState.is(Blocks.RED_CARPET));
+      mob.setOnGround(this.getSupportSurface().isSupported(this.getLevel(), mob.getOnPos()));
 
       // Allow movement for NPC, if free fall is enabled and synced data are loaded.
       ObjectiveData<?> objectiveData = this.getEasyNPCObjectiveData();
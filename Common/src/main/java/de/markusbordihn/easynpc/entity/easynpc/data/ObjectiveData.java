@@ -19,6 +19,7 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
+import de.markusbordihn.easynpc.data.cache.SaveDataCache.Section;
 import de.markusbordihn.easynpc.data.objective.ObjectiveDataEntry;
 import de.markusbordihn.easynpc.data.objective.ObjectiveDataSet;
 import de.markusbordihn.easynpc.data.objective.ObjectiveType;
@@ -26,6 +27,8 @@ import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
 import de.markusbordihn.easynpc.data.server.ServerDataIndex;
 import de.markusbordihn.easynpc.data.server.ServerEntityData;
 import de.markusbordihn.easynpc.data.ticker.TickerType;
+import de.markusbordihn.easynpc.debug.DebugEventBuffer;
+import de.markusbordihn.easynpc.debug.DebugEventType;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.ai.goal.ResetUniversalAngerTargetGoal;
 import java.util.HashSet;
@@ -163,6 +166,7 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
       return;
     }
     getObjectiveDataSet().removeObjective(objectiveType);
+    this.getSaveDataCache().markDirty(Section.OBJECTIVE);
   }
 
   default void removeObjective(ObjectiveDataEntry objectiveDataEntry) {
@@ -170,6 +174,7 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
       return;
     }
     getObjectiveDataSet().removeObjective(objectiveDataEntry);
+    this.getSaveDataCache().markDirty(Section.OBJECTIVE);
   }
 
   default void addObjective(ObjectiveDataEntry objectiveDataEntry) {
@@ -177,6 +182,7 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
       return;
     }
     getObjectiveDataSet().addObjective(objectiveDataEntry);
+    this.getSaveDataCache().markDirty(Section.OBJECTIVE);
   }
 
   default boolean hasTravelTargetObjectives() {
@@ -280,7 +286,7 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
       return;
     }
 
-    log.info("Register attribute based objectives for {}", this);
+    DebugEventBuffer.record(DebugEventType.REGISTER_OBJECTIVES, this.getEntity(), null);
 
     // Handle floating goals.
     ObjectiveDataEntry floatObjective = new ObjectiveDataEntry(ObjectiveType.FLOAT, 0);
@@ -378,6 +384,7 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
 
     // Add objective data to set, regardless if goal or target was added.
     getObjectiveDataSet().addObjective(objectiveDataEntry);
+    this.getSaveDataCache().markDirty(Section.OBJECTIVE);
     return objectiveDataEntry.isRegistered();
   }
 
@@ -429,6 +436,7 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
       this.getEntityTargetSelector().removeGoal(target);
     }
 
+    this.getSaveDataCache().markDirty(Section.OBJECTIVE);
     return this.getObjectiveDataSet().removeObjective(objectiveDataEntry);
   }
 
@@ -446,10 +454,18 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
   }
 
   default void addAdditionalObjectiveData(CompoundTag compoundTag) {
+    // Reuse the last serialized objective data, if the objectives were not changed.
+    ObjectiveDataSet objectiveDataSet = this.getObjectiveDataSet();
+    CompoundTag cachedObjectiveTag =
+        this.getSaveDataCache().get(Section.OBJECTIVE, objectiveDataSet);
+    if (cachedObjectiveTag != null) {
+      compoundTag.put(DATA_OBJECTIVE_DATA_TAG, cachedObjectiveTag);
+      return;
+    }
+
     CompoundTag objectiveTag = new CompoundTag();
 
     if (this.isServerSide()) {
-      ObjectiveDataSet objectiveDataSet = this.getObjectiveDataSet();
       if (objectiveDataSet != null) {
         objectiveDataSet.save(objectiveTag);
       }
@@ -466,7 +482,9 @@ public interface ObjectiveData<T extends PathfinderMob> extends EasyNPC<T> {
       }
     }
 
-    compoundTag.put(DATA_OBJECTIVE_DATA_TAG, objectiveTag);
+    compoundTag.put(
+        DATA_OBJECTIVE_DATA_TAG,
+        this.getSaveDataCache().put(Section.OBJECTIVE, objectiveDataSet, objectiveTag));
   }
 
   default void readAdditionalObjectiveData(CompoundTag compoundTag) {
@@ -20,6 +20,7 @@
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import java.util.EnumMap;
 import java.util.Optional;
@@ -55,6 +56,7 @@ public interface OwnerData<T extends PathfinderMob> extends EasyNPC<T>, OwnableE
 
   default void setOwnerUUID(UUID uuid) {
     setSynchedEntityData(SynchedDataIndex.OWNER_UUID, Optional.ofNullable(uuid));
+    LivingEntityManager.updateEasyNPC(this);
   }
 
   default boolean hasOwner() {
@@ -21,19 +21,78 @@ package de.markusbordihn.easynpc.entity.easynpc.data;
 
 import de.markusbordihn.easynpc.data.model.ModelPose;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPCBase;
+import de.markusbordihn.easynpc.io.CompactPresetFormat;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.Pose;
+import net.minecraft.world.item.ItemStack;
 
 public interface PresetData<T extends PathfinderMob> extends EasyNPC<T> {
 
+  String CUSTOM_NAME_TAG = "CustomName";
+  String CUSTOM_NAME_VISIBLE_TAG = "CustomNameVisible";
+  String ARMOR_ITEMS_TAG = "ArmorItems";
+  String HAND_ITEMS_TAG = "HandItems";
+  String LEFT_HANDED_TAG = "LeftHanded";
+  String POS_TAG = "Pos";
+
   default CompoundTag exportPresetData() {
     return this.serializePresetData();
   }
 
+  default CompoundTag exportCompactPresetData() {
+    CompoundTag compoundTag = new CompoundTag();
+    Mob mob = this.getMob();
+    if (mob == null || !(this instanceof EasyNPCBase<?> easyNPCBase)) {
+      return compoundTag;
+    }
+    String entityTypeId = this.getEntityTypeId();
+    if (entityTypeId != null) {
+      compoundTag.putString(Entity.ID_TAG, entityTypeId);
+    }
+
+    // Position and UUID allow the preset command to restore or replace the original NPC.
+    ListTag posTag = new ListTag();
+    posTag.add(DoubleTag.valueOf(mob.getX()));
+    posTag.add(DoubleTag.valueOf(mob.getY()));
+    posTag.add(DoubleTag.valueOf(mob.getZ()));
+    compoundTag.put(POS_TAG, posTag);
+    compoundTag.putUUID(Entity.UUID_TAG, mob.getUUID());
+
+    // Only store the Easy NPC data sections and the relevant vanilla data.
+    easyNPCBase.addEasyNPCBaseAdditionalSaveData(compoundTag);
+    if (mob.getCustomName() != null) {
+      compoundTag.putString(CUSTOM_NAME_TAG, Component.Serializer.toJson(mob.getCustomName()));
+    }
+    if (mob.isCustomNameVisible()) {
+      compoundTag.putBoolean(CUSTOM_NAME_VISIBLE_TAG, true);
+    }
+    if (mob.isLeftHanded()) {
+      compoundTag.putBoolean(LEFT_HANDED_TAG, true);
+    }
+    ListTag armorItemsTag = new ListTag();
+    for (ItemStack itemStack : mob.getArmorSlots()) {
+      armorItemsTag.add(itemStack.save(new CompoundTag()));
+    }
+    compoundTag.put(ARMOR_ITEMS_TAG, armorItemsTag);
+    ListTag handItemsTag = new ListTag();
+    for (ItemStack itemStack : mob.getHandSlots()) {
+      handItemsTag.add(itemStack.save(new CompoundTag()));
+    }
+    compoundTag.put(HAND_ITEMS_TAG, handItemsTag);
+    return compoundTag;
+  }
+
   default void importPresetData(CompoundTag compoundTag) {
 
     // Skip import if no data is or no entity is available.
@@ -55,6 +114,12 @@ public interface PresetData<T extends PathfinderMob> extends EasyNPC<T> {
       this.getEasyNPCDialogData().clearDialogDataSet();
     }
 
+    // Compact presets only contain the Easy NPC data sections and could be read directly.
+    if (CompactPresetFormat.isCompactPreset(compoundTag)) {
+      this.importCompactPresetData(compoundTag);
+      return;
+    }
+
     // If preset contains id and pos then we can import it directly, otherwise we
     // need to merge it with existing data.
     if (!compoundTag.contains(Entity.UUID_TAG) && !compoundTag.contains("Pos")) {
@@ -101,6 +166,54 @@ public interface PresetData<T extends PathfinderMob> extends EasyNPC<T> {
     this.getEntity().load(compoundTag);
   }
 
+  private void importCompactPresetData(CompoundTag compoundTag) {
+    Mob mob = this.getMob();
+    if (mob == null || !(this instanceof EasyNPCBase<?> easyNPCBase)) {
+      return;
+    }
+    log.debug("Importing compact preset {} for {}", compoundTag, this);
+    easyNPCBase.readEasyNPCBaseAdditionalSaveData(compoundTag);
+    this.getSaveDataCache().markAllDirty();
+
+    // Vanilla data, which is included in the compact preset.
+    if (compoundTag.contains(CUSTOM_NAME_TAG, Tag.TAG_STRING)) {
+      mob.setCustomName(Component.Serializer.fromJson(compoundTag.getString(CUSTOM_NAME_TAG)));
+    }
+    mob.setCustomNameVisible(compoundTag.getBoolean(CUSTOM_NAME_VISIBLE_TAG));
+    mob.setLeftHanded(compoundTag.getBoolean(LEFT_HANDED_TAG));
+    if (compoundTag.contains(ARMOR_ITEMS_TAG, Tag.TAG_LIST)) {
+      ListTag armorItemsTag = compoundTag.getList(ARMOR_ITEMS_TAG, Tag.TAG_COMPOUND);
+      for (EquipmentSlot equipmentSlot : EquipmentSlot.values()) {
+        if (equipmentSlot.getType() == EquipmentSlot.Type.ARMOR
+            && equipmentSlot.getIndex() < armorItemsTag.size()) {
+          mob.setItemSlot(
+              equipmentSlot, ItemStack.of(armorItemsTag.getCompound(equipmentSlot.getIndex())));
+        }
+      }
+    }
+    if (compoundTag.contains(HAND_ITEMS_TAG, Tag.TAG_LIST)) {
+      ListTag handItemsTag = compoundTag.getList(HAND_ITEMS_TAG, Tag.TAG_COMPOUND);
+      for (EquipmentSlot equipmentSlot : EquipmentSlot.values()) {
+        if (equipmentSlot.getType() == EquipmentSlot.Type.HAND
+            && equipmentSlot.getIndex() < handItemsTag.size()) {
+          mob.setItemSlot(
+              equipmentSlot, ItemStack.of(handItemsTag.getCompound(equipmentSlot.getIndex())));
+        }
+      }
+    }
+
+    // Position and UUID could be set by the preset command.
+    if (compoundTag.contains(POS_TAG, Tag.TAG_LIST)) {
+      ListTag posTag = compoundTag.getList(POS_TAG, Tag.TAG_DOUBLE);
+      if (posTag.size() == 3) {
+        mob.setPos(posTag.getDouble(0), posTag.getDouble(1), posTag.getDouble(2));
+      }
+    }
+    if (compoundTag.hasUUID(Entity.UUID_TAG)) {
+      mob.setUUID(compoundTag.getUUID(Entity.UUID_TAG));
+    }
+  }
+
   default String getEntityTypeId() {
     if (this.getEntity() == null) {
       return null;
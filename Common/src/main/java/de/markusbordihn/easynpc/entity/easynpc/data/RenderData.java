@@ -39,11 +39,11 @@ public interface RenderData<E extends PathfinderMob> extends EasyNPC<E> {
   EntityDataSerializer<RenderDataSet> RENDER_DATA_SET =
       new EntityDataSerializer<>() {
         public void write(FriendlyByteBuf buffer, RenderDataSet value) {
-          buffer.writeNbt(value.createTag());
+          value.write(buffer);
         }
 
         public RenderDataSet read(FriendlyByteBuf buffer) {
-          return new RenderDataSet(buffer.readNbt());
+          return RenderDataSet.read(buffer);
         }
 
         public RenderDataSet copy(RenderDataSet value) {
@@ -74,9 +74,8 @@ public interface RenderData<E extends PathfinderMob> extends EasyNPC<E> {
   }
 
   default void updateRenderData() {
-    RenderDataSet renderData = this.getRenderData();
-    this.setRenderData(new RenderDataSet());
-    this.setRenderData(renderData);
+    // The render data set is changed in place, so force a single sync of the current value.
+    this.setSynchedEntityData(SynchedDataIndex.RENDER_DATA, this.getRenderData(), true);
   }
 
   default void addAdditionalRenderData(CompoundTag compoundTag) {
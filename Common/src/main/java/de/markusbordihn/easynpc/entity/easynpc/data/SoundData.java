@@ -19,6 +19,8 @@
 
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
+import de.markusbordihn.easynpc.data.cache.SaveDataCache.Section;
+import de.markusbordihn.easynpc.data.cache.SharedDataSetCache;
 import de.markusbordihn.easynpc.data.sound.SoundDataEntry;
 import de.markusbordihn.easynpc.data.sound.SoundDataSet;
 import de.markusbordihn.easynpc.data.sound.SoundType;
@@ -48,13 +50,15 @@ public interface SoundData<E extends PathfinderMob> extends EasyNPC<E> {
         }
 
         public SoundDataSet read(FriendlyByteBuf buffer) {
-          return new SoundDataSet(buffer.readNbt());
+          return SHARED_SOUND_DATA_SETS.get(buffer.readNbt());
         }
 
         public SoundDataSet copy(SoundDataSet value) {
           return value;
         }
       };
+  SharedDataSetCache<SoundDataSet> SHARED_SOUND_DATA_SETS =
+      new SharedDataSetCache<>(compoundTag -> new SoundDataSet(compoundTag).markShared());
   String EASY_NPC_DATA_SOUND_DATA_TAG = "SoundData";
 
   static void registerSyncedSoundData(
@@ -173,6 +177,13 @@ public interface SoundData<E extends PathfinderMob> extends EasyNPC<E> {
   }
 
   default void addAdditionalSoundData(CompoundTag compoundTag) {
+    // Reuse the last serialized sound data, if the sound data and variant were not changed.
+    CompoundTag cachedSoundDataTag = this.getSaveDataCache().get(Section.SOUND, null);
+    if (cachedSoundDataTag != null) {
+      compoundTag.put(EASY_NPC_DATA_SOUND_DATA_TAG, cachedSoundDataTag);
+      return;
+    }
+
     CompoundTag soundDataTag = new CompoundTag();
 
     SoundDataSet soundDataSet = this.getSoundDataSet();
@@ -186,7 +197,9 @@ public interface SoundData<E extends PathfinderMob> extends EasyNPC<E> {
       defaultSoundDataSet.save(soundDataTag);
     }
 
-    compoundTag.put(EASY_NPC_DATA_SOUND_DATA_TAG, soundDataTag);
+    compoundTag.put(
+        EASY_NPC_DATA_SOUND_DATA_TAG,
+        this.getSaveDataCache().put(Section.SOUND, null, soundDataTag));
   }
 
   default void readAdditionalSoundData(CompoundTag compoundTag) {
@@ -197,7 +210,7 @@ public interface SoundData<E extends PathfinderMob> extends EasyNPC<E> {
     CompoundTag soundDataTag = compoundTag.getCompound(EASY_NPC_DATA_SOUND_DATA_TAG);
 
     if (soundDataTag.contains(SoundDataSet.DATA_SOUND_DATA_SET_TAG)) {
-      SoundDataSet soundDataSet = new SoundDataSet(soundDataTag);
+      SoundDataSet soundDataSet = SHARED_SOUND_DATA_SETS.get(soundDataTag);
       this.setSoundDataSet(soundDataSet);
     }
   }
@@ -22,6 +22,7 @@ package de.markusbordihn.easynpc.entity.easynpc.data;
 import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
 import de.markusbordihn.easynpc.data.server.ServerDataIndex;
 import de.markusbordihn.easynpc.data.server.ServerEntityData;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import java.util.UUID;
 import net.minecraft.nbt.CompoundTag;
@@ -66,6 +67,7 @@ public interface SpawnerData<T extends PathfinderMob> extends EasyNPC<T> {
 
   default void setSpawnerUUID(UUID uuid) {
     this.setServerEntityData(CUSTOM_DATA_SPAWNER_UUID, uuid);
+    LivingEntityManager.updateEasyNPC(this);
   }
 
   default void defineCustomSpawnerData() {
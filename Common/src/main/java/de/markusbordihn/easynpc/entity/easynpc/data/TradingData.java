@@ -20,11 +20,18 @@
 package de.markusbordihn.easynpc.entity.easynpc.data;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.cache.SaveDataCache.Section;
+import de.markusbordihn.easynpc.data.server.ServerDataAccessor;
+import de.markusbordihn.easynpc.data.server.ServerDataIndex;
+import de.markusbordihn.easynpc.data.server.ServerEntityData;
 import de.markusbordihn.easynpc.data.synched.SynchedDataIndex;
+import de.markusbordihn.easynpc.data.trading.TradeStock;
+import de.markusbordihn.easynpc.data.trading.TradeTable;
 import de.markusbordihn.easynpc.data.trading.TradingSettings;
 import de.markusbordihn.easynpc.data.trading.TradingType;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import java.util.EnumMap;
+import java.util.UUID;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
@@ -40,6 +47,7 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.MerchantMenu;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.trading.Merchant;
 import net.minecraft.world.item.trading.MerchantOffer;
@@ -76,6 +84,25 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
           return value;
         }
       };
+  EntityDataSerializer<TradeStock> TRADE_STOCK =
+      new EntityDataSerializer<>() {
+        public void write(FriendlyByteBuf buffer, TradeStock value) {
+          buffer.writeNbt(value.save());
+        }
+
+        public TradeStock read(FriendlyByteBuf buffer) {
+          return TradeStock.load(buffer.readNbt());
+        }
+
+        public TradeStock copy(TradeStock value) {
+          return value;
+        }
+      };
+  ServerDataAccessor<Boolean> CUSTOM_DATA_TRADING_PER_PLAYER_STOCK =
+      ServerEntityData.defineId(
+          ServerDataIndex.TRADING_PER_PLAYER_STOCK, EntityDataSerializers.BOOLEAN);
+  ServerDataAccessor<TradeStock> CUSTOM_DATA_TRADING_STOCK =
+      ServerEntityData.defineId(ServerDataIndex.TRADING_STOCK, TRADE_STOCK);
   String DATA_TRADING_INVENTORY_TAG = "Inventory";
   String DATA_TRADING_OFFERS_TAG = "Offers";
   String DATA_TRADING_RECIPES_TAG = "Recipes";
@@ -83,6 +110,8 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
   String DATA_TRADING_RESETS_EVERY_MIN_TAG = "ResetsEveryMin";
   String DATA_TRADING_BASIC_MAX_USES_TAG = "BasicMaxUses";
   String DATA_TRADING_BASIC_REWARDED_XP_TAG = "BasicRewardedXP";
+  String DATA_TRADING_PER_PLAYER_STOCK_TAG = "PerPlayerStock";
+  String DATA_TRADING_STOCK_TAG = "Stock";
 
   static void registerSyncedTradingData(
       EnumMap<SynchedDataIndex, EntityDataAccessor<?>> map, Class<? extends Entity> entityClass) {
@@ -112,6 +141,8 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
 
   void updateTradesData();
 
+  void updateTradesData(Player player);
+
   Player getTradingPlayer();
 
   void setTradingPlayer(Player player);
@@ -251,18 +282,95 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
   }
 
   default void resetTradingOffers() {
-    MerchantOffers merchantOffers = this.getTradingOffers();
+    // Per-player stock expires lazily, so only outdated entries need to be removed.
+    if (this.getTradingPerPlayerStock()) {
+      if (this.getTradingStock().removeExpired(
+          this.getLevel().getGameTime(), this.getTradingStockResetTicks())) {
+        this.getSaveDataCache().markDirty(Section.TRADING);
+        if (this.getTradingPlayer() instanceof ServerPlayer serverPlayer) {
+          this.updateTradesData(serverPlayer);
+          this.sendTradingOffers(serverPlayer);
+        }
+      }
+      return;
+    }
+
+    MerchantOffers merchantOffers = this.getOffers();
     if (merchantOffers == null || merchantOffers.isEmpty()) {
       return;
     }
 
-    // Reset trading offers
+    // Reset the use counters only, the trade definitions are not changed.
+    boolean hasChanged = false;
     for (MerchantOffer merchantOffer : merchantOffers) {
-      merchantOffer.resetUses();
+      if (merchantOffer.getUses() > 0) {
+        merchantOffer.resetUses();
+        hasChanged = true;
+      }
     }
 
-    // Update trading offers
-    this.setTradingOffers(merchantOffers);
+    // Only one player could trade at a time, which is the only client with the merchant offers.
+    if (hasChanged && this.getTradingPlayer() instanceof ServerPlayer serverPlayer) {
+      this.sendTradingOffers(serverPlayer);
+    }
+  }
+
+  default void sendTradingOffers(ServerPlayer serverPlayer) {
+    MerchantOffers merchantOffers = this.getOffers();
+    if (merchantOffers != null && serverPlayer.containerMenu instanceof MerchantMenu) {
+      serverPlayer.sendMerchantOffers(
+          serverPlayer.containerMenu.containerId,
+          merchantOffers,
+          0,
+          this.getVillagerXp(),
+          this.showProgressBar(),
+          this.canRestock());
+    }
+  }
+
+  default boolean getTradingPerPlayerStock() {
+    Boolean perPlayerStock = getServerEntityData(CUSTOM_DATA_TRADING_PER_PLAYER_STOCK);
+    return perPlayerStock != null && perPlayerStock;
+  }
+
+  default void setTradingPerPlayerStock(boolean perPlayerStock) {
+    setServerEntityData(CUSTOM_DATA_TRADING_PER_PLAYER_STOCK, perPlayerStock);
+    this.updateTradesData();
+  }
+
+  default TradeStock getTradingStock() {
+    return getServerEntityData(CUSTOM_DATA_TRADING_STOCK);
+  }
+
+  default long getTradingStockResetTicks() {
+    return this.getTradingResetsEveryMin() * 60L * 20L;
+  }
+
+  default int[] getTradingStockUses(UUID playerUUID) {
+    TradeStock tradeStock = this.getTradingStock();
+    if (tradeStock == null || playerUUID == null) {
+      return new int[0];
+    }
+    return tradeStock.getUses(
+        playerUUID, this.getLevel().getGameTime(), this.getTradingStockResetTicks());
+  }
+
+  default void increaseTradingStockUses(UUID playerUUID, int offerIndex) {
+    TradeStock tradeStock = this.getTradingStock();
+    if (tradeStock == null || playerUUID == null) {
+      return;
+    }
+    tradeStock.increaseUses(
+        playerUUID, offerIndex, this.getLevel().getGameTime(), this.getTradingStockResetTicks());
+    this.getSaveDataCache().markDirty(Section.TRADING);
+  }
+
+  default void resetTradingStock() {
+    TradeStock tradeStock = this.getTradingStock();
+    if (tradeStock != null && !tradeStock.isEmpty()) {
+      tradeStock.clear();
+      this.getSaveDataCache().markDirty(Section.TRADING);
+    }
   }
 
   default MerchantOffers getTradingOffers() {
@@ -270,9 +378,14 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
   }
 
   default void setTradingOffers(MerchantOffers merchantOffers) {
-    // Force update and client sync because of weak change detection.
-    setSynchedEntityData(SynchedDataIndex.TRADING_MERCHANT_OFFERS, new MerchantOffers());
-    setSynchedEntityData(SynchedDataIndex.TRADING_MERCHANT_OFFERS, merchantOffers);
+    // Per-player use counters are indexed by the trade definitions and only valid for them.
+    if (this.isServerSide()
+        && !TradeTable.of(merchantOffers).equals(TradeTable.of(this.getTradingOffers()))) {
+      this.resetTradingStock();
+    }
+
+    // Force client sync because of weak change detection for mutated offers.
+    setSynchedEntityData(SynchedDataIndex.TRADING_MERCHANT_OFFERS, merchantOffers, true);
     this.updateTradesData();
   }
 
@@ -456,6 +569,9 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
       log.debug(
           "Open trading screen for {} with {} from {}", this, merchant.getOffers(), serverPlayer);
       merchant.setTradingPlayer(serverPlayer);
+      if (this.getTradingPerPlayerStock()) {
+        this.updateTradesData(serverPlayer);
+      }
       merchant.openTradingScreen(
           serverPlayer,
           this.getEntity().getCustomName() != null
@@ -475,7 +591,19 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
     defineSynchedEntityData(SynchedDataIndex.TRADING_BASIC_REWARDED_XP, 1);
   }
 
+  default void defineCustomTradingData() {
+    defineServerEntityData(CUSTOM_DATA_TRADING_PER_PLAYER_STOCK, false);
+    defineServerEntityData(CUSTOM_DATA_TRADING_STOCK, new TradeStock());
+  }
+
   default void addAdditionalTradingData(CompoundTag compoundTag) {
+    // Reuse the last serialized trading data, if the trading data was not changed.
+    CompoundTag cachedTradingTag = this.getSaveDataCache().get(Section.TRADING, null);
+    if (cachedTradingTag != null) {
+      compoundTag.put(DATA_TRADING_OFFERS_TAG, cachedTradingTag);
+      return;
+    }
+
     CompoundTag tradingTag = new CompoundTag();
 
     tradingTag.put(DATA_TRADING_INVENTORY_TAG, getTradingInventory());
@@ -484,8 +612,13 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
     tradingTag.putInt(DATA_TRADING_RESETS_EVERY_MIN_TAG, getTradingResetsEveryMin());
     tradingTag.putInt(DATA_TRADING_BASIC_MAX_USES_TAG, getBasicTradingMaxUses());
     tradingTag.putInt(DATA_TRADING_BASIC_REWARDED_XP_TAG, getBasicTradingRewardExp());
+    if (this.isServerSide() && this.getTradingPerPlayerStock()) {
+      tradingTag.putBoolean(DATA_TRADING_PER_PLAYER_STOCK_TAG, true);
+      tradingTag.put(DATA_TRADING_STOCK_TAG, this.getTradingStock().save());
+    }
 
-    compoundTag.put(DATA_TRADING_OFFERS_TAG, tradingTag);
+    compoundTag.put(
+        DATA_TRADING_OFFERS_TAG, this.getSaveDataCache().put(Section.TRADING, null, tradingTag));
   }
 
   default void readAdditionalTradingData(CompoundTag compoundTag) {
@@ -511,12 +644,24 @@ public interface TradingData<E extends PathfinderMob> extends EasyNPC<E>, Mercha
       this.setBasicTradingRewardExp(tradingTag.getInt(DATA_TRADING_BASIC_REWARDED_XP_TAG));
     }
 
-    if (tradingTag.contains(DATA_TRADING_RECIPES_TAG)) {
+    // Trading offers need to be set before the stock, because new offers reset the stock.
+    boolean hasTradingRecipes = tradingTag.contains(DATA_TRADING_RECIPES_TAG);
+    if (hasTradingRecipes) {
       MerchantOffers merchantOffers =
           new MerchantOffers(tradingTag.getCompound(DATA_TRADING_RECIPES_TAG));
       if (!merchantOffers.isEmpty()) {
         this.setTradingOffers(merchantOffers);
       }
+    }
+
+    if (this.isServerSide()) {
+      this.setTradingPerPlayerStock(tradingTag.getBoolean(DATA_TRADING_PER_PLAYER_STOCK_TAG));
+      this.setServerEntityData(
+          CUSTOM_DATA_TRADING_STOCK,
+          TradeStock.load(tradingTag.getCompound(DATA_TRADING_STOCK_TAG)));
+    }
+
+    if (hasTradingRecipes) {
       return;
     }
 
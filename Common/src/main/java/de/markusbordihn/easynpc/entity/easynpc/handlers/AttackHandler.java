@@ -20,13 +20,20 @@
 package de.markusbordihn.easynpc.entity.easynpc.handlers;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.attack.ProjectileBudget;
 import de.markusbordihn.easynpc.item.ModItemTags;
+import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.monster.CrossbowAttackMob;
 import net.minecraft.world.entity.projectile.AbstractArrow;
@@ -38,10 +45,19 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.ProjectileWeaponItem;
 import net.minecraft.world.item.TieredItem;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
 
 public class AttackHandler {
 
   public static final String CHARGED_PROJECTILES_TAG = "ChargedProjectiles";
+  public static final double HIT_SCAN_RANGE = 64.0D;
+  private static final float PROJECTILE_VELOCITY = 1.6F;
+  private static final int MAX_TRACER_PARTICLES = 6;
 
   private AttackHandler() {}
 
@@ -108,6 +124,26 @@ public class AttackHandler {
 
   public static void performDefaultRangedAttack(
       LivingEntity livingEntity, LivingEntity targedtedLivingEntity, float damage) {
+    performDefaultRangedAttack(livingEntity, targedtedLivingEntity, damage, false);
+  }
+
+  public static void performDefaultRangedAttack(
+      LivingEntity livingEntity,
+      LivingEntity targedtedLivingEntity,
+      float damage,
+      boolean hitScan) {
+    if (livingEntity == null || targedtedLivingEntity == null) {
+      return;
+    }
+
+    // Use hit-scan attacks, if enabled or if the projectile budget of the level is exhausted.
+    SoundEvent hitScanSound = getHitScanSound(livingEntity);
+    if (hitScanSound != null
+        && (hitScan || !ProjectileBudget.hasBudget(livingEntity.level()))) {
+      performHitScanAttack(livingEntity, targedtedLivingEntity, damage, hitScanSound);
+      return;
+    }
+
     if (isHoldingBowWeapon(livingEntity)) {
       performBowAttack(livingEntity, targedtedLivingEntity, damage);
     } else if (livingEntity instanceof CrossbowAttackMob crossbowAttackMob
@@ -119,6 +155,110 @@ public class AttackHandler {
     }
   }
 
+  private static SoundEvent getHitScanSound(LivingEntity livingEntity) {
+    if (isHoldingBowWeapon(livingEntity)) {
+      return SoundEvents.SKELETON_SHOOT;
+    } else if (isHoldingCrossbowWeapon(livingEntity)) {
+      return SoundEvents.CROSSBOW_SHOOT;
+    } else if (isHoldingGunWeapon(livingEntity)) {
+      return SoundEvents.FIRECHARGE_USE;
+    }
+    return null;
+  }
+
+  /**
+   * Performs a ranged attack as a raycast instead of a projectile entity. The damage and spread
+   * follow the values of a mob arrow and the shot is shown by a short particle tracer.
+   */
+  public static void performHitScanAttack(
+      LivingEntity livingEntity,
+      LivingEntity livingEntityTarget,
+      float damage,
+      SoundEvent soundEvent) {
+    if (!(livingEntity.level() instanceof ServerLevel serverLevel)) {
+      return;
+    }
+
+    // Calculate the shot direction with the same spread as a mob arrow.
+    Vec3 startPosition = livingEntity.getEyePosition();
+    Vec3 targetPosition =
+        new Vec3(
+            livingEntityTarget.getX(), livingEntityTarget.getY(0.5D), livingEntityTarget.getZ());
+    Vec3 targetDirection = targetPosition.subtract(startPosition);
+    double distance = Math.min(targetDirection.length() + 1.0D, HIT_SCAN_RANGE);
+    float inaccuracy = 14.0F - serverLevel.getDifficulty().getId() * 4;
+    RandomSource random = livingEntity.getRandom();
+    Vec3 direction =
+        targetDirection
+            .normalize()
+            .add(
+                random.triangle(0.0D, 0.0172275D * inaccuracy),
+                random.triangle(0.0D, 0.0172275D * inaccuracy),
+                random.triangle(0.0D, 0.0172275D * inaccuracy))
+            .normalize();
+    Vec3 endPosition = startPosition.add(direction.scale(distance));
+
+    // Blocks stop the shot, the first hit entity receives the damage.
+    BlockHitResult blockHitResult =
+        serverLevel.clip(
+            new ClipContext(
+                startPosition,
+                endPosition,
+                ClipContext.Block.COLLIDER,
+                ClipContext.Fluid.NONE,
+                livingEntity));
+    if (blockHitResult.getType() != HitResult.Type.MISS) {
+      endPosition = blockHitResult.getLocation();
+    }
+    EntityHitResult entityHitResult =
+        ProjectileUtil.getEntityHitResult(
+            serverLevel,
+            livingEntity,
+            startPosition,
+            endPosition,
+            new AABB(startPosition, endPosition).inflate(1.0D),
+            entity ->
+                entity != livingEntity
+                    && !entity.isSpectator()
+                    && entity.isPickable()
+                    && !livingEntity.isPassengerOfSameVehicle(entity));
+    if (entityHitResult != null) {
+      endPosition = entityHitResult.getLocation();
+      Entity entity = entityHitResult.getEntity();
+      float hitDamage =
+          Mth.ceil(
+              PROJECTILE_VELOCITY
+                  * (damage * 2.0F + serverLevel.getDifficulty().getId() * 0.11F));
+      entity.hurt(
+          livingEntity.damageSources().mobProjectile(livingEntity, livingEntity), hitDamage);
+    }
+
+    sendTracer(serverLevel, startPosition, endPosition);
+    livingEntity.playSound(
+        soundEvent, 1.0F, 1.0F / (livingEntity.getRandom().nextFloat() * 0.4F + 0.8F));
+  }
+
+  /**
+   * Sends the tracer of a hit-scan shot as a single particle packet. The particles are spread
+   * around the middle of the shot, so that they cover the line between start and end position.
+   */
+  private static void sendTracer(ServerLevel serverLevel, Vec3 startPosition, Vec3 endPosition) {
+    int particles =
+        Mth.clamp(Mth.ceil(startPosition.distanceTo(endPosition) / 2.0D), 1, MAX_TRACER_PARTICLES);
+    Vec3 middlePosition = startPosition.lerp(endPosition, 0.5D);
+    Vec3 spread = endPosition.subtract(startPosition).scale(0.25D);
+    serverLevel.sendParticles(
+        ParticleTypes.CRIT,
+        middlePosition.x,
+        middlePosition.y,
+        middlePosition.z,
+        particles,
+        Math.abs(spread.x),
+        Math.abs(spread.y),
+        Math.abs(spread.z),
+        0.0D);
+  }
+
   public static InteractionHand getBowHoldingHand(LivingEntity livingEntity) {
     ItemStack itemStack = livingEntity.getMainHandItem();
     return isBowWeapon(itemStack) ? InteractionHand.MAIN_HAND : InteractionHand.OFF_HAND;
@@ -153,6 +293,7 @@ public class AttackHandler {
           1.0F,
           1.0F / (livingEntity.getRandom().nextFloat() * 0.4F + 0.8F));
       livingEntity.level().addFreshEntity(abstractArrow);
+      ProjectileBudget.track(abstractArrow);
     }
   }
 
@@ -177,6 +318,7 @@ public class AttackHandler {
           1.0F,
           1.0F / (livingEntity.getRandom().nextFloat() * 0.4F + 0.8F));
       livingEntity.level().addFreshEntity(abstractArrow);
+      ProjectileBudget.track(abstractArrow);
     }
   }
 
@@ -23,7 +23,6 @@ import de.markusbordihn.easynpc.data.skin.SkinModel;
 import de.markusbordihn.easynpc.data.sound.SoundDataSet;
 import de.markusbordihn.easynpc.data.sound.SoundType;
 import de.markusbordihn.easynpc.entity.EasyNPCBaseModelEntity;
-import de.markusbordihn.easynpc.utils.TextUtils;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.entity.EntityType;
@@ -61,9 +60,9 @@ public class ZombieVillager extends EasyNPCBaseModelEntity<ZombieVillager> {
 
   @Override
   public Component getName() {
-    Component component = this.getCustomName();
+    Component component = this.getSanitizedCustomName();
     if (component != null) {
-      return TextUtils.removeAction(component);
+      return component;
     }
     Component professionName = getProfessionName();
     Component variantName = getVariantName();
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.io;
+
+import de.markusbordihn.easynpc.Constants;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagTypes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Compact and versioned preset format, which only contains the Easy NPC data sections. All
+ * compound keys and string values are stored once in a string table and referenced by index, so
+ * repeated dialog texts and keys are only stored once. Files are still gzip compressed and use the
+ * same ".npc.nbt" suffix, the reader detects the format and falls back to plain NBT for legacy
+ * presets.
+ */
+public final class CompactPresetFormat {
+
+  public static final String PRESET_FORMAT_TAG = "PresetFormat";
+  public static final int VERSION = 1;
+  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final int MAGIC = 0x454E5043; // "ENPC"
+  private static final int MAX_DEPTH = 512;
+  private static final int MAX_STRING_TABLE_SIZE = 1 << 20;
+
+  private CompactPresetFormat() {}
+
+  public static boolean isCompactPreset(CompoundTag compoundTag) {
+    return compoundTag != null && compoundTag.contains(PRESET_FORMAT_TAG, Tag.TAG_INT);
+  }
+
+  public static CompoundTag read(File file) throws IOException {
+    try (InputStream inputStream = new FileInputStream(file)) {
+      return read(inputStream);
+    }
+  }
+
+  public static CompoundTag read(InputStream inputStream) throws IOException {
+    DataInputStream dataInputStream =
+        new DataInputStream(new BufferedInputStream(new GZIPInputStream(inputStream)));
+    dataInputStream.mark(Integer.BYTES);
+    if (dataInputStream.readInt() != MAGIC) {
+      dataInputStream.reset();
+      return NbtIo.read(dataInputStream);
+    }
+
+    int version = readVarInt(dataInputStream);
+    if (version < 1 || version > VERSION) {
+      throw new IOException("Unsupported compact preset version " + version + "!");
+    }
+
+    // Read string table.
+    int stringTableSize = readVarInt(dataInputStream);
+    if (stringTableSize < 0 || stringTableSize > MAX_STRING_TABLE_SIZE) {
+      throw new IOException("Invalid compact preset string table size " + stringTableSize + "!");
+    }
+    String[] stringTable = new String[stringTableSize];
+    for (int index = 0; index < stringTableSize; index++) {
+      stringTable[index] = dataInputStream.readUTF();
+    }
+
+    // Read sections directly into the resulting compound tag.
+    CompoundTag compoundTag = readCompound(dataInputStream, stringTable, 0);
+    compoundTag.putInt(PRESET_FORMAT_TAG, version);
+    return compoundTag;
+  }
+
+  public static void write(CompoundTag compoundTag, File file) throws IOException {
+    try (OutputStream outputStream = new FileOutputStream(file)) {
+      write(compoundTag, outputStream);
+    }
+  }
+
+  public static void write(CompoundTag compoundTag, OutputStream outputStream) throws IOException {
+    // First pass: collect all keys and string values.
+    Map<String, Integer> stringIndexMap = new HashMap<>();
+    List<String> stringTable = new ArrayList<>();
+    collectStrings(compoundTag, stringIndexMap, stringTable);
+
+    // Second pass: write header, string table and tags.
+    DataOutputStream dataOutputStream =
+        new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(outputStream)));
+    dataOutputStream.writeInt(MAGIC);
+    writeVarInt(dataOutputStream, VERSION);
+    writeVarInt(dataOutputStream, stringTable.size());
+    for (String string : stringTable) {
+      dataOutputStream.writeUTF(string);
+    }
+    writeCompound(dataOutputStream, compoundTag, stringIndexMap);
+    dataOutputStream.flush();
+    dataOutputStream.close();
+    log.debug("Wrote compact preset with {} unique strings.", stringTable.size());
+  }
+
+  private static void collectStrings(
+      Tag tag, Map<String, Integer> stringIndexMap, List<String> stringTable) {
+    if (tag instanceof CompoundTag compoundTag) {
+      for (String key : compoundTag.getAllKeys()) {
+        if (!PRESET_FORMAT_TAG.equals(key)) {
+          addString(key, stringIndexMap, stringTable);
+          collectStrings(compoundTag.get(key), stringIndexMap, stringTable);
+        }
+      }
+    } else if (tag instanceof ListTag listTag) {
+      for (Tag entry : listTag) {
+        collectStrings(entry, stringIndexMap, stringTable);
+      }
+    } else if (tag instanceof StringTag stringTag) {
+      addString(stringTag.getAsString(), stringIndexMap, stringTable);
+    }
+  }
+
+  private static void addString(
+      String string, Map<String, Integer> stringIndexMap, List<String> stringTable) {
+    if (!stringIndexMap.containsKey(string)) {
+      stringIndexMap.put(string, stringTable.size());
+      stringTable.add(string);
+    }
+  }
+
+  private static void writeCompound(
+      DataOutput dataOutput, CompoundTag compoundTag, Map<String, Integer> stringIndexMap)
+      throws IOException {
+    int size =
+        compoundTag.contains(PRESET_FORMAT_TAG) ? compoundTag.size() - 1 : compoundTag.size();
+    writeVarInt(dataOutput, size);
+    for (String key : compoundTag.getAllKeys()) {
+      if (PRESET_FORMAT_TAG.equals(key)) {
+        continue;
+      }
+      Tag tag = compoundTag.get(key);
+      writeVarInt(dataOutput, stringIndexMap.get(key));
+      dataOutput.writeByte(tag.getId());
+      writeTag(dataOutput, tag, stringIndexMap);
+    }
+  }
+
+  private static void writeTag(DataOutput dataOutput, Tag tag, Map<String, Integer> stringIndexMap)
+      throws IOException {
+    if (tag instanceof CompoundTag compoundTag) {
+      writeCompound(dataOutput, compoundTag, stringIndexMap);
+    } else if (tag instanceof ListTag listTag) {
+      dataOutput.writeByte(listTag.isEmpty() ? Tag.TAG_END : listTag.getElementType());
+      writeVarInt(dataOutput, listTag.size());
+      for (Tag entry : listTag) {
+        writeTag(dataOutput, entry, stringIndexMap);
+      }
+    } else if (tag instanceof StringTag stringTag) {
+      writeVarInt(dataOutput, stringIndexMap.get(stringTag.getAsString()));
+    } else {
+      tag.write(dataOutput);
+    }
+  }
+
+  private static CompoundTag readCompound(DataInput dataInput, String[] stringTable, int depth)
+      throws IOException {
+    if (depth > MAX_DEPTH) {
+      throw new IOException("Compact preset exceeds maximum depth of " + MAX_DEPTH + "!");
+    }
+    CompoundTag compoundTag = new CompoundTag();
+    int size = readVarInt(dataInput);
+    for (int index = 0; index < size; index++) {
+      String key = getString(stringTable, readVarInt(dataInput));
+      compoundTag.put(key, readTag(dataInput, dataInput.readByte(), stringTable, depth + 1));
+    }
+    return compoundTag;
+  }
+
+  private static Tag readTag(DataInput dataInput, byte type, String[] stringTable, int depth)
+      throws IOException {
+    switch (type) {
+      case Tag.TAG_COMPOUND:
+        return readCompound(dataInput, stringTable, depth);
+      case Tag.TAG_LIST:
+        byte elementType = dataInput.readByte();
+        int size = readVarInt(dataInput);
+        if (size < 0 || (elementType == Tag.TAG_END && size > 0)) {
+          throw new IOException("Invalid compact preset list with size " + size + "!");
+        }
+        ListTag listTag = new ListTag();
+        for (int index = 0; index < size; index++) {
+          listTag.add(readTag(dataInput, elementType, stringTable, depth + 1));
+        }
+        return listTag;
+      case Tag.TAG_STRING:
+        return StringTag.valueOf(getString(stringTable, readVarInt(dataInput)));
+      case Tag.TAG_END:
+        throw new IOException("Unexpected end tag in compact preset!");
+      default:
+        return TagTypes.getType(type).load(dataInput, depth, NbtAccounter.UNLIMITED);
+    }
+  }
+
+  private static String getString(String[] stringTable, int index) throws IOException {
+    if (index < 0 || index >= stringTable.length) {
+      throw new IOException("Invalid compact preset string index " + index + "!");
+    }
+    return stringTable[index];
+  }
+
+  private static int readVarInt(DataInput dataInput) throws IOException {
+    int value = 0;
+    int position = 0;
+    byte currentByte;
+    do {
+      currentByte = dataInput.readByte();
+      value |= (currentByte & 0x7F) << position;
+      position += 7;
+      if (position > 35) {
+        throw new IOException("Compact preset VarInt is too big!");
+      }
+    } while ((currentByte & 0x80) != 0);
+    return value;
+  }
+
+  private static void writeVarInt(DataOutput dataOutput, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      dataOutput.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    dataOutput.writeByte(value);
+  }
+}
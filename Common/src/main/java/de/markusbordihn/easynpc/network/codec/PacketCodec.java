@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network.codec;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Loader-neutral definition of a client to server message. The id is used as channel name on
+ * Fabric, the message class and the registration order as discriminator on Forge. The handler is
+ * always called on the server thread.
+ */
+public record PacketCodec<M>(
+    ResourceLocation id,
+    Class<M> messageClass,
+    BiConsumer<M, FriendlyByteBuf> encoder,
+    Function<FriendlyByteBuf, M> decoder,
+    BiConsumer<M, ServerPlayer> handler) {
+
+  public FriendlyByteBuf encode(M message, FriendlyByteBuf buffer) {
+    this.encoder.accept(message, buffer);
+    return buffer;
+  }
+
+  public void handle(M message, ServerPlayer serverPlayer) {
+    if (message != null && serverPlayer != null) {
+      this.handler.accept(message, serverPlayer);
+    }
+  }
+}
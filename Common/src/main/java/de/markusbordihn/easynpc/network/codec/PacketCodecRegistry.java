@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network.codec;
+
+import de.markusbordihn.easynpc.network.message.ChangeNameMessage;
+import de.markusbordihn.easynpc.network.message.ChangeSpawnerSettingMessage;
+import de.markusbordihn.easynpc.network.message.DialogButtonActionMessage;
+import de.markusbordihn.easynpc.network.message.RemoveDialogButtonMessage;
+import de.markusbordihn.easynpc.network.message.RemoveDialogMessage;
+import de.markusbordihn.easynpc.network.message.RemoveNPCMessage;
+import de.markusbordihn.easynpc.network.message.RespawnNPCMessage;
+import de.markusbordihn.easynpc.network.message.SaveDialogButtonMessage;
+import de.markusbordihn.easynpc.network.message.SaveDialogMessage;
+import de.markusbordihn.easynpc.network.message.SaveDialogSetMessage;
+import de.markusbordihn.easynpc.network.message.TriggerActionEventMessage;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of all loader-neutral client to server messages. The order of the list is part of the
+ * network protocol for Forge, so new messages should only be added at the end.
+ */
+public class PacketCodecRegistry {
+
+  private static final List<PacketCodec<?>> SERVERBOUND_CODECS =
+      List.of(
+          ChangeSpawnerSettingMessage.CODEC,
+          ChangeNameMessage.CODEC,
+          DialogButtonActionMessage.CODEC,
+          RemoveNPCMessage.CODEC,
+          RespawnNPCMessage.CODEC,
+          TriggerActionEventMessage.CODEC,
+          RemoveDialogMessage.CODEC,
+          RemoveDialogButtonMessage.CODEC,
+          SaveDialogMessage.CODEC,
+          SaveDialogSetMessage.CODEC,
+          SaveDialogButtonMessage.CODEC);
+  private static final Map<Class<?>, PacketCodec<?>> CODEC_BY_CLASS = new HashMap<>();
+
+  static {
+    for (PacketCodec<?> packetCodec : SERVERBOUND_CODECS) {
+      CODEC_BY_CLASS.put(packetCodec.messageClass(), packetCodec);
+    }
+  }
+
+  private PacketCodecRegistry() {}
+
+  public static List<PacketCodec<?>> getServerboundCodecs() {
+    return SERVERBOUND_CODECS;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <M> PacketCodec<M> getCodec(Class<M> messageClass) {
+    return (PacketCodec<M>) CODEC_BY_CLASS.get(messageClass);
+  }
+
+  public static boolean hasCodec(Class<?> messageClass) {
+    return CODEC_BY_CLASS.containsKey(messageClass);
+  }
+}
@@ -19,53 +19,49 @@
 
 package de.markusbordihn.easynpc.network.message;
 
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
 import net.minecraft.network.chat.TextColor;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageNameChange extends NetworkMessage {
+public class ChangeNameMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "change_name");
+  public static final PacketCodec<ChangeNameMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          ChangeNameMessage.class,
+          ChangeNameMessage::encode,
+          ChangeNameMessage::decode,
+          ChangeNameMessage::handle);
 
   protected final String name;
   protected final int color;
 
-  public MessageNameChange(UUID uuid, String name, int color) {
+  public ChangeNameMessage(UUID uuid, String name, int color) {
     super(uuid);
     this.name = name;
     this.color = color;
   }
 
-  public static MessageNameChange decode(final FriendlyByteBuf buffer) {
-    return new MessageNameChange(buffer.readUUID(), buffer.readUtf(), buffer.readInt());
+  public static ChangeNameMessage decode(final FriendlyByteBuf buffer) {
+    return new ChangeNameMessage(buffer.readUUID(), buffer.readUtf(), buffer.readInt());
   }
 
-  public static void encode(final MessageNameChange message, final FriendlyByteBuf buffer) {
+  public static void encode(final ChangeNameMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUtf(message.getName());
-    buffer.writeInt(message.color);
-  }
-
-  public static void handle(
-      MessageNameChange message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
+    buffer.writeInt(message.getColor());
   }
 
-  public static void handlePacket(MessageNameChange message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      return;
-    }
-
+  public static void handle(final ChangeNameMessage message, ServerPlayer serverPlayer) {
     // Validate name.
     String name = message.getName();
     if (name == null || name.isEmpty()) {
@@ -73,17 +69,14 @@ public class MessageNameChange extends NetworkMessage {
       return;
     }
 
-    // Validate EasyNPC.
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+    // Validate EasyNPC and access.
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
     if (easyNPC == null) {
-      log.error("Invalid EasyNPC {} for {} from {}", easyNPC, message, serverPlayer);
       return;
     }
 
-    // Validate color.
-    int color = message.getColor();
-
     // Perform action.
+    int color = message.getColor();
     log.debug("Change name {} for {} from {} with color {}", name, easyNPC, serverPlayer, color);
     if (color >= 0) {
       Style style = Style.EMPTY.withColor(TextColor.fromRgb(color));
@@ -22,6 +22,7 @@ package de.markusbordihn.easynpc.network.message;
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.block.entity.BaseEasyNPCSpawnerBlockEntity;
 import de.markusbordihn.easynpc.data.spawner.SpawnerSettingType;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import io.netty.buffer.Unpooled;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
@@ -35,6 +36,13 @@ public class ChangeSpawnerSettingMessage {
 
   public static final ResourceLocation MESSAGE_ID =
       new ResourceLocation(Constants.MOD_ID, "change_spawner_settings");
+  public static final PacketCodec<ChangeSpawnerSettingMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          ChangeSpawnerSettingMessage.class,
+          ChangeSpawnerSettingMessage::encode,
+          ChangeSpawnerSettingMessage::decode,
+          ChangeSpawnerSettingMessage::handle);
   private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
   private final BlockPos spawnerPos;
   private final SpawnerSettingType settingType;
@@ -48,14 +56,14 @@ public class ChangeSpawnerSettingMessage {
 
   public static ChangeSpawnerSettingMessage decode(final FriendlyByteBuf buffer) {
     return new ChangeSpawnerSettingMessage(
-        buffer.readBlockPos(), buffer.readEnum(SpawnerSettingType.class), buffer.readInt());
+        buffer.readBlockPos(), buffer.readEnum(SpawnerSettingType.class), buffer.readVarInt());
   }
 
   public static FriendlyByteBuf encode(
       final ChangeSpawnerSettingMessage message, final FriendlyByteBuf buffer) {
     buffer.writeBlockPos(message.getSpawnerPos());
     buffer.writeEnum(message.getSettingType());
-    buffer.writeInt(message.getValue());
+    buffer.writeVarInt(message.getValue());
     return buffer;
   }
 
@@ -19,68 +19,72 @@
 
 package de.markusbordihn.easynpc.network.message;
 
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.data.action.ActionDataEntry;
 import de.markusbordihn.easynpc.data.dialog.DialogButtonData;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
 import de.markusbordihn.easynpc.entity.easynpc.handlers.ActionHandler;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageDialogButtonAction extends NetworkMessage {
+public class DialogButtonActionMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "dialog_button_action");
+  public static final PacketCodec<DialogButtonActionMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          DialogButtonActionMessage.class,
+          DialogButtonActionMessage::encode,
+          DialogButtonActionMessage::decode,
+          DialogButtonActionMessage::handle);
 
   protected final UUID dialogId;
   protected final UUID dialogButtonId;
 
-  public MessageDialogButtonAction(UUID uuid, UUID dialogId, UUID dialogButtonId) {
+  public DialogButtonActionMessage(UUID uuid, UUID dialogId, UUID dialogButtonId) {
     super(uuid);
     this.dialogId = dialogId;
     this.dialogButtonId = dialogButtonId;
   }
 
-  public static MessageDialogButtonAction decode(final FriendlyByteBuf buffer) {
-    return new MessageDialogButtonAction(buffer.readUUID(), buffer.readUUID(), buffer.readUUID());
+  public static DialogButtonActionMessage decode(final FriendlyByteBuf buffer) {
+    return new DialogButtonActionMessage(buffer.readUUID(), buffer.readUUID(), buffer.readUUID());
   }
 
-  public static void encode(final MessageDialogButtonAction message, final FriendlyByteBuf buffer) {
+  public static void encode(final DialogButtonActionMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUUID(message.getDialogId());
     buffer.writeUUID(message.getDialogButtonId());
   }
 
-  public static void handle(
-      MessageDialogButtonAction message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageDialogButtonAction message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
+  public static void handle(final DialogButtonActionMessage message, ServerPlayer serverPlayer) {
     UUID uuid = message.getUUID();
     if (serverPlayer == null || uuid == null) {
       log.error(
-          "Unable to trigger dialog button action event with message {} from {}", message, context);
+          "Unable to trigger dialog button action event with message {} from {}",
+          message,
+          serverPlayer);
       return;
     }
 
     // Validate dialog id.
     UUID dialogId = message.getDialogId();
     if (dialogId == null) {
-      log.error("Invalid dialog id for {} from {}", message, context);
+      log.error("Invalid dialog id for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate dialog button id.
     UUID dialogButtonId = message.getDialogButtonId();
     if (dialogButtonId == null) {
-      log.error("Invalid dialog button id for {} from {}", message, context);
+      log.error("Invalid dialog button id for {} from {}", message, serverPlayer);
       return;
     }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network.message;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.access.AccessType;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import java.util.UUID;
+import net.minecraft.server.level.ServerPlayer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Base for loader-neutral messages, which are targeting a single Easy NPC. */
+public class EasyNPCMessage {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  protected final UUID uuid;
+
+  public EasyNPCMessage(UUID uuid) {
+    this.uuid = uuid;
+  }
+
+  public static EasyNPC<?> getEasyNPC(UUID uuid, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+    if (easyNPC == null) {
+      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
+    }
+    return easyNPC;
+  }
+
+  public static EasyNPC<?> getEasyNPCWithAccess(UUID uuid, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPC(uuid, serverPlayer);
+    if (easyNPC != null && !AccessManager.hasAccess(serverPlayer, easyNPC, AccessType.EDIT)) {
+      log.error("User {} has no access to Easy NPC with uuid {}.", serverPlayer, uuid);
+      return null;
+    }
+    return easyNPC;
+  }
+
+  public UUID getUUID() {
+    return this.uuid;
+  }
+}
@@ -19,87 +19,68 @@
 
 package de.markusbordihn.easynpc.network.message;
 
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageRemoveDialogButton extends NetworkMessage {
+public class RemoveDialogButtonMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "remove_dialog_button");
+  public static final PacketCodec<RemoveDialogButtonMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          RemoveDialogButtonMessage.class,
+          RemoveDialogButtonMessage::encode,
+          RemoveDialogButtonMessage::decode,
+          RemoveDialogButtonMessage::handle);
 
   protected final UUID dialogId;
   protected final UUID dialogButtonId;
 
-  public MessageRemoveDialogButton(UUID uuid, UUID dialogId, UUID dialogButtonId) {
+  public RemoveDialogButtonMessage(UUID uuid, UUID dialogId, UUID dialogButtonId) {
     super(uuid);
     this.dialogId = dialogId;
     this.dialogButtonId = dialogButtonId;
   }
 
-  public static MessageRemoveDialogButton decode(final FriendlyByteBuf buffer) {
-    return new MessageRemoveDialogButton(buffer.readUUID(), buffer.readUUID(), buffer.readUUID());
+  public static RemoveDialogButtonMessage decode(final FriendlyByteBuf buffer) {
+    return new RemoveDialogButtonMessage(buffer.readUUID(), buffer.readUUID(), buffer.readUUID());
   }
 
-  public static void encode(final MessageRemoveDialogButton message, final FriendlyByteBuf buffer) {
+  public static void encode(final RemoveDialogButtonMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUUID(message.getDialogId());
     buffer.writeUUID(message.getDialogButtonId());
   }
 
-  public static void handle(
-      MessageRemoveDialogButton message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageRemoveDialogButton message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      log.error("Unable to remove dialog with message {} from {}", message, context);
-      return;
-    }
-
-    // Validate dialog ID
-    UUID dialogId = message.getDialogId();
-    if (dialogId == null) {
-      log.error("Invalid dialog id for {} from {}", message, context);
-      return;
-    }
-
-    // Validate dialog button ID
-    UUID dialogButtonId = message.getDialogButtonId();
-    if (dialogButtonId == null) {
-      log.error("Invalid dialog button id for {} from {}", message, context);
-      return;
-    }
-
-    // Validate entity.
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+  public static void handle(final RemoveDialogButtonMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
     if (easyNPC == null) {
-      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
       return;
     }
 
     // Validate dialog data
     DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
     if (dialogData == null) {
-      log.error("Invalid dialog data for {} from {}", message, context);
+      log.error("Invalid dialog data for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate dialog button
+    UUID dialogId = message.getDialogId();
+    UUID dialogButtonId = message.getDialogButtonId();
     if (!dialogData.hasDialog(dialogId) || !dialogData.hasDialogButton(dialogId, dialogButtonId)) {
       log.error(
           "Unknown delete dialog request for dialog button {} for dialog {} for {} from {}",
           dialogButtonId,
           dialogId,
-          uuid,
+          easyNPC,
           serverPlayer);
       return;
     }
@@ -19,76 +19,63 @@
 
 package de.markusbordihn.easynpc.network.message;
 
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageRemoveDialog extends NetworkMessage {
+public class RemoveDialogMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "remove_dialog");
+  public static final PacketCodec<RemoveDialogMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          RemoveDialogMessage.class,
+          RemoveDialogMessage::encode,
+          RemoveDialogMessage::decode,
+          RemoveDialogMessage::handle);
 
   protected final UUID dialogId;
 
-  public MessageRemoveDialog(UUID uuid, UUID dialogId) {
+  public RemoveDialogMessage(UUID uuid, UUID dialogId) {
     super(uuid);
     this.dialogId = dialogId;
   }
 
-  public static MessageRemoveDialog decode(final FriendlyByteBuf buffer) {
-    return new MessageRemoveDialog(buffer.readUUID(), buffer.readUUID());
+  public static RemoveDialogMessage decode(final FriendlyByteBuf buffer) {
+    return new RemoveDialogMessage(buffer.readUUID(), buffer.readUUID());
   }
 
-  public static void encode(final MessageRemoveDialog message, final FriendlyByteBuf buffer) {
+  public static void encode(final RemoveDialogMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUUID(message.getDialogId());
   }
 
-  public static void handle(
-      MessageRemoveDialog message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageRemoveDialog message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      log.error("Unable to remove dialog with message {} from {}", message, context);
-      return;
-    }
-
-    // Validate dialog ID
-    UUID dialogId = message.getDialogId();
-    if (dialogId == null) {
-      log.error("Invalid dialog id for {} from {}", message, context);
-      return;
-    }
-
-    // Validate entity.
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+  public static void handle(final RemoveDialogMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
     if (easyNPC == null) {
-      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
       return;
     }
 
     // Validate dialog data
     DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
     if (dialogData == null) {
-      log.error("Invalid dialog data for {} from {}", message, context);
+      log.error("Invalid dialog data for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate dialog
+    UUID dialogId = message.getDialogId();
     if (!dialogData.hasDialog(dialogId)) {
       log.error(
           "Unknown delete dialog request for dialog {} for {} from {}",
           dialogId,
-          uuid,
+          easyNPC,
           serverPlayer);
       return;
     }
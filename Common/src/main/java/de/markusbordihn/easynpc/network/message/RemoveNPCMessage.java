@@ -19,46 +19,46 @@
 
 package de.markusbordihn.easynpc.network.message;
 
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageRemoveNPC extends NetworkMessage {
+public class RemoveNPCMessage extends EasyNPCMessage {
 
-  public MessageRemoveNPC(UUID uuid) {
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "remove_npc");
+  public static final PacketCodec<RemoveNPCMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          RemoveNPCMessage.class,
+          RemoveNPCMessage::encode,
+          RemoveNPCMessage::decode,
+          RemoveNPCMessage::handle);
+
+  public RemoveNPCMessage(UUID uuid) {
     super(uuid);
   }
 
-  public static MessageRemoveNPC decode(final FriendlyByteBuf buffer) {
-    return new MessageRemoveNPC(buffer.readUUID());
+  public static RemoveNPCMessage decode(final FriendlyByteBuf buffer) {
+    return new RemoveNPCMessage(buffer.readUUID());
   }
 
-  public static void encode(final MessageRemoveNPC message, final FriendlyByteBuf buffer) {
+  public static void encode(final RemoveNPCMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
   }
 
-  public static void handle(
-      MessageRemoveNPC message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageRemoveNPC message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
+  public static void handle(final RemoveNPCMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
+    if (easyNPC == null) {
       return;
     }
 
     // Perform action.
-    EasyNPC<?> easyNPCEntity = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
-    log.info("Removing Easy NPC {} requested by {}", easyNPCEntity, serverPlayer);
-    easyNPCEntity.getEntity().discard();
+    log.info("Removing Easy NPC {} requested by {}", easyNPC, serverPlayer);
+    easyNPC.getEntity().discard();
   }
 }
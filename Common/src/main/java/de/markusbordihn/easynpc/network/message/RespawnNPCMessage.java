@@ -19,51 +19,45 @@
 
 package de.markusbordihn.easynpc.network.message;
 
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
-import net.minecraftforge.network.NetworkEvent;
-import net.minecraftforge.network.NetworkEvent.Context;
 
-public class MessageRespawnNPC extends NetworkMessage {
+public class RespawnNPCMessage extends EasyNPCMessage {
 
-  public MessageRespawnNPC(UUID uuid) {
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "respawn_npc");
+  public static final PacketCodec<RespawnNPCMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          RespawnNPCMessage.class,
+          RespawnNPCMessage::encode,
+          RespawnNPCMessage::decode,
+          RespawnNPCMessage::handle);
+
+  public RespawnNPCMessage(UUID uuid) {
     super(uuid);
   }
 
-  public static MessageRespawnNPC decode(final FriendlyByteBuf buffer) {
-    return new MessageRespawnNPC(buffer.readUUID());
+  public static RespawnNPCMessage decode(final FriendlyByteBuf buffer) {
+    return new RespawnNPCMessage(buffer.readUUID());
   }
 
-  public static void encode(final MessageRespawnNPC message, final FriendlyByteBuf buffer) {
+  public static void encode(final RespawnNPCMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
   }
 
-  public static void handle(MessageRespawnNPC message, Supplier<Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageRespawnNPC message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      return;
-    }
-
-    // Verify that the entity is not null
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+  public static void handle(final RespawnNPCMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
     if (easyNPC == null) {
-      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
       return;
     }
 
@@ -19,26 +19,35 @@
 
 package de.markusbordihn.easynpc.network.message;
 
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.data.dialog.DialogButtonData;
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.ActionEventData;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageSaveDialogButton extends NetworkMessage {
+public class SaveDialogButtonMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "save_dialog_button");
+  public static final PacketCodec<SaveDialogButtonMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          SaveDialogButtonMessage.class,
+          SaveDialogButtonMessage::encode,
+          SaveDialogButtonMessage::decode,
+          SaveDialogButtonMessage::handle);
 
   protected final UUID dialogId;
   protected final UUID dialogButtonId;
   protected final DialogButtonData dialogButtonData;
 
-  public MessageSaveDialogButton(
+  public SaveDialogButtonMessage(
       UUID uuid, UUID dialogId, UUID dialogButtonId, DialogButtonData dialogButtonData) {
     super(uuid);
     this.dialogId = dialogId;
@@ -46,87 +55,61 @@ public class MessageSaveDialogButton extends NetworkMessage {
     this.dialogButtonData = dialogButtonData;
   }
 
-  public static MessageSaveDialogButton decode(final FriendlyByteBuf buffer) {
-    return new MessageSaveDialogButton(
+  public static SaveDialogButtonMessage decode(final FriendlyByteBuf buffer) {
+    return new SaveDialogButtonMessage(
         buffer.readUUID(),
         buffer.readUUID(),
         buffer.readUUID(),
         new DialogButtonData(buffer.readNbt()));
   }
 
-  public static void encode(final MessageSaveDialogButton message, final FriendlyByteBuf buffer) {
+  public static void encode(final SaveDialogButtonMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUUID(message.getDialogId());
     buffer.writeUUID(message.getDialogButtonId());
     buffer.writeNbt(message.getDialogButtonData().createTag());
   }
 
-  public static void handle(
-      MessageSaveDialogButton message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageSaveDialogButton message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      return;
-    }
-
-    // Validate dialog id.
-    UUID dialogId = message.getDialogId();
-    if (dialogId == null) {
-      log.error("Invalid dialog id for {} from {}", message, context);
+  public static void handle(final SaveDialogButtonMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
+    if (easyNPC == null) {
       return;
     }
 
     // Validate dialog button data.
     DialogButtonData dialogButtonData = message.getDialogButtonData();
     if (dialogButtonData == null) {
-      log.error("Invalid dialog button data for {} from {}", uuid, serverPlayer);
-      return;
-    }
-
-    // Validate entity.
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
-    if (easyNPC == null) {
-      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
+      log.error("Invalid dialog button data for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate dialog data.
     DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
     if (dialogData == null) {
-      log.error("Invalid dialog data for {} from {}", message, context);
+      log.error("Invalid dialog data for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate action event data.
     ActionEventData<?> actionEventData = easyNPC.getEasyNPCActionEventData();
     if (actionEventData == null) {
-      log.error("Invalid action data for {} from {}", message, context);
+      log.error("Invalid action data for {} from {}", message, serverPlayer);
       return;
     }
 
-    // Validate dialog for dialog button.
-    if (!dialogData.hasDialog(dialogId)) {
+    // Validate dialog and dialog button.
+    UUID dialogId = message.getDialogId();
+    UUID dialogButtonId = message.getDialogButtonId();
+    if (!dialogData.hasDialog(dialogId) || !dialogData.hasDialogButton(dialogId, dialogButtonId)) {
       log.error(
-          "Unknown dialog button editor request for dialog {} for {} from {}",
+          "Unknown dialog button save request for dialog button {} for dialog {} for {} from {}",
+          dialogButtonId,
           dialogId,
-          uuid,
+          easyNPC,
           serverPlayer);
       return;
     }
 
-    // Validate dialog button id.
-    UUID dialogButtonId = message.getDialogButtonId();
-    if (dialogButtonId != null && !dialogData.hasDialogButton(dialogId, dialogButtonId)) {
-      log.error("Invalid dialog button {} for {} from {}", dialogButtonId, message, context);
-      return;
-    }
-
     // Re-check permission levels for dialog related actions.
     int currentPermissionLevel = actionEventData.getActionPermissionLevel();
     if (currentPermissionLevel == 0) {
@@ -146,23 +129,16 @@ public class MessageSaveDialogButton extends NetworkMessage {
     }
 
     // Perform action.
-    if (dialogButtonId == null) {
-      log.info(
-          "Add new dialog button {} for dialog {} for {} from {}",
-          dialogButtonData,
-          dialogId,
-          uuid,
-          serverPlayer);
-      dialogData.getDialogDataSet().getDialog(dialogId).setButton(dialogButtonData);
-    } else {
-      log.info(
-          "Edit existing dialog button {} for dialog {} for {} from {}",
-          dialogButtonData,
-          dialogId,
-          uuid,
-          serverPlayer);
-      dialogData.getDialogDataSet().getDialog(dialogId).setButton(dialogButtonId, dialogButtonData);
-    }
+    log.info(
+        "Edit existing dialog button {} for dialog {} for {} from {}",
+        dialogButtonData,
+        dialogId,
+        easyNPC,
+        serverPlayer);
+    dialogData
+        .getMutableDialogDataSet()
+        .getDialog(dialogId)
+        .setButton(dialogButtonId, dialogButtonData);
   }
 
   public UUID getDialogId() {
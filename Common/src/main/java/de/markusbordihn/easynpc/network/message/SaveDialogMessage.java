@@ -19,88 +19,75 @@
 
 package de.markusbordihn.easynpc.network.message;
 
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.data.dialog.DialogDataEntry;
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageSaveDialog extends NetworkMessage {
+public class SaveDialogMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "save_dialog");
+  public static final PacketCodec<SaveDialogMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          SaveDialogMessage.class,
+          SaveDialogMessage::encode,
+          SaveDialogMessage::decode,
+          SaveDialogMessage::handle);
 
   protected final UUID dialogId;
   protected final DialogDataEntry dialogDataEntry;
 
-  public MessageSaveDialog(UUID uuid, UUID dialogId, DialogDataEntry dialogDataEntry) {
+  public SaveDialogMessage(UUID uuid, UUID dialogId, DialogDataEntry dialogDataEntry) {
     super(uuid);
     this.dialogId = dialogId;
     this.dialogDataEntry = dialogDataEntry;
   }
 
-  public static MessageSaveDialog decode(final FriendlyByteBuf buffer) {
-    return new MessageSaveDialog(
+  public static SaveDialogMessage decode(final FriendlyByteBuf buffer) {
+    return new SaveDialogMessage(
         buffer.readUUID(), buffer.readUUID(), new DialogDataEntry(buffer.readNbt()));
   }
 
-  public static void encode(final MessageSaveDialog message, final FriendlyByteBuf buffer) {
+  public static void encode(final SaveDialogMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUUID(message.getDialogId());
     buffer.writeNbt(message.getDialogDataEntry().createTag());
   }
 
-  public static void handle(
-      MessageSaveDialog message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageSaveDialog message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      log.error("Unable to save dialog with message {} from {}", message, context);
-      return;
-    }
-
-    // Validate dialog ID
-    UUID dialogId = message.getDialogId();
-    if (dialogId == null) {
-      log.error("Invalid dialog id for {} from {}", message, context);
+  public static void handle(final SaveDialogMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
+    if (easyNPC == null) {
       return;
     }
 
     // Validate dialog data entry.
     DialogDataEntry dialogDataEntry = message.getDialogDataEntry();
     if (dialogDataEntry == null) {
-      log.error("Invalid dialog data for {} from {}", message, context);
-      return;
-    }
-
-    // Validate entity.
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
-    if (easyNPC == null) {
-      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
+      log.error("Invalid dialog data for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate dialog data.
     DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
     if (dialogData == null) {
-      log.error("Invalid dialog data for {} from {}", message, context);
+      log.error("Invalid dialog data for {} from {}", message, serverPlayer);
       return;
     }
 
     // Validate dialog
+    UUID dialogId = message.getDialogId();
     if (!dialogData.hasDialog(dialogId)) {
       log.error(
-          "Unknown dialog button editor request for dialog {} for {} from {}",
+          "Unknown dialog save request for dialog {} for {} from {}",
           dialogId,
-          uuid,
+          easyNPC,
           serverPlayer);
       return;
     }
@@ -110,7 +97,7 @@ public class MessageSaveDialog extends NetworkMessage {
         "Saving dialog data {} for dialog {} for {} from {}",
         dialogDataEntry,
         dialogId,
-        uuid,
+        easyNPC,
         serverPlayer);
     dialogData.setDialog(dialogId, dialogDataEntry);
   }
@@ -21,61 +21,53 @@ package de.markusbordihn.easynpc.network.message;
 
 import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.data.dialog.DialogDataSet;
-import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
-public class MessageSaveDialogSet extends NetworkMessage {
+public class SaveDialogSetMessage extends EasyNPCMessage {
 
-  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "save_dialog_set");
+  public static final PacketCodec<SaveDialogSetMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          SaveDialogSetMessage.class,
+          SaveDialogSetMessage::encode,
+          SaveDialogSetMessage::decode,
+          SaveDialogSetMessage::handle);
 
   protected final DialogDataSet dialogDataSet;
 
-  public MessageSaveDialogSet(UUID uuid, DialogDataSet dialogDataSet) {
+  public SaveDialogSetMessage(UUID uuid, DialogDataSet dialogDataSet) {
     super(uuid);
     this.dialogDataSet = dialogDataSet;
   }
 
-  public static MessageSaveDialogSet decode(final FriendlyByteBuf buffer) {
-    return new MessageSaveDialogSet(buffer.readUUID(), new DialogDataSet(buffer.readNbt()));
+  public static SaveDialogSetMessage decode(final FriendlyByteBuf buffer) {
+    return new SaveDialogSetMessage(buffer.readUUID(), new DialogDataSet(buffer.readNbt()));
   }
 
-  public static void encode(final MessageSaveDialogSet message, final FriendlyByteBuf buffer) {
+  public static void encode(final SaveDialogSetMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
-    buffer.writeNbt(message.getDialogData().createTag());
+    buffer.writeNbt(message.getDialogDataSet().createTag());
   }
 
-  public static void handle(
-      MessageSaveDialogSet message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageSaveDialogSet message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
-    UUID uuid = message.getUUID();
-    DialogDataSet dialogDataSet = message.getDialogData();
-    if (serverPlayer == null
-        || dialogDataSet == null
-        || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
-      log.error("Unable to save dialog with message {} from {}", message, context);
+  public static void handle(final SaveDialogSetMessage message, ServerPlayer serverPlayer) {
+    EasyNPC<?> easyNPC = getEasyNPCWithAccess(message.getUUID(), serverPlayer);
+    if (easyNPC == null) {
       return;
     }
 
-    // Validate Dialog data.
-    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+    // Validate dialog data.
+    DialogDataSet dialogDataSet = message.getDialogDataSet();
     DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
-    if (dialogData == null) {
-      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
+    if (dialogDataSet == null || dialogData == null) {
+      log.error("Invalid dialog data for {} from {}", message, serverPlayer);
       return;
     }
 
@@ -84,7 +76,7 @@ public class MessageSaveDialogSet extends NetworkMessage {
     dialogData.setDialogDataSet(dialogDataSet);
   }
 
-  public DialogDataSet getDialogData() {
+  public DialogDataSet getDialogDataSet() {
     return this.dialogDataSet;
   }
 }
@@ -19,50 +19,52 @@
 
 package de.markusbordihn.easynpc.network.message;
 
+import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.data.action.ActionDataEntry;
 import de.markusbordihn.easynpc.data.action.ActionEventType;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.ActionEventData;
 import de.markusbordihn.easynpc.entity.easynpc.handlers.ActionHandler;
-import de.markusbordihn.easynpc.network.NetworkMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraftforge.network.NetworkEvent;
 
-public class MessageTriggerActionEvent extends NetworkMessage {
+public class TriggerActionEventMessage extends EasyNPCMessage {
+
+  public static final ResourceLocation MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "trigger_action_event");
+  public static final PacketCodec<TriggerActionEventMessage> CODEC =
+      new PacketCodec<>(
+          MESSAGE_ID,
+          TriggerActionEventMessage.class,
+          TriggerActionEventMessage::encode,
+          TriggerActionEventMessage::decode,
+          TriggerActionEventMessage::handle);
 
   protected final ActionEventType actionEventType;
 
-  public MessageTriggerActionEvent(UUID uuid, ActionEventType actionEventType) {
+  public TriggerActionEventMessage(UUID uuid, ActionEventType actionEventType) {
     super(uuid);
     this.actionEventType = actionEventType;
   }
 
-  public static MessageTriggerActionEvent decode(final FriendlyByteBuf buffer) {
-    return new MessageTriggerActionEvent(buffer.readUUID(), buffer.readEnum(ActionEventType.class));
+  public static TriggerActionEventMessage decode(final FriendlyByteBuf buffer) {
+    return new TriggerActionEventMessage(buffer.readUUID(), buffer.readEnum(ActionEventType.class));
   }
 
-  public static void encode(final MessageTriggerActionEvent message, final FriendlyByteBuf buffer) {
+  public static void encode(final TriggerActionEventMessage message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeEnum(message.getActionType());
   }
 
-  public static void handle(
-      MessageTriggerActionEvent message, Supplier<NetworkEvent.Context> contextSupplier) {
-    NetworkEvent.Context context = contextSupplier.get();
-    context.enqueueWork(() -> handlePacket(message, context));
-    context.setPacketHandled(true);
-  }
-
-  public static void handlePacket(MessageTriggerActionEvent message, NetworkEvent.Context context) {
-    ServerPlayer serverPlayer = context.getSender();
+  public static void handle(final TriggerActionEventMessage message, ServerPlayer serverPlayer) {
     UUID uuid = message.getUUID();
     if (serverPlayer == null || uuid == null) {
-      log.error("Unable to trigger action event with message {} from {}", message, context);
+      log.error("Unable to trigger action event with message {} from {}", message, serverPlayer);
       return;
     }
 
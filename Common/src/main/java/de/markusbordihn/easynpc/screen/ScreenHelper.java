@@ -22,6 +22,7 @@ package de.markusbordihn.easynpc.screen;
 import com.mojang.blaze3d.platform.Lighting;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
 import de.markusbordihn.easynpc.data.model.ModelPose;
 import de.markusbordihn.easynpc.data.profession.Profession;
 import de.markusbordihn.easynpc.data.rotation.CustomRotation;
@@ -101,8 +102,13 @@ public class ScreenHelper {
     entityRenderDispatcher.setRenderShadow(false);
     MultiBufferSource.BufferSource multiBuffer =
         Minecraft.getInstance().renderBuffers().bufferSource();
-    entityRenderDispatcher.render(
-        livingEntity, 0.0D, 0.0D, 0.0D, 0.0F, 1.0F, poseStack1, multiBuffer, 15728880);
+    RenderLevelOfDetailManager.setGuiRender(true);
+    try {
+      entityRenderDispatcher.render(
+          livingEntity, 0.0D, 0.0D, 0.0D, 0.0F, 1.0F, poseStack1, multiBuffer, 15728880);
+    } finally {
+      RenderLevelOfDetailManager.setGuiRender(false);
+    }
     multiBuffer.endBatch();
     entityRenderDispatcher.setRenderShadow(true);
 
@@ -20,6 +20,9 @@
 package de.markusbordihn.easynpc.server;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.attack.ProjectileBudget;
+import de.markusbordihn.easynpc.data.navigation.PathCache;
+import de.markusbordihn.easynpc.debug.DebugEventBuffer;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.LevelResource;
 
@@ -32,5 +35,8 @@ public class ServerEvents {
       return;
     }
     Constants.WORLD_DIR = minecraftServer.getWorldPath(LevelResource.ROOT);
+    PathCache.clear();
+    ProjectileBudget.clear();
+    DebugEventBuffer.clear();
   }
 }
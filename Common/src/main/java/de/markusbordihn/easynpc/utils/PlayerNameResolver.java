@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import de.markusbordihn.easynpc.Constants;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Resolves player names to user UUIDs without blocking the server thread. Lookups which are not
+ * answered by an online player or the local caches are performed on a background thread, because
+ * a miss in the game profile cache could result in a remote profile request. Unknown names are
+ * cached as well, to avoid repeated remote requests for mistyped names.
+ */
+public class PlayerNameResolver {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static final int CACHE_SIZE = 256;
+  private static final UUID UNKNOWN_USER_UUID = Constants.BLANK_UUID;
+  private static final Cache<String, UUID> userUUIDCache =
+      CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).expireAfterWrite(6, TimeUnit.HOURS).build();
+  private static final Cache<String, UUID> unknownUserCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(CACHE_SIZE)
+          .expireAfterWrite(5, TimeUnit.MINUTES)
+          .build();
+  private static final Map<String, CompletableFuture<UUID>> pendingRequests = new HashMap<>();
+  private static final ExecutorService executor =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat(Constants.LOG_NAME + " Player Name Resolver")
+              .setDaemon(true)
+              .build());
+
+  protected PlayerNameResolver() {}
+
+  /**
+   * Resolves the given player name or UUID string and calls the consumer with the result on the
+   * server thread. The result is null, if the player name is unknown.
+   */
+  public static void resolveUserUUID(
+      MinecraftServer server, String username, Consumer<UUID> consumer) {
+    if (server == null || username == null || username.isEmpty()) {
+      consumer.accept(null);
+      return;
+    }
+
+    // Fast path for UUIDs, online players and already resolved names.
+    UUID uuid = getCachedUserUUID(server, username);
+    if (uuid != null) {
+      consumer.accept(UNKNOWN_USER_UUID.equals(uuid) ? null : uuid);
+      return;
+    }
+
+    // Slow path with a single background request per name.
+    String key = username.toLowerCase(Locale.ROOT);
+    CompletableFuture<UUID> request;
+    synchronized (pendingRequests) {
+      request =
+          pendingRequests.computeIfAbsent(
+              key,
+              name ->
+                  CompletableFuture.supplyAsync(
+                      () -> lookupUserUUID(server, username, name), executor));
+    }
+    request.whenComplete(
+        (userUUID, throwable) -> {
+          if (throwable != null) {
+            log.error("Unable to resolve user {}:", username, throwable);
+          }
+          server.execute(() -> consumer.accept(throwable == null ? userUUID : null));
+        });
+  }
+
+  public static void clearCache() {
+    userUUIDCache.invalidateAll();
+    unknownUserCache.invalidateAll();
+  }
+
+  private static UUID getCachedUserUUID(MinecraftServer server, String username) {
+    UUID uuid = PlayersUtils.getUUIDfromString(username);
+    if (uuid != null) {
+      return uuid;
+    }
+    ServerPlayer serverPlayer = server.getPlayerList().getPlayerByName(username);
+    if (serverPlayer != null) {
+      return serverPlayer.getUUID();
+    }
+    String key = username.toLowerCase(Locale.ROOT);
+    uuid = userUUIDCache.getIfPresent(key);
+    return uuid != null ? uuid : unknownUserCache.getIfPresent(key);
+  }
+
+  private static UUID lookupUserUUID(MinecraftServer server, String username, String key) {
+    UUID userUUID = null;
+    try {
+      userUUID = PlayersUtils.getUserUUID(server, username);
+      if (userUUID != null && !UNKNOWN_USER_UUID.equals(userUUID)) {
+        userUUIDCache.put(key, userUUID);
+      } else {
+        userUUID = null;
+        log.debug("Unable to find user {}, ignoring further requests for a while.", username);
+        unknownUserCache.put(key, UNKNOWN_USER_UUID);
+      }
+    } finally {
+      synchronized (pendingRequests) {
+        pendingRequests.remove(key);
+      }
+    }
+    return userUUID;
+  }
+}
@@ -21,10 +21,22 @@ package de.markusbordihn.easynpc;
 
 import de.markusbordihn.easynpc.client.model.ModModelLayer;
 import de.markusbordihn.easynpc.client.renderer.ClientRenderer;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
+import de.markusbordihn.easynpc.client.renderer.RendererManager;
+import de.markusbordihn.easynpc.config.ClientConfig;
+import de.markusbordihn.easynpc.entity.EasyNPCBaseEntity;
 import de.markusbordihn.easynpc.entity.LivingEntityEventHandler;
 import de.markusbordihn.easynpc.io.DataFileHandler;
+import de.markusbordihn.easynpc.network.ClientNetworkHandler;
 import de.markusbordihn.easynpc.tabs.ModTabs;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.resources.ResourceManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,6 +57,32 @@ public class EasyNPCClient implements ClientModInitializer {
     log.info("{} Entity Client Events ...", Constants.LOG_REGISTER_PREFIX);
     LivingEntityEventHandler.registerClientEntityEvents();
 
+    log.info("{} Render Level of Detail ...", Constants.LOG_REGISTER_PREFIX);
+    ClientConfig.registerClientConfig();
+    WorldRenderEvents.START.register(context -> RenderLevelOfDetailManager.startFrame());
+
+    log.info("{} Render Proxy Cleanup ...", Constants.LOG_REGISTER_PREFIX);
+    ClientPlayConnectionEvents.DISCONNECT.register(
+        (handler, client) -> RendererManager.clearRenderProxies());
+
+    log.info("{} Resource Reload Listener ...", Constants.LOG_REGISTER_PREFIX);
+    ResourceManagerHelper.get(PackType.CLIENT_RESOURCES)
+        .registerReloadListener(
+            new SimpleSynchronousResourceReloadListener() {
+              @Override
+              public ResourceLocation getFabricId() {
+                return new ResourceLocation(Constants.MOD_ID, "custom_name_cache");
+              }
+
+              @Override
+              public void onResourceManagerReload(ResourceManager resourceManager) {
+                EasyNPCBaseEntity.invalidateCustomNameCache();
+              }
+            });
+
+    log.info("{} Client Network Handler ...", Constants.LOG_REGISTER_PREFIX);
+    ClientNetworkHandler.registerClientNetworkHandler();
+
     log.info("{} Tabs ...", Constants.LOG_REGISTER_PREFIX);
     ModTabs.handleCreativeModeTabRegister();
 
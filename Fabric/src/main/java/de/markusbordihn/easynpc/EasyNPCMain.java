@@ -24,6 +24,9 @@ import de.markusbordihn.easynpc.debug.DebugManager;
 import de.markusbordihn.easynpc.entity.LivingEntityEventHandler;
 import de.markusbordihn.easynpc.entity.ModEntityType;
 import de.markusbordihn.easynpc.item.ModItems;
+import de.markusbordihn.easynpc.menu.MenuHandler;
+import de.markusbordihn.easynpc.menu.MenuManager;
+import de.markusbordihn.easynpc.network.NetworkHandler;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import org.apache.logging.log4j.LogManager;
@@ -55,5 +58,11 @@ public class EasyNPCMain implements ModInitializer {
 
     log.info("{} Entity Server Events ...", Constants.LOG_REGISTER_PREFIX);
     LivingEntityEventHandler.registerServerEntityEvents();
+
+    log.info("{} Network Handler ...", Constants.LOG_REGISTER_PREFIX);
+    NetworkHandler.registerServerNetworkHandler();
+
+    log.info("{} Menu Handler ...", Constants.LOG_REGISTER_PREFIX);
+    MenuManager.registerMenuHandler(new MenuHandler());
   }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.client.screen.dialog;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.client.screen.components.CloseButton;
+import de.markusbordihn.easynpc.client.screen.components.Text;
+import de.markusbordihn.easynpc.client.screen.components.TextButton;
+import de.markusbordihn.easynpc.data.action.ActionEventSet;
+import de.markusbordihn.easynpc.data.action.ActionEventType;
+import de.markusbordihn.easynpc.data.dialog.DialogButtonData;
+import de.markusbordihn.easynpc.data.dialog.DialogDataEntry;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.network.ClientNetworkHandler;
+import de.markusbordihn.easynpc.network.message.DialogButtonActionMessage;
+import de.markusbordihn.easynpc.network.message.TriggerActionEventMessage;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.FormattedCharSequence;
+
+/**
+ * Plain dialog screen for Fabric, which shows the dialog text and the dialog buttons of a single
+ * dialog. Button clicks and dialog action events are sent with the loader-neutral messages.
+ */
+public class DialogScreen extends Screen {
+
+  private static final int IMAGE_WIDTH = 280;
+  private static final int IMAGE_HEIGHT = 200;
+  private static final int BUTTON_WIDTH = 250;
+  private static final int MAX_NUMBER_OF_PIXEL_PER_LINE = 250;
+  private static final int MAX_NUMBER_OF_BUTTONS = 6;
+  private static final int MAX_BUTTON_TEXT_LENGTH = 41;
+
+  protected final UUID uuid;
+  protected final ActionEventSet actionEventSet;
+  protected final DialogDataEntry dialogData;
+  protected final int pageIndex;
+  protected EasyNPC<?> easyNPC;
+  protected String dialog;
+  protected int leftPos;
+  protected int topPos;
+  protected int dialogPageIndex = 0;
+  protected int numberOfLinesPerPage = 1;
+  protected boolean opened = false;
+  protected Button dialogForwardButton = null;
+  protected Button dialogBackwardButton = null;
+  private List<FormattedCharSequence> dialogLines = Collections.emptyList();
+
+  public DialogScreen(
+      UUID uuid, ActionEventSet actionEventSet, DialogDataEntry dialogData, int pageIndex) {
+    super(Component.empty());
+    this.uuid = uuid;
+    this.actionEventSet = actionEventSet;
+    this.dialogData = dialogData;
+    this.pageIndex = pageIndex;
+  }
+
+  private void triggerActionEvent(ActionEventType actionEventType) {
+    if (this.actionEventSet.hasActionEvent(actionEventType)) {
+      ClientNetworkHandler.sendToServer(new TriggerActionEventMessage(this.uuid, actionEventType));
+    }
+  }
+
+  private int getNumberOfDialogPages() {
+    return (this.dialogLines.size() - 1) / this.numberOfLinesPerPage;
+  }
+
+  private void updateDialogPageButtons() {
+    if (this.dialogBackwardButton != null) {
+      this.dialogBackwardButton.active = this.dialogPageIndex > 0;
+    }
+    if (this.dialogForwardButton != null) {
+      this.dialogForwardButton.active = this.dialogPageIndex < getNumberOfDialogPages();
+    }
+  }
+
+  private void addDialogButton(DialogButtonData dialogButtonData, int top) {
+    Button dialogButton =
+        this.addRenderableWidget(
+            new TextButton(
+                this.leftPos + (IMAGE_WIDTH - BUTTON_WIDTH) / 2,
+                top,
+                BUTTON_WIDTH,
+                dialogButtonData.getButtonName(MAX_BUTTON_TEXT_LENGTH),
+                onPress -> {
+                  triggerActionEvent(ActionEventType.ON_BUTTON_CLICK);
+                  if (dialogButtonData.hasActionData()) {
+                    ClientNetworkHandler.sendToServer(
+                        new DialogButtonActionMessage(
+                            this.uuid, this.dialogData.getId(), dialogButtonData.getId()));
+                  } else {
+                    this.onClose();
+                  }
+                }));
+    dialogButton.visible =
+        dialogButtonData.getName() != null && !dialogButtonData.getName().isBlank();
+  }
+
+  @Override
+  protected void init() {
+    super.init();
+    this.leftPos = (this.width - IMAGE_WIDTH) / 2;
+    this.topPos = (this.height - IMAGE_HEIGHT) / 2;
+
+    // Resolve the Easy NPC for the title and the dialog macros.
+    if (this.minecraft != null && this.minecraft.level != null) {
+      this.easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(this.uuid, this.minecraft.level);
+    }
+
+    // Keep the selected dialog text on resize, to avoid switching between random texts.
+    if (this.dialog == null) {
+      this.dialog =
+          this.easyNPC != null && this.minecraft != null
+              ? this.dialogData.getDialogText(this.easyNPC.getLivingEntity(), this.minecraft.player)
+              : this.dialogData.getDialogText();
+    }
+    this.dialogLines =
+        this.font.split(Component.literal(this.dialog), MAX_NUMBER_OF_PIXEL_PER_LINE);
+
+    // Close Button
+    this.addRenderableWidget(
+        new CloseButton(this.leftPos + IMAGE_WIDTH - 13, this.topPos + 4, onPress -> onClose()));
+
+    // Dialog buttons, stacked at the bottom of the screen.
+    int lineHeight = this.font.lineHeight + 2;
+    int buttonHeight = TextButton.DEFAULT_HEIGHT + 2;
+    int numberOfButtons = Math.min(this.dialogData.getNumberOfButtons(), MAX_NUMBER_OF_BUTTONS);
+    int buttonTop = this.topPos + IMAGE_HEIGHT - 8 - numberOfButtons * buttonHeight;
+    int buttonIndex = 0;
+    for (DialogButtonData dialogButtonData : this.dialogData.getButtons()) {
+      if (dialogButtonData != null && buttonIndex < MAX_NUMBER_OF_BUTTONS) {
+        addDialogButton(dialogButtonData, buttonTop + buttonIndex++ * buttonHeight);
+      }
+    }
+
+    // Dialog text uses the space between the title and the dialog buttons.
+    int dialogNavigationButtonTop = buttonTop - TextButton.DEFAULT_HEIGHT - 4;
+    this.numberOfLinesPerPage =
+        Math.max(1, (dialogNavigationButtonTop - this.topPos - 24) / lineHeight);
+    this.dialogPageIndex = Math.min(this.dialogPageIndex, getNumberOfDialogPages());
+
+    // Dialog page buttons, if the dialog text does not fit on a single page.
+    if (getNumberOfDialogPages() > 0) {
+      this.dialogBackwardButton =
+          this.addRenderableWidget(
+              new TextButton(
+                  this.leftPos + IMAGE_WIDTH - 40,
+                  dialogNavigationButtonTop,
+                  14,
+                  "<",
+                  onPress -> {
+                    this.dialogPageIndex = Math.max(0, this.dialogPageIndex - 1);
+                    updateDialogPageButtons();
+                  }));
+      this.dialogForwardButton =
+          this.addRenderableWidget(
+              new TextButton(
+                  this.leftPos + IMAGE_WIDTH - 24,
+                  dialogNavigationButtonTop,
+                  14,
+                  ">",
+                  onPress -> {
+                    this.dialogPageIndex =
+                        Math.min(getNumberOfDialogPages(), this.dialogPageIndex + 1);
+                    updateDialogPageButtons();
+                  }));
+      updateDialogPageButtons();
+    }
+
+    // Action Event for open dialog, only once and not on resize.
+    if (!this.opened) {
+      this.opened = true;
+      triggerActionEvent(ActionEventType.ON_OPEN_DIALOG);
+    }
+  }
+
+  @Override
+  public void render(GuiGraphics guiGraphics, int x, int y, float partialTicks) {
+    this.renderBackground(guiGraphics);
+    guiGraphics.blit(Constants.TEXTURE_DEMO_BACKGROUND, leftPos, topPos, 0, 0, 210, 140);
+    guiGraphics.blit(Constants.TEXTURE_DEMO_BACKGROUND, leftPos + 200, topPos, 165, 0, 85, 140);
+    guiGraphics.blit(Constants.TEXTURE_DEMO_BACKGROUND, leftPos, topPos + 70, 0, 30, 210, 140);
+    guiGraphics.blit(
+        Constants.TEXTURE_DEMO_BACKGROUND, leftPos + 200, topPos + 70, 165, 30, 85, 140);
+
+    // Title
+    if (this.easyNPC != null) {
+      Text.drawString(
+          guiGraphics,
+          this.font,
+          this.easyNPC.getEntity().getName(),
+          this.leftPos + 10,
+          this.topPos + 8);
+    }
+
+    // Dialog text of the current dialog page.
+    int firstLine = this.dialogPageIndex * this.numberOfLinesPerPage;
+    for (int line = firstLine;
+        line < this.dialogLines.size() && line < firstLine + this.numberOfLinesPerPage;
+        ++line) {
+      Text.drawString(
+          guiGraphics,
+          this.font,
+          this.dialogLines.get(line),
+          this.leftPos + 15,
+          this.topPos + 24 + (line - firstLine) * (this.font.lineHeight + 2));
+    }
+
+    super.render(guiGraphics, x, y, partialTicks);
+  }
+
+  @Override
+  public boolean isPauseScreen() {
+    return false;
+  }
+
+  @Override
+  public void onClose() {
+    // Action Event for close dialog.
+    triggerActionEvent(ActionEventType.ON_CLOSE_DIALOG);
+    super.onClose();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.config;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import net.minecraft.util.Mth;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Simple properties based client config, with the same options as the Forge client config. */
+public class ClientConfig {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private static final String CONFIG_FILE_NAME = Constants.MOD_ID + "-client.properties";
+  private static final String RENDER_LEVEL_OF_DETAIL_ENABLED = "renderLevelOfDetailEnabled";
+  private static final String RENDER_LEVEL_OF_DETAIL_MID_DISTANCE =
+      "renderLevelOfDetailMidDistance";
+  private static final String RENDER_LEVEL_OF_DETAIL_FAR_DISTANCE =
+      "renderLevelOfDetailFarDistance";
+  private static final String RENDER_LEVEL_OF_DETAIL_CULL_DISTANCE =
+      "renderLevelOfDetailCullDistance";
+
+  private ClientConfig() {}
+
+  public static void registerClientConfig() {
+    log.info("Registering {} client config ...", Constants.MOD_NAME);
+    Path configFile = Constants.CONFIG_DIR.resolve(Constants.MOD_ID).resolve(CONFIG_FILE_NAME);
+    Properties properties = getDefaultProperties();
+    try {
+      Files.createDirectories(configFile.getParent());
+      if (Files.exists(configFile)) {
+        try (Reader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+          properties.load(reader);
+        }
+      } else {
+        try (Writer writer = Files.newBufferedWriter(configFile, StandardCharsets.UTF_8)) {
+          properties.store(writer, Constants.MOD_NAME + " client config");
+        }
+      }
+    } catch (IOException exception) {
+      log.error("There was an error, handling the client config {}:", configFile, exception);
+    }
+
+    RenderLevelOfDetailManager.setEnabled(
+        Boolean.parseBoolean(properties.getProperty(RENDER_LEVEL_OF_DETAIL_ENABLED)));
+    RenderLevelOfDetailManager.setMidDistance(
+        getDistance(properties, RENDER_LEVEL_OF_DETAIL_MID_DISTANCE, 24));
+    RenderLevelOfDetailManager.setFarDistance(
+        getDistance(properties, RENDER_LEVEL_OF_DETAIL_FAR_DISTANCE, 48));
+    RenderLevelOfDetailManager.setCullDistance(
+        getDistance(properties, RENDER_LEVEL_OF_DETAIL_CULL_DISTANCE, 0));
+  }
+
+  private static Properties getDefaultProperties() {
+    Properties properties = new Properties();
+    properties.setProperty(RENDER_LEVEL_OF_DETAIL_ENABLED, "true");
+    properties.setProperty(RENDER_LEVEL_OF_DETAIL_MID_DISTANCE, "24");
+    properties.setProperty(RENDER_LEVEL_OF_DETAIL_FAR_DISTANCE, "48");
+    properties.setProperty(RENDER_LEVEL_OF_DETAIL_CULL_DISTANCE, "0");
+    return properties;
+  }
+
+  private static int getDistance(Properties properties, String key, int defaultValue) {
+    try {
+      return Mth.clamp(Integer.parseInt(properties.getProperty(key).trim()), 0, 256);
+    } catch (NumberFormatException | NullPointerException exception) {
+      log.warn("Invalid value for {} in client config, using {}.", key, defaultValue);
+      return defaultValue;
+    }
+  }
+}
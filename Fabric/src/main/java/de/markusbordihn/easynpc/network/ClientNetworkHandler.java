@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.client.screen.dialog.DialogScreen;
+import de.markusbordihn.easynpc.data.action.ActionEventSet;
+import de.markusbordihn.easynpc.data.dialog.DialogDataEntry;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
+import de.markusbordihn.easynpc.network.codec.PacketCodecRegistry;
+import java.util.UUID;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class ClientNetworkHandler {
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private ClientNetworkHandler() {}
+
+  public static void registerClientNetworkHandler() {
+    ClientPlayNetworking.registerGlobalReceiver(
+        NetworkHandler.OPEN_DIALOG_MESSAGE_ID,
+        (client, handler, buffer, responseSender) -> {
+          UUID uuid = buffer.readUUID();
+          ActionEventSet actionEventSet = new ActionEventSet(buffer.readNbt());
+          DialogDataEntry dialogDataEntry = new DialogDataEntry(buffer.readNbt());
+          int pageIndex = buffer.readInt();
+          client.execute(
+              () ->
+                  client.setScreen(
+                      new DialogScreen(uuid, actionEventSet, dialogDataEntry, pageIndex)));
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <M> void sendToServer(M message) {
+    if (message == null) {
+      return;
+    }
+    PacketCodec<M> packetCodec = PacketCodecRegistry.getCodec((Class<M>) message.getClass());
+    if (packetCodec == null) {
+      log.error("Unable to send {} to server, no packet codec registered!", message);
+      return;
+    }
+    try {
+      ClientPlayNetworking.send(
+          packetCodec.id(), packetCodec.encode(message, PacketByteBufs.create()));
+    } catch (Exception e) {
+      log.error("Failed to send {} to server, got error: {}", message, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.action.ActionEventSet;
+import de.markusbordihn.easynpc.data.dialog.DialogDataEntry;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
+import de.markusbordihn.easynpc.network.codec.PacketCodecRegistry;
+import java.util.UUID;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class NetworkHandler {
+
+  public static final ResourceLocation OPEN_DIALOG_MESSAGE_ID =
+      new ResourceLocation(Constants.MOD_ID, "open_dialog");
+
+  protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+
+  private NetworkHandler() {}
+
+  public static void registerServerNetworkHandler() {
+    for (PacketCodec<?> packetCodec : PacketCodecRegistry.getServerboundCodecs()) {
+      registerServerReceiver(packetCodec);
+    }
+  }
+
+  private static <M> void registerServerReceiver(PacketCodec<M> packetCodec) {
+    ServerPlayNetworking.registerGlobalReceiver(
+        packetCodec.id(),
+        (server, serverPlayer, handler, buffer, responseSender) -> {
+          M message = packetCodec.decoder().apply(buffer);
+          server.execute(() -> packetCodec.handle(message, serverPlayer));
+        });
+  }
+
+  /** Sends a single dialog with the action events of the Easy NPC to the player. */
+  public static void sendOpenDialog(
+      ServerPlayer serverPlayer,
+      UUID uuid,
+      ActionEventSet actionEventSet,
+      DialogDataEntry dialogDataEntry,
+      int pageIndex) {
+    FriendlyByteBuf buffer = PacketByteBufs.create();
+    buffer.writeUUID(uuid);
+    buffer.writeNbt(actionEventSet.createTag());
+    buffer.writeNbt(dialogDataEntry.createTag());
+    buffer.writeInt(pageIndex);
+    try {
+      ServerPlayNetworking.send(serverPlayer, OPEN_DIALOG_MESSAGE_ID, buffer);
+    } catch (Exception e) {
+      log.error(
+          "Failed to send dialog {} to player {}, got error: {}",
+          dialogDataEntry.getId(),
+          serverPlayer.getName().getString(),
+          e.getMessage());
+    }
+  }
+}
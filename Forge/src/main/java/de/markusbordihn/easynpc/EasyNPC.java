@@ -21,11 +21,15 @@ package de.markusbordihn.easynpc;
 
 import cpw.mods.modlauncher.Launcher;
 import cpw.mods.modlauncher.api.IEnvironment;
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.access.ConfigAccessPolicy;
 import de.markusbordihn.easynpc.block.ModBlocks;
 import de.markusbordihn.easynpc.client.model.ModModelLayer;
 import de.markusbordihn.easynpc.client.renderer.ClientRenderer;
 import de.markusbordihn.easynpc.client.screen.ClientScreens;
+import de.markusbordihn.easynpc.client.screen.dialog.DialogTextLayoutCache;
 import de.markusbordihn.easynpc.debug.DebugManager;
+import de.markusbordihn.easynpc.entity.EasyNPCBaseEntity;
 import de.markusbordihn.easynpc.entity.ModEntityType;
 import de.markusbordihn.easynpc.io.DataFileHandler;
 import de.markusbordihn.easynpc.item.ModItems;
@@ -37,7 +41,9 @@ import de.markusbordihn.easynpc.network.NetworkMessageHandler;
 import de.markusbordihn.easynpc.network.NetworkMessageHandlerManager;
 import de.markusbordihn.easynpc.tabs.ModTabs;
 import java.util.Optional;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.common.Mod;
@@ -87,6 +93,9 @@ public class EasyNPC {
     log.info("{} Menu Handler ...", Constants.LOG_REGISTER_PREFIX);
     MenuManager.registerMenuHandler(new MenuHandler());
 
+    log.info("{} Access Policy ...", Constants.LOG_REGISTER_PREFIX);
+    AccessManager.setAccessPolicy(new ConfigAccessPolicy());
+
     log.info("{} Menu Types ...", Constants.LOG_REGISTER_PREFIX);
     ModMenuTypes.MENU_TYPES.register(modEventBus);
 
@@ -101,6 +110,14 @@ public class EasyNPC {
               modEventBus.addListener(ModModelLayer::registerEntityLayerDefinitions);
               modEventBus.addListener(ClientRenderer::registerEntityRenderers);
               modEventBus.addListener(ClientScreens::registerScreens);
+              modEventBus.addListener(
+                  (final RegisterClientReloadListenersEvent event) ->
+                      event.registerReloadListener(
+                          (ResourceManagerReloadListener)
+                              resourceManager -> {
+                                EasyNPCBaseEntity.invalidateCustomNameCache();
+                                DialogTextLayoutCache.clear();
+                              }));
               modEventBus.addListener(
                   (final FMLClientSetupEvent event) ->
                       event.enqueueWork(DataFileHandler::registerDataFiles));
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.access;
+
+import de.markusbordihn.easynpc.config.CommonConfig;
+import de.markusbordihn.easynpc.menu.configuration.ConfigurationType;
+import java.util.UUID;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Access policy which applies the enabled, allow in creative and permission level settings of the
+ * common config to the configuration menus. All other actions are handled by the default policy.
+ */
+public class ConfigAccessPolicy extends DefaultAccessPolicy {
+
+  protected static final CommonConfig.Config COMMON = CommonConfig.COMMON;
+
+  private static boolean hasAccess(
+      ServerPlayer serverPlayer,
+      UUID ownerUUID,
+      Boolean enabled,
+      Boolean allowInCreative,
+      int permissionLevel) {
+    if (Boolean.FALSE.equals(enabled)) {
+      return false;
+    }
+    if (Boolean.TRUE.equals(allowInCreative) && serverPlayer.isCreative()) {
+      return true;
+    }
+    if (ownerUUID == null || !ownerUUID.equals(serverPlayer.getUUID())) {
+      return false;
+    }
+    return serverPlayer.hasPermissions(permissionLevel);
+  }
+
+  @Override
+  public boolean hasAccess(ServerPlayer serverPlayer, UUID ownerUUID, Enum<?> action) {
+    if (!(action instanceof ConfigurationType configurationType)) {
+      return super.hasAccess(serverPlayer, ownerUUID, action);
+    }
+    return switch (configurationType) {
+      case ABILITIES_ATTRIBUTE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.abilitiesAttributeConfigurationEnabled.get(),
+              COMMON.abilitiesAttributeConfigurationAllowInCreative.get(),
+              COMMON.abilitiesAttributeConfigurationPermissionLevel.get());
+      case ADVANCED_DIALOG ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.advancedDialogConfigurationEnabled.get(),
+              COMMON.advancedDialogConfigurationAllowInCreative.get(),
+              COMMON.advancedDialogConfigurationPermissionLevel.get());
+      case ADVANCED_POSE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.advancedPoseConfigurationEnabled.get(),
+              COMMON.advancedPoseConfigurationAllowInCreative.get(),
+              COMMON.advancedPoseConfigurationPermissionLevel.get());
+      case ADVANCED_TRADING ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.advancedTradingConfigurationEnabled.get(),
+              COMMON.advancedTradingConfigurationAllowInCreative.get(),
+              COMMON.advancedTradingConfigurationPermissionLevel.get());
+      case ATTACK_OBJECTIVE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.attackObjectiveConfigurationEnabled.get(),
+              COMMON.attackObjectiveConfigurationAllowInCreative.get(),
+              COMMON.attackObjectiveConfigurationPermissionLevel.get());
+      case BASE_ATTRIBUTE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.baseAttributeConfigurationEnabled.get(),
+              COMMON.baseAttributeConfigurationAllowInCreative.get(),
+              COMMON.baseAttributeConfigurationPermissionLevel.get());
+      case BASIC_ACTION ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.basicActionConfigurationEnabled.get(),
+              COMMON.basicActionConfigurationAllowInCreative.get(),
+              COMMON.basicActionConfigurationPermissionLevel.get());
+      case BASIC_DIALOG ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.basicDialogConfigurationEnabled.get(),
+              COMMON.basicDialogConfigurationAllowInCreative.get(),
+              COMMON.basicDialogConfigurationPermissionLevel.get());
+      case BASIC_OBJECTIVE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.basicObjectiveConfigurationEnabled.get(),
+              COMMON.basicObjectiveConfigurationAllowInCreative.get(),
+              COMMON.basicObjectiveConfigurationPermissionLevel.get());
+      case BASIC_TRADING ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.basicTradingConfigurationEnabled.get(),
+              COMMON.basicTradingConfigurationAllowInCreative.get(),
+              COMMON.basicTradingConfigurationPermissionLevel.get());
+      case CUSTOM_POSE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.customPoseConfigurationEnabled.get(),
+              COMMON.customPoseConfigurationAllowInCreative.get(),
+              COMMON.customPoseConfigurationPermissionLevel.get());
+      case CUSTOM_PRESET_EXPORT ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.customExportPresetConfigurationEnabled.get(),
+              COMMON.customExportPresetConfigurationAllowInCreative.get(),
+              COMMON.customExportPresetConfigurationPermissionLevel.get());
+      case CUSTOM_PRESET_IMPORT ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.customImportPresetConfigurationEnabled.get(),
+              COMMON.customImportPresetConfigurationAllowInCreative.get(),
+              COMMON.customImportPresetConfigurationPermissionLevel.get());
+      case CUSTOM_SKIN ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.customSkinConfigurationEnabled.get(),
+              COMMON.customSkinConfigurationAllowInCreative.get(),
+              COMMON.customSkinConfigurationPermissionLevel.get());
+      case CUSTOM_TRADING ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.customTradingConfigurationEnabled.get(),
+              COMMON.customTradingConfigurationAllowInCreative.get(),
+              COMMON.customTradingConfigurationPermissionLevel.get());
+      case DEFAULT_POSE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.defaultPoseConfigurationEnabled.get(),
+              COMMON.defaultPoseConfigurationAllowInCreative.get(),
+              COMMON.defaultPoseConfigurationPermissionLevel.get());
+      case DEFAULT_POSITION ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.defaultPositionConfigurationEnabled.get(),
+              COMMON.defaultPositionConfigurationAllowInCreative.get(),
+              COMMON.defaultPositionConfigurationPermissionLevel.get());
+      case DEFAULT_PRESET_IMPORT ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.defaultImportPresetConfigurationEnabled.get(),
+              COMMON.defaultImportPresetConfigurationAllowInCreative.get(),
+              COMMON.defaultImportPresetConfigurationPermissionLevel.get());
+      case DEFAULT_ROTATION ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.defaultRotationConfigurationEnabled.get(),
+              COMMON.defaultRotationConfigurationAllowInCreative.get(),
+              COMMON.defaultRotationConfigurationPermissionLevel.get());
+      case DEFAULT_SKIN ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.defaultSkinConfigurationEnabled.get(),
+              COMMON.defaultSkinConfigurationAllowInCreative.get(),
+              COMMON.defaultSkinConfigurationPermissionLevel.get());
+      case DIALOG_ACTION ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.dialogActionConfigurationEnabled.get(),
+              COMMON.dialogActionConfigurationAllowInCreative.get(),
+              COMMON.dialogActionConfigurationPermissionLevel.get());
+      case DISPLAY_ATTRIBUTE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.displayAttributeConfigurationEnabled.get(),
+              COMMON.displayAttributeConfigurationAllowInCreative.get(),
+              COMMON.displayAttributeConfigurationPermissionLevel.get());
+      case DISTANCE_ACTION ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.distanceActionConfigurationEnabled.get(),
+              COMMON.distanceActionConfigurationAllowInCreative.get(),
+              COMMON.distanceActionConfigurationPermissionLevel.get());
+      case EQUIPMENT ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.equipmentConfigurationEnabled.get(),
+              COMMON.equipmentConfigurationAllowInCreative.get(),
+              COMMON.equipmentConfigurationPermissionLevel.get());
+      case FOLLOW_OBJECTIVE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.followObjectiveConfigurationEnabled.get(),
+              COMMON.followObjectiveConfigurationAllowInCreative.get(),
+              COMMON.followObjectiveConfigurationPermissionLevel.get());
+      case LOOK_OBJECTIVE ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.lookObjectiveConfigurationEnabled.get(),
+              COMMON.lookObjectiveConfigurationAllowInCreative.get(),
+              COMMON.lookObjectiveConfigurationPermissionLevel.get());
+      case MAIN ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.mainConfigurationEnabled.get(),
+              COMMON.mainConfigurationAllowInCreative.get(),
+              COMMON.mainConfigurationPermissionLevel.get());
+      case NONE_DIALOG ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.noneDialogConfigurationEnabled.get(),
+              COMMON.noneDialogConfigurationAllowInCreative.get(),
+              COMMON.noneDialogConfigurationPermissionLevel.get());
+      case NONE_SKIN ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.noneSkinConfigurationEnabled.get(),
+              COMMON.noneSkinConfigurationAllowInCreative.get(),
+              COMMON.noneSkinConfigurationPermissionLevel.get());
+      case NONE_TRADING ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.noneTradingConfigurationEnabled.get(),
+              COMMON.noneTradingConfigurationAllowInCreative.get(),
+              COMMON.noneTradingConfigurationPermissionLevel.get());
+      case PLAYER_SKIN ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.playerSkinConfigurationEnabled.get(),
+              COMMON.playerSkinConfigurationAllowInCreative.get(),
+              COMMON.playerSkinConfigurationPermissionLevel.get());
+      case SCALING ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.scalingConfigurationEnabled.get(),
+              COMMON.scalingConfigurationAllowInCreative.get(),
+              COMMON.scalingConfigurationPermissionLevel.get());
+      case URL_SKIN ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.urlSkinConfigurationEnabled.get(),
+              COMMON.urlSkinConfigurationAllowInCreative.get(),
+              COMMON.urlSkinConfigurationPermissionLevel.get());
+      case WORLD_PRESET_EXPORT ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.worldExportPresetConfigurationEnabled.get(),
+              COMMON.worldExportPresetConfigurationAllowInCreative.get(),
+              COMMON.worldExportPresetConfigurationPermissionLevel.get());
+      case WORLD_PRESET_IMPORT ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.worldImportPresetConfigurationEnabled.get(),
+              COMMON.worldImportPresetConfigurationAllowInCreative.get(),
+              COMMON.worldImportPresetConfigurationPermissionLevel.get());
+      case YES_NO_DIALOG ->
+          hasAccess(
+              serverPlayer,
+              ownerUUID,
+              COMMON.yesNoDialogConfigurationEnabled.get(),
+              COMMON.yesNoDialogConfigurationAllowInCreative.get(),
+              COMMON.yesNoDialogConfigurationPermissionLevel.get());
+      default -> super.hasAccess(serverPlayer, ownerUUID, action);
+    };
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.client;
+
+import de.markusbordihn.easynpc.client.renderer.RendererManager;
+import de.markusbordihn.easynpc.client.screen.dialog.DialogTextLayoutCache;
+import de.markusbordihn.easynpc.menu.dialog.DialogMenuCache;
+import de.markusbordihn.easynpc.network.ModelEditBatch;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+
+@EventBusSubscriber(value = Dist.CLIENT)
+public class ClientEventHandler {
+
+  private ClientEventHandler() {}
+
+  @SubscribeEvent
+  public static void handleClientPlayerLoggingOutEvent(ClientPlayerNetworkEvent.LoggingOut event) {
+    DialogMenuCache.clearClientCache();
+    DialogTextLayoutCache.clear();
+    ModelEditBatch.flushAndReset();
+    RendererManager.clearRenderProxies();
+  }
+
+  @SubscribeEvent
+  public static void handleClientTickEvent(TickEvent.ClientTickEvent event) {
+    if (event.phase == TickEvent.Phase.END) {
+      ModelEditBatch.tick();
+    }
+  }
+}
@@ -30,6 +30,7 @@ import de.markusbordihn.easynpc.entity.easynpc.data.ConfigurationData;
 import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
 import de.markusbordihn.easynpc.menu.configuration.ConfigurationMenu;
 import de.markusbordihn.easynpc.menu.configuration.ConfigurationType;
+import de.markusbordihn.easynpc.network.ModelEditBatch;
 import de.markusbordihn.easynpc.network.NetworkMessageHandler;
 import java.util.UUID;
 import net.minecraft.client.Minecraft;
@@ -237,4 +238,11 @@ public class ConfigurationScreen<T extends ConfigurationMenu> extends AbstractCo
     }
     return keyCode == 257 || keyCode == 335 || keyCode == 73;
   }
+
+  @Override
+  public void removed() {
+    // Send any pending slider changes before the screen is closed or replaced.
+    ModelEditBatch.flushAndReset();
+    super.removed();
+  }
 }
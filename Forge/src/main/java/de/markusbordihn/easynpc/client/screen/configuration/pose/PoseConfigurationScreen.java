@@ -28,6 +28,7 @@ import de.markusbordihn.easynpc.data.rotation.CustomRotation;
 import de.markusbordihn.easynpc.entity.easynpc.data.ModelData;
 import de.markusbordihn.easynpc.menu.configuration.ConfigurationMenu;
 import de.markusbordihn.easynpc.menu.configuration.ConfigurationType;
+import de.markusbordihn.easynpc.network.ModelEditBatch;
 import de.markusbordihn.easynpc.network.NetworkMessageHandler;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.core.Rotations;
@@ -85,7 +86,8 @@ public class PoseConfigurationScreen<T extends ConfigurationMenu> extends Config
                 SliderButton.Type.DEGREE,
                 slider -> {
                   Rotations currentModelPartRotation =
-                      this.modelData.getModelPartRotation(modelPart);
+                      ModelEditBatch.getRotation(
+                          uuid, modelPart, this.modelData.getModelPartRotation(modelPart));
                   NetworkMessageHandler.rotationChange(
                       uuid,
                       modelPart,
@@ -105,7 +107,8 @@ public class PoseConfigurationScreen<T extends ConfigurationMenu> extends Config
                 SliderButton.Type.DEGREE,
                 slider -> {
                   Rotations currentModelPartRotation =
-                      this.modelData.getModelPartRotation(modelPart);
+                      ModelEditBatch.getRotation(
+                          uuid, modelPart, this.modelData.getModelPartRotation(modelPart));
                   NetworkMessageHandler.rotationChange(
                       uuid,
                       modelPart,
@@ -125,7 +128,8 @@ public class PoseConfigurationScreen<T extends ConfigurationMenu> extends Config
                 SliderButton.Type.DEGREE,
                 slider -> {
                   Rotations currentModelPartRotation =
-                      this.modelData.getModelPartRotation(modelPart);
+                      ModelEditBatch.getRotation(
+                          uuid, modelPart, this.modelData.getModelPartRotation(modelPart));
                   NetworkMessageHandler.rotationChange(
                       uuid,
                       modelPart,
@@ -208,7 +212,8 @@ public class PoseConfigurationScreen<T extends ConfigurationMenu> extends Config
                 SliderButton.Type.POSITION,
                 slider -> {
                   CustomPosition currentModelPartPosition =
-                      this.modelData.getModelPartPosition(modelPart);
+                      ModelEditBatch.getPosition(
+                          uuid, modelPart, this.modelData.getModelPartPosition(modelPart));
                   NetworkMessageHandler.modelPositionChange(
                       uuid,
                       modelPart,
@@ -228,7 +233,8 @@ public class PoseConfigurationScreen<T extends ConfigurationMenu> extends Config
                 SliderButton.Type.POSITION,
                 slider -> {
                   CustomPosition currentModelPartPosition =
-                      this.modelData.getModelPartPosition(modelPart);
+                      ModelEditBatch.getPosition(
+                          uuid, modelPart, this.modelData.getModelPartPosition(modelPart));
                   NetworkMessageHandler.modelPositionChange(
                       uuid,
                       modelPart,
@@ -248,7 +254,8 @@ public class PoseConfigurationScreen<T extends ConfigurationMenu> extends Config
                 SliderButton.Type.POSITION,
                 slider -> {
                   CustomPosition currentModelPartPosition =
-                      this.modelData.getModelPartPosition(modelPart);
+                      ModelEditBatch.getPosition(
+                          uuid, modelPart, this.modelData.getModelPartPosition(modelPart));
                   NetworkMessageHandler.modelPositionChange(
                       uuid,
                       modelPart,
@@ -23,6 +23,7 @@ import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.client.screen.components.Text;
 import de.markusbordihn.easynpc.client.screen.components.TextButton;
 import de.markusbordihn.easynpc.data.skin.SkinModel;
+import de.markusbordihn.easynpc.io.CompactPresetFormat;
 import de.markusbordihn.easynpc.io.PresetDataFiles;
 import de.markusbordihn.easynpc.menu.configuration.preset.CustomImportPresetConfigurationMenu;
 import de.markusbordihn.easynpc.network.NetworkMessageHandler;
@@ -35,7 +36,6 @@ import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.ObjectSelectionList;
 import net.minecraft.client.gui.screens.ConfirmScreen;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.Entity;
@@ -89,7 +89,7 @@ public class ImportCustomPresetConfigurationScreen
     // Read NBT data from file.
     CompoundTag compoundTag;
     try {
-      compoundTag = NbtIo.readCompressed(path.toFile());
+      compoundTag = CompactPresetFormat.read(path.toFile());
     } catch (IOException exception) {
       log.error("Failed to read NBT data from {}", path, exception);
       return;
@@ -23,6 +23,7 @@ import de.markusbordihn.easynpc.Constants;
 import de.markusbordihn.easynpc.client.screen.components.Text;
 import de.markusbordihn.easynpc.client.screen.components.TextButton;
 import de.markusbordihn.easynpc.data.skin.SkinModel;
+import de.markusbordihn.easynpc.io.CompactPresetFormat;
 import de.markusbordihn.easynpc.menu.configuration.preset.DefaultImportPresetConfigurationMenu;
 import de.markusbordihn.easynpc.network.NetworkMessageHandler;
 import java.io.IOException;
@@ -34,7 +35,6 @@ import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.ObjectSelectionList;
 import net.minecraft.client.gui.screens.ConfirmScreen;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.chat.CommonComponents;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -111,7 +111,7 @@ public class ImportDefaultPresetConfigurationScreen
     // Read NBT data from file.
     CompoundTag compoundTag;
     try {
-      compoundTag = NbtIo.readCompressed(inputStream);
+      compoundTag = CompactPresetFormat.read(inputStream);
     } catch (IOException exception) {
       log.error("Failed to read NBT data from {}", resourceLocation, exception);
       return;
@@ -23,6 +23,7 @@ import de.markusbordihn.easynpc.client.screen.components.CloseButton;
 import de.markusbordihn.easynpc.client.screen.components.SpriteButton;
 import de.markusbordihn.easynpc.client.screen.components.Text;
 import de.markusbordihn.easynpc.client.screen.components.TextButton;
+import de.markusbordihn.easynpc.client.screen.dialog.DialogTextLayoutCache.DialogTextLayout;
 import de.markusbordihn.easynpc.data.action.ActionEventSet;
 import de.markusbordihn.easynpc.data.action.ActionEventType;
 import de.markusbordihn.easynpc.data.dialog.DialogButtonData;
@@ -150,21 +151,28 @@ public class DialogScreen extends AbstractContainerScreen<DialogMenu> {
     if (dialogData == null) {
       return;
     }
+
+    // Keep the selected dialog text on resize, to avoid switching between random texts.
+    if (this.dialog == null) {
+      this.dialog = dialogData.getDialogText();
+    }
+
+    // Get parsed and split dialog text from the layout cache.
     Minecraft minecraft = this.minecraft;
-    String dialogText =
-        dialogData.getDialogText(
-            this.easyNPC.getLivingEntity(), minecraft != null ? minecraft.player : null);
-    if (dialogText == null || dialogText.isBlank()) {
+    DialogTextLayout dialogTextLayout =
+        DialogTextLayoutCache.getLayout(
+            dialogData.getId(),
+            this.dialog,
+            this.easyNPC.getLivingEntity(),
+            minecraft != null ? minecraft.player : null,
+            this.font,
+            MAX_NUMBER_OF_PIXEL_PER_LINE);
+    if (dialogTextLayout.isEmpty()) {
       return;
     }
-
-    // Create dialog text component.
-    this.dialogComponent = Component.literal(dialogText);
-
-    // Split dialog text to lines.
-    this.cachedDialogComponents =
-        this.font.split(this.dialogComponent, MAX_NUMBER_OF_PIXEL_PER_LINE);
-    this.numberOfDialogLines = Math.min(128 / font.lineHeight, this.cachedDialogComponents.size());
+    this.dialogComponent = Component.literal(dialogTextLayout.text());
+    this.cachedDialogComponents = dialogTextLayout.lines();
+    this.numberOfDialogLines = Math.min(128 / font.lineHeight, dialogTextLayout.getNumberOfLines());
   }
 
   private void addDialogButton(DialogButtonData dialogButtonData) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.client.screen.dialog;
+
+import de.markusbordihn.easynpc.data.dialog.DialogUtils;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.FormattedCharSequence;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Client-side cache for the wrapped lines of dialog texts. The key contains the raw dialog text,
+ * the names used by the dialog macros, the line width and the forced Unicode font option, so
+ * reopening or resizing a dialog screen does not parse and split the same text again. The cache is
+ * cleared on resource reloads, which could change the glyph widths. Only used on the render
+ * thread.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class DialogTextLayoutCache {
+
+  public static final int CACHE_SIZE = 64;
+
+  private static final Map<LayoutKey, DialogTextLayout> layoutCache =
+      new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayoutKey, DialogTextLayout> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      };
+
+  private DialogTextLayoutCache() {}
+
+  public static DialogTextLayout getLayout(
+      UUID dialogId, String text, LivingEntity entity, Player player, Font font, int width) {
+    if (text == null || text.isBlank() || font == null) {
+      return DialogTextLayout.EMPTY;
+    }
+
+    // Macro names are only part of the key, if the text is using macros.
+    boolean hasDialogMacros = DialogUtils.hasDialogMacros(text);
+    LayoutKey layoutKey =
+        new LayoutKey(
+            dialogId,
+            text,
+            hasDialogMacros && entity != null ? getEntityName(entity) : null,
+            hasDialogMacros && player != null ? player.getName().getString() : null,
+            width,
+            Minecraft.getInstance().options.forceUnicodeFont().get());
+    DialogTextLayout dialogTextLayout = layoutCache.get(layoutKey);
+    if (dialogTextLayout == null) {
+      String dialogText = DialogUtils.parseDialogText(text, entity, player);
+      List<FormattedCharSequence> lines =
+          dialogText == null || dialogText.isBlank()
+              ? List.of()
+              : List.copyOf(font.split(Component.literal(dialogText), width));
+      dialogTextLayout = new DialogTextLayout(dialogText, lines);
+      layoutCache.put(layoutKey, dialogTextLayout);
+    }
+    return dialogTextLayout;
+  }
+
+  private static String getEntityName(LivingEntity entity) {
+    return entity instanceof EasyNPC<?> easyNPC
+        ? easyNPC.getEasyNPCNameString()
+        : entity.getName().getString();
+  }
+
+  public static void clear() {
+    layoutCache.clear();
+  }
+
+  public static int size() {
+    return layoutCache.size();
+  }
+
+  public record DialogTextLayout(String text, List<FormattedCharSequence> lines) {
+
+    public static final DialogTextLayout EMPTY = new DialogTextLayout("", List.of());
+
+    public int getNumberOfLines() {
+      return this.lines.size();
+    }
+
+    public boolean isEmpty() {
+      return this.lines.isEmpty();
+    }
+  }
+
+  private record LayoutKey(
+      UUID dialogId,
+      String text,
+      String entityName,
+      String playerName,
+      int width,
+      boolean forceUnicodeFont) {}
+}
@@ -20,11 +20,14 @@
 package de.markusbordihn.easynpc.config;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.client.renderer.RenderLevelOfDetailManager;
 import java.nio.file.Files;
 import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
 import net.minecraftforge.fml.loading.FMLPaths;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -58,13 +61,49 @@ public class ClientConfig {
 
   private ClientConfig() {}
 
+  @SubscribeEvent
+  public static void handleModConfigEvent(final ModConfigEvent event) {
+    if (event.getConfig().getSpec() != clientSpec) {
+      return;
+    }
+    RenderLevelOfDetailManager.setEnabled(CLIENT.renderLevelOfDetailEnabled.get());
+    RenderLevelOfDetailManager.setMidDistance(CLIENT.renderLevelOfDetailMidDistance.get());
+    RenderLevelOfDetailManager.setFarDistance(CLIENT.renderLevelOfDetailFarDistance.get());
+    RenderLevelOfDetailManager.setCullDistance(CLIENT.renderLevelOfDetailCullDistance.get());
+  }
+
   public static class Config {
 
+    public final ForgeConfigSpec.BooleanValue renderLevelOfDetailEnabled;
+    public final ForgeConfigSpec.IntValue renderLevelOfDetailMidDistance;
+    public final ForgeConfigSpec.IntValue renderLevelOfDetailFarDistance;
+    public final ForgeConfigSpec.IntValue renderLevelOfDetailCullDistance;
+
     Config(ForgeConfigSpec.Builder builder) {
       builder.comment(Constants.MOD_NAME);
 
       builder.push("Client Configuration");
       builder.pop();
+
+      builder.push("[Render Level of Detail]");
+      renderLevelOfDetailEnabled =
+          builder
+              .comment("Enable distance based level of detail for the rendering of NPCs.")
+              .define("renderLevelOfDetailEnabled", true);
+      renderLevelOfDetailMidDistance =
+          builder
+              .comment(
+                  "Distance in blocks after which overlay layers, held items and smart animations are skipped.")
+              .defineInRange("renderLevelOfDetailMidDistance", 24, 0, 256);
+      renderLevelOfDetailFarDistance =
+          builder
+              .comment("Distance in blocks after which a frozen pose without any layers is used.")
+              .defineInRange("renderLevelOfDetailFarDistance", 48, 0, 256);
+      renderLevelOfDetailCullDistance =
+          builder
+              .comment("Distance in blocks after which NPCs are no longer rendered. (0 = disabled)")
+              .defineInRange("renderLevelOfDetailCullDistance", 0, 0, 256);
+      builder.pop();
     }
   }
 }
@@ -20,11 +20,14 @@
 package de.markusbordihn.easynpc.config;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.access.AccessManager;
 import java.nio.file.Files;
 import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
 import net.minecraftforge.fml.loading.FMLPaths;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -58,6 +61,14 @@ public class CommonConfig {
 
   private CommonConfig() {}
 
+  @SubscribeEvent
+  public static void handleModConfigEvent(final ModConfigEvent event) {
+    if (event.getConfig().getSpec() != commonSpec) {
+      return;
+    }
+    AccessManager.invalidateAccessCache();
+  }
+
   public static String getEnableComment(String name) {
     return "Enable " + name + " configuration.";
   }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.gametest;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.debug.LoadTestManager;
+import de.markusbordihn.easynpc.entity.EasyNPCBaseEntity;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.ActionEventData;
+import de.markusbordihn.easynpc.entity.easynpc.data.DialogData;
+import de.markusbordihn.easynpc.menu.dialog.DialogMenu;
+import io.netty.buffer.Unpooled;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Headless load tests for the game test server, which are run with {@code ./gradlew
+ * :Forge:runGameTestServer} and fail the build on a regression. The limits could be adjusted with
+ * the system properties {@code easy_npc.load_test.*} of the game test server run.
+ */
+@GameTestHolder(Constants.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class LoadGameTests {
+
+  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final String LOG_PREFIX = "[Load Game Tests]";
+  private static final String TEMPLATE = "load_test";
+  private static final String PROPERTY_PREFIX = Constants.MOD_ID + ".load_test.";
+
+  private static final int NUMBER_OF_NPCS = Integer.getInteger(PROPERTY_PREFIX + "npcs", 64);
+  private static final int NUMBER_OF_PLAYERS = Integer.getInteger(PROPERTY_PREFIX + "players", 4);
+  private static final int MEASURE_TICKS = 120;
+  private static final double MAX_AVERAGE_TICK_TIME =
+      Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "max_mspt", "25"));
+  private static final int MAX_ENTITY_DATA_BYTES =
+      Integer.getInteger(PROPERTY_PREFIX + "max_entity_data_bytes", 2048);
+  private static final int MAX_DIALOG_DATA_BYTES =
+      Integer.getInteger(PROPERTY_PREFIX + "max_dialog_data_bytes", 1024);
+  private static final int MAX_CACHED_DIALOG_DATA_BYTES = 16;
+  private static final int NAME_CALLS = 10000;
+  private static final double MAX_CACHED_NAME_BYTES_PER_CALL =
+      Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "max_cached_name_bytes", "8"));
+
+  private LoadGameTests() {}
+
+  private static List<EasyNPC<?>> spawnEasyNPCs(GameTestHelper helper) {
+    List<EasyNPC<?>> easyNPCs = new ArrayList<>();
+    int rowSize = (int) Math.ceil(Math.sqrt(NUMBER_OF_NPCS));
+    for (int index = 0; index < NUMBER_OF_NPCS; index++) {
+      Vec3 position =
+          helper.absoluteVec(new Vec3(2.5 + index % rowSize, 1, 2.5 + index / rowSize));
+      EasyNPC<?> easyNPC = LoadTestManager.spawnEasyNPC(helper.getLevel(), position, index);
+      if (easyNPC != null) {
+        easyNPCs.add(easyNPC);
+      }
+    }
+    helper.assertTrue(
+        easyNPCs.size() == NUMBER_OF_NPCS,
+        "Spawned only " + easyNPCs.size() + " of " + NUMBER_OF_NPCS + " load test NPCs");
+    return easyNPCs;
+  }
+
+  private static List<ServerPlayer> spawnPlayers(GameTestHelper helper) {
+    List<ServerPlayer> serverPlayers = new ArrayList<>();
+    for (int index = 0; index < NUMBER_OF_PLAYERS; index++) {
+      ServerPlayer serverPlayer = helper.makeMockServerPlayerInLevel();
+      Vec3 position = helper.absoluteVec(new Vec3(4.5 + index * 2, 1, 12.5));
+      serverPlayer.moveTo(position.x, position.y, position.z);
+      serverPlayers.add(serverPlayer);
+    }
+    return serverPlayers;
+  }
+
+  private static void cleanup(
+      GameTestHelper helper, List<EasyNPC<?>> easyNPCs, List<ServerPlayer> serverPlayers) {
+    MinecraftServer minecraftServer = helper.getLevel().getServer();
+    for (ServerPlayer serverPlayer : serverPlayers) {
+      minecraftServer.getPlayerList().remove(serverPlayer);
+    }
+    for (EasyNPC<?> easyNPC : easyNPCs) {
+      easyNPC.getEntity().discard();
+    }
+  }
+
+  private static int getPacketSize(Packet<?> packet) {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    try {
+      packet.write(buffer);
+      return buffer.readableBytes();
+    } finally {
+      buffer.release();
+    }
+  }
+
+  private static int getDialogDataSize(UUID playerUUID, EasyNPC<?> easyNPC) {
+    DialogData<?> dialogData = easyNPC.getEasyNPCDialogData();
+    ActionEventData<?> actionEventData = easyNPC.getEasyNPCActionEventData();
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    try {
+      DialogMenu.writeDialogData(
+          buffer,
+          playerUUID,
+          easyNPC.getUUID(),
+          dialogData.getDialogDataVersion(),
+          actionEventData.getActionEventSet(),
+          dialogData.getDialogDataSet());
+      return buffer.readableBytes();
+    } finally {
+      buffer.release();
+    }
+  }
+
+  private static long getAllocatedBytes() {
+    if (ManagementFactory.getThreadMXBean()
+            instanceof com.sun.management.ThreadMXBean threadMXBean
+        && threadMXBean.isThreadAllocatedMemorySupported()) {
+      return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+
+  private static long getNameAllocatedBytes(EasyNPCBaseEntity<?> entity, boolean changeName) {
+    long allocatedBytes = getAllocatedBytes();
+    for (int call = 0; call < NAME_CALLS; call++) {
+      if (changeName) {
+        EasyNPCBaseEntity.invalidateCustomNameCache();
+      }
+      entity.getName();
+      entity.getEasyNPCNameString();
+    }
+    return allocatedBytes >= 0 ? getAllocatedBytes() - allocatedBytes : -1;
+  }
+
+  /** Simulated players next to many NPCs with dialogs, trades and objectives. */
+  @GameTest(template = TEMPLATE, timeoutTicks = MEASURE_TICKS + 100)
+  public static void averageTickTimeWithinLimit(GameTestHelper helper) {
+    List<EasyNPC<?>> easyNPCs = spawnEasyNPCs(helper);
+    List<ServerPlayer> serverPlayers = spawnPlayers(helper);
+    helper.runAfterDelay(
+        MEASURE_TICKS,
+        () -> {
+          MinecraftServer minecraftServer = helper.getLevel().getServer();
+          double averageTickTime = LoadTestManager.getAverageTickTime(minecraftServer);
+          log.info(
+              "{} {} NPCs and {} players: {}",
+              LOG_PREFIX,
+              easyNPCs.size(),
+              serverPlayers.size(),
+              LoadTestManager.getStats(minecraftServer));
+          cleanup(helper, easyNPCs, serverPlayers);
+          helper.assertTrue(
+              averageTickTime <= MAX_AVERAGE_TICK_TIME,
+              String.format(
+                  "Average tick time %.2f ms exceeds limit of %.2f ms",
+                  averageTickTime, MAX_AVERAGE_TICK_TIME));
+          helper.succeed();
+        });
+  }
+
+  /** Network payload of the entity data and dialog subsystems for a single NPC. */
+  @GameTest(template = TEMPLATE)
+  public static void packetBytesWithinLimit(GameTestHelper helper) {
+    EasyNPC<?> easyNPC =
+        LoadTestManager.spawnEasyNPC(helper.getLevel(), helper.absoluteVec(new Vec3(8, 1, 8)), 0);
+    helper.assertTrue(easyNPC != null, "Unable to spawn load test NPC");
+
+    // Entity data, which is sent to every tracking player.
+    List<SynchedEntityData.DataValue<?>> dataValues =
+        easyNPC.getEntity().getEntityData().getNonDefaultValues();
+    int entityId = easyNPC.getEntity().getId();
+    int entityDataBytes =
+        dataValues != null
+            ? getPacketSize(new ClientboundSetEntityDataPacket(entityId, dataValues))
+            : 0;
+
+    // Dialog data, which is sent on the first dialog open and cached afterward.
+    UUID playerUUID = UUID.randomUUID();
+    int dialogDataBytes = getDialogDataSize(playerUUID, easyNPC);
+    int cachedDialogDataBytes = getDialogDataSize(playerUUID, easyNPC);
+
+    log.info(
+        "{} Packet bytes: entity data {}, dialog data {}, cached dialog data {}",
+        LOG_PREFIX,
+        entityDataBytes,
+        dialogDataBytes,
+        cachedDialogDataBytes);
+    easyNPC.getEntity().discard();
+    helper.assertTrue(
+        entityDataBytes <= MAX_ENTITY_DATA_BYTES,
+        "Entity data with " + entityDataBytes + " bytes exceeds " + MAX_ENTITY_DATA_BYTES);
+    helper.assertTrue(
+        dialogDataBytes <= MAX_DIALOG_DATA_BYTES,
+        "Dialog data with " + dialogDataBytes + " bytes exceeds " + MAX_DIALOG_DATA_BYTES);
+    helper.assertTrue(
+        cachedDialogDataBytes <= MAX_CACHED_DIALOG_DATA_BYTES,
+        "Cached dialog data with " + cachedDialogDataBytes + " bytes was sent again");
+    helper.succeed();
+  }
+
+  /** Allocations of repeated name lookups with a cached and with a changed custom name. */
+  @GameTest(template = TEMPLATE)
+  public static void cachedNameAllocationsWithinLimit(GameTestHelper helper) {
+    EasyNPC<?> easyNPC =
+        LoadTestManager.spawnEasyNPC(helper.getLevel(), helper.absoluteVec(new Vec3(4, 1, 4)), 0);
+    helper.assertTrue(
+        easyNPC != null && easyNPC.getEntity() instanceof EasyNPCBaseEntity<?>,
+        "Unable to spawn load test NPC");
+    EasyNPCBaseEntity<?> entity = (EasyNPCBaseEntity<?>) easyNPC.getEntity();
+    entity.setCustomName(Component.literal("Load Test NPC"));
+
+    // Warm up, to exclude class loading and JIT allocations from the measurement.
+    getNameAllocatedBytes(entity, true);
+    getNameAllocatedBytes(entity, false);
+
+    long changedNameBytes = getNameAllocatedBytes(entity, true);
+    long cachedNameBytes = getNameAllocatedBytes(entity, false);
+    entity.discard();
+    if (cachedNameBytes < 0 || changedNameBytes < 0) {
+      log.warn("{} Thread allocation measurement is not supported, skipping", LOG_PREFIX);
+      helper.succeed();
+      return;
+    }
+
+    double cachedNameBytesPerCall = (double) cachedNameBytes / NAME_CALLS;
+    double changedNameBytesPerCall = (double) changedNameBytes / NAME_CALLS;
+    log.info(
+        "{} Name lookup allocations per call: cached {} bytes, changed {} bytes",
+        LOG_PREFIX,
+        String.format("%.1f", cachedNameBytesPerCall),
+        String.format("%.1f", changedNameBytesPerCall));
+    helper.assertTrue(
+        cachedNameBytesPerCall <= MAX_CACHED_NAME_BYTES_PER_CALL,
+        String.format(
+            "Cached name lookup allocates %.1f bytes per call, limit is %.1f bytes",
+            cachedNameBytesPerCall, MAX_CACHED_NAME_BYTES_PER_CALL));
+    helper.assertTrue(
+        cachedNameBytes < changedNameBytes,
+        "Cached name lookup allocates as much as a changed name lookup");
+    helper.succeed();
+  }
+}
@@ -19,13 +19,12 @@
 
 package de.markusbordihn.easynpc.menu;
 
-import de.markusbordihn.easynpc.config.CommonConfig;
+import de.markusbordihn.easynpc.access.AccessManager;
 import de.markusbordihn.easynpc.data.action.ActionEventSet;
 import de.markusbordihn.easynpc.data.dialog.DialogDataSet;
 import de.markusbordihn.easynpc.data.dialog.DialogType;
 import de.markusbordihn.easynpc.data.objective.ObjectiveDataSet;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
-import de.markusbordihn.easynpc.entity.easynpc.data.OwnerData;
 import de.markusbordihn.easynpc.io.WorldPresetDataFiles;
 import de.markusbordihn.easynpc.menu.configuration.ConfigurationType;
 import de.markusbordihn.easynpc.menu.configuration.action.BasicActionConfigurationMenu;
@@ -78,19 +77,12 @@ import net.minecraftforge.network.NetworkHooks;
 
 public class MenuHandler implements MenuHandlerInterface {
 
-  protected static final CommonConfig.Config COMMON = CommonConfig.COMMON;
-
   public MenuHandler() {
     // Register menu handler
   }
 
   public static void openEquipmentConfigurationMenu(ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.equipmentConfigurationEnabled.get(),
-        COMMON.equipmentConfigurationAllowInCreative.get(),
-        COMMON.equipmentConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.EQUIPMENT)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -101,12 +93,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openBasicActionConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.basicActionConfigurationEnabled.get(),
-        COMMON.basicActionConfigurationAllowInCreative.get(),
-        COMMON.basicActionConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.BASIC_ACTION)) {
       UUID uuid = easyNPC.getUUID();
       ActionEventSet actionDataSet = easyNPC.getEasyNPCActionEventData().getActionEventSet();
       NetworkHooks.openScreen(
@@ -121,12 +108,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDialogActionConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.dialogActionConfigurationEnabled.get(),
-        COMMON.dialogActionConfigurationAllowInCreative.get(),
-        COMMON.dialogActionConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DIALOG_ACTION)) {
       UUID uuid = easyNPC.getUUID();
       ActionEventSet actionDataSet = easyNPC.getEasyNPCActionEventData().getActionEventSet();
       NetworkHooks.openScreen(
@@ -141,12 +123,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDistanceActionConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.distanceActionConfigurationEnabled.get(),
-        COMMON.distanceActionConfigurationAllowInCreative.get(),
-        COMMON.distanceActionConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DISTANCE_ACTION)) {
       UUID uuid = easyNPC.getUUID();
       ActionEventSet actionDataSet = easyNPC.getEasyNPCActionEventData().getActionEventSet();
       NetworkHooks.openScreen(
@@ -161,12 +138,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openBasicDialogConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.basicDialogConfigurationEnabled.get(),
-        COMMON.basicDialogConfigurationAllowInCreative.get(),
-        COMMON.basicDialogConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.BASIC_DIALOG)) {
       UUID uuid = easyNPC.getUUID();
       DialogDataSet dialogDataSet = easyNPC.getEasyNPCDialogData().getDialogDataSet();
       NetworkHooks.openScreen(
@@ -181,12 +153,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openYesNoDialogConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.yesNoDialogConfigurationEnabled.get(),
-        COMMON.yesNoDialogConfigurationAllowInCreative.get(),
-        COMMON.yesNoDialogConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.YES_NO_DIALOG)) {
       UUID uuid = easyNPC.getUUID();
       DialogDataSet dialogDataSet = easyNPC.getEasyNPCDialogData().getDialogDataSet();
       NetworkHooks.openScreen(
@@ -201,12 +168,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openAdvancedDialogConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.advancedDialogConfigurationEnabled.get(),
-        COMMON.advancedDialogConfigurationAllowInCreative.get(),
-        COMMON.advancedDialogConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.ADVANCED_DIALOG)) {
       UUID uuid = easyNPC.getUUID();
       DialogDataSet dialogDataSet = easyNPC.getEasyNPCDialogData().getDialogDataSet();
       NetworkHooks.openScreen(
@@ -220,12 +182,7 @@ public class MenuHandler implements MenuHandlerInterface {
   }
 
   public static void openMainConfigurationMenu(ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.mainConfigurationEnabled.get(),
-        COMMON.mainConfigurationAllowInCreative.get(),
-        COMMON.mainConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.MAIN)) {
       UUID uuid = easyNPC.getUUID();
       DialogType dialogType = easyNPC.getEasyNPCDialogData().getDialogDataSet().getType();
       NetworkHooks.openScreen(
@@ -240,12 +197,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openAdvancedPoseConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.advancedPoseConfigurationEnabled.get(),
-        COMMON.advancedPoseConfigurationAllowInCreative.get(),
-        COMMON.advancedPoseConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.ADVANCED_POSE)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -256,12 +208,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openCustomPoseConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.customPoseConfigurationEnabled.get(),
-        COMMON.customPoseConfigurationAllowInCreative.get(),
-        COMMON.customPoseConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.CUSTOM_POSE)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -272,12 +219,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDefaultPoseConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.defaultPoseConfigurationEnabled.get(),
-        COMMON.defaultPoseConfigurationAllowInCreative.get(),
-        COMMON.defaultPoseConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DEFAULT_POSE)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -288,12 +230,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDefaultPositionConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.defaultPositionConfigurationEnabled.get(),
-        COMMON.defaultPositionConfigurationAllowInCreative.get(),
-        COMMON.defaultPositionConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DEFAULT_POSITION)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -304,12 +241,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDefaultRotationConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.defaultRotationConfigurationEnabled.get(),
-        COMMON.defaultRotationConfigurationAllowInCreative.get(),
-        COMMON.defaultRotationConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DEFAULT_ROTATION)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -320,12 +252,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openCustomSkinConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.customSkinConfigurationEnabled.get(),
-        COMMON.customSkinConfigurationAllowInCreative.get(),
-        COMMON.customSkinConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.CUSTOM_SKIN)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -336,12 +263,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDefaultSkinConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.defaultSkinConfigurationEnabled.get(),
-        COMMON.defaultSkinConfigurationAllowInCreative.get(),
-        COMMON.defaultSkinConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DEFAULT_SKIN)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -351,12 +273,7 @@ public class MenuHandler implements MenuHandlerInterface {
   }
 
   public static void openNoneSkinConfigurationMenu(ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.noneSkinConfigurationEnabled.get(),
-        COMMON.noneSkinConfigurationAllowInCreative.get(),
-        COMMON.noneSkinConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.NONE_SKIN)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -367,12 +284,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openNoneDialogConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.noneDialogConfigurationEnabled.get(),
-        COMMON.noneDialogConfigurationAllowInCreative.get(),
-        COMMON.noneDialogConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.NONE_DIALOG)) {
       UUID uuid = easyNPC.getUUID();
       DialogDataSet dialogDataSet = easyNPC.getEasyNPCDialogData().getDialogDataSet();
       NetworkHooks.openScreen(
@@ -387,12 +299,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openPlayerSkinConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.playerSkinConfigurationEnabled.get(),
-        COMMON.playerSkinConfigurationAllowInCreative.get(),
-        COMMON.playerSkinConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.PLAYER_SKIN)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -402,12 +309,7 @@ public class MenuHandler implements MenuHandlerInterface {
   }
 
   public static void openUrlSkinConfigurationMenu(ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.urlSkinConfigurationEnabled.get(),
-        COMMON.urlSkinConfigurationAllowInCreative.get(),
-        COMMON.urlSkinConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.URL_SKIN)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -417,12 +319,7 @@ public class MenuHandler implements MenuHandlerInterface {
   }
 
   public static void openScalingConfigurationMenu(ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.scalingConfigurationEnabled.get(),
-        COMMON.scalingConfigurationAllowInCreative.get(),
-        COMMON.scalingConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.SCALING)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -433,12 +330,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openCustomPresetExportConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.customExportPresetConfigurationEnabled.get(),
-        COMMON.customExportPresetConfigurationAllowInCreative.get(),
-        COMMON.customExportPresetConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.CUSTOM_PRESET_EXPORT)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -449,12 +341,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openWorldPresetExportConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.worldExportPresetConfigurationEnabled.get(),
-        COMMON.worldExportPresetConfigurationAllowInCreative.get(),
-        COMMON.worldExportPresetConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.WORLD_PRESET_EXPORT)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -465,12 +352,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDefaultPresetImportConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.defaultImportPresetConfigurationEnabled.get(),
-        COMMON.defaultImportPresetConfigurationAllowInCreative.get(),
-        COMMON.defaultImportPresetConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DEFAULT_PRESET_IMPORT)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -481,12 +363,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openServerPresetImportConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.worldImportPresetConfigurationEnabled.get(),
-        COMMON.worldImportPresetConfigurationAllowInCreative.get(),
-        COMMON.worldImportPresetConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.WORLD_PRESET_IMPORT)) {
       UUID uuid = easyNPC.getUUID();
       List<ResourceLocation> worldPresets =
           WorldPresetDataFiles.getPresetFilePathResourceLocations().toList();
@@ -506,12 +383,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openCustomPresetImportConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.customImportPresetConfigurationEnabled.get(),
-        COMMON.customImportPresetConfigurationAllowInCreative.get(),
-        COMMON.customImportPresetConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.CUSTOM_PRESET_IMPORT)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -522,12 +394,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openNoneTradingConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.noneTradingConfigurationEnabled.get(),
-        COMMON.noneTradingConfigurationAllowInCreative.get(),
-        COMMON.noneTradingConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.NONE_TRADING)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -538,12 +405,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openBasicTradingConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.basicTradingConfigurationEnabled.get(),
-        COMMON.basicTradingConfigurationAllowInCreative.get(),
-        COMMON.basicTradingConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.BASIC_TRADING)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -554,12 +416,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openAdvancedTradingConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC, int pageIndex) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.advancedTradingConfigurationEnabled.get(),
-        COMMON.advancedTradingConfigurationAllowInCreative.get(),
-        COMMON.advancedTradingConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.ADVANCED_TRADING)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -570,12 +427,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openCustomTradingConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.customTradingConfigurationEnabled.get(),
-        COMMON.customTradingConfigurationAllowInCreative.get(),
-        COMMON.customTradingConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.CUSTOM_TRADING)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -586,12 +438,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openBasicObjectiveConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.basicObjectiveConfigurationEnabled.get(),
-        COMMON.basicObjectiveConfigurationAllowInCreative.get(),
-        COMMON.basicObjectiveConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.BASIC_OBJECTIVE)) {
       UUID uuid = easyNPC.getUUID();
       ObjectiveDataSet objectiveDataSet = easyNPC.getEasyNPCObjectiveData().getObjectiveDataSet();
       NetworkHooks.openScreen(
@@ -607,12 +454,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openAttackObjectiveConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.attackObjectiveConfigurationEnabled.get(),
-        COMMON.attackObjectiveConfigurationAllowInCreative.get(),
-        COMMON.attackObjectiveConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.ATTACK_OBJECTIVE)) {
       UUID uuid = easyNPC.getUUID();
       ObjectiveDataSet objectiveDataSet = easyNPC.getEasyNPCObjectiveData().getObjectiveDataSet();
       NetworkHooks.openScreen(
@@ -628,12 +470,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openFollowObjectiveConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.followObjectiveConfigurationEnabled.get(),
-        COMMON.followObjectiveConfigurationAllowInCreative.get(),
-        COMMON.followObjectiveConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.FOLLOW_OBJECTIVE)) {
       UUID uuid = easyNPC.getUUID();
       ObjectiveDataSet objectiveDataSet = easyNPC.getEasyNPCObjectiveData().getObjectiveDataSet();
       NetworkHooks.openScreen(
@@ -649,12 +486,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openLookObjectiveConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.lookObjectiveConfigurationEnabled.get(),
-        COMMON.lookObjectiveConfigurationAllowInCreative.get(),
-        COMMON.lookObjectiveConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.LOOK_OBJECTIVE)) {
       UUID uuid = easyNPC.getUUID();
       ObjectiveDataSet objectiveDataSet = easyNPC.getEasyNPCObjectiveData().getObjectiveDataSet();
       NetworkHooks.openScreen(
@@ -670,12 +502,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openAbilitiesAttributeConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.abilitiesAttributeConfigurationEnabled.get(),
-        COMMON.abilitiesAttributeConfigurationAllowInCreative.get(),
-        COMMON.abilitiesAttributeConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.ABILITIES_ATTRIBUTE)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -686,12 +513,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openBaseAttributeConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.baseAttributeConfigurationEnabled.get(),
-        COMMON.baseAttributeConfigurationAllowInCreative.get(),
-        COMMON.baseAttributeConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.BASE_ATTRIBUTE)) {
       UUID uuid = easyNPC.getUUID();
       LivingEntity livingEntity = easyNPC.getLivingEntity();
       NetworkHooks.openScreen(
@@ -721,12 +543,7 @@ public class MenuHandler implements MenuHandlerInterface {
 
   public static void openDisplayAttributeConfigurationMenu(
       ServerPlayer serverPlayer, EasyNPC<?> easyNPC) {
-    if (hasPermissions(
-        serverPlayer,
-        easyNPC,
-        COMMON.displayAttributeConfigurationEnabled.get(),
-        COMMON.displayAttributeConfigurationAllowInCreative.get(),
-        COMMON.displayAttributeConfigurationPermissionLevel.get())) {
+    if (hasPermissions(serverPlayer, easyNPC, ConfigurationType.DISPLAY_ATTRIBUTE)) {
       UUID uuid = easyNPC.getUUID();
       NetworkHooks.openScreen(
           serverPlayer,
@@ -736,23 +553,11 @@ public class MenuHandler implements MenuHandlerInterface {
   }
 
   private static boolean hasPermissions(
-      ServerPlayer serverPlayer,
-      EasyNPC<?> easyNPC,
-      Boolean enabled,
-      Boolean allowInCreative,
-      int permissionLevel) {
-    OwnerData<?> ownerData = easyNPC.getEasyNPCOwnerData();
-    if (Boolean.FALSE.equals(enabled) || serverPlayer == null) {
-      return false;
-    } else if (Boolean.TRUE.equals(allowInCreative) && serverPlayer.isCreative()) {
-      return true;
-    } else if (!ownerData.hasOwner() || !ownerData.isOwner(serverPlayer)) {
-      return false;
-    } else {
-      return serverPlayer.hasPermissions(permissionLevel);
-    }
+      ServerPlayer serverPlayer, EasyNPC<?> easyNPC, ConfigurationType configurationType) {
+    return AccessManager.hasAccess(serverPlayer, easyNPC, configurationType);
   }
 
+
   @Override
   public void openDialogTextEditorMenu(
       ServerPlayer serverPlayer,
@@ -888,8 +693,13 @@ public class MenuHandler implements MenuHandlerInterface {
             uuid, easyNPC.getEntity(), actionDataSet, dialogDataSet, dialogId, pageIndex),
         buffer -> {
           buffer.writeUUID(uuid);
-          buffer.writeNbt(actionDataSet.createTag());
-          buffer.writeNbt(dialogDataSet.createTag());
+          DialogMenu.writeDialogData(
+              buffer,
+              serverPlayer.getUUID(),
+              uuid,
+              easyNPC.getEasyNPCDialogData().getDialogDataVersion(),
+              actionDataSet,
+              dialogDataSet);
           buffer.writeUUID(dialogId);
           buffer.writeInt(pageIndex);
         });
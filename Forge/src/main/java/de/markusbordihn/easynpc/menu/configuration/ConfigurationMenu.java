@@ -65,7 +65,7 @@ public class ConfigurationMenu extends AbstractContainerMenu {
     this.level = player.level();
     this.easyNPC =
         this.level.isClientSide
-            ? LivingEntityManager.getEasyNPCEntityByUUID(uuid)
+            ? LivingEntityManager.getClientEasyNPCEntityByUUID(uuid)
             : LivingEntityManager.getEasyNPCEntityByUUID(uuid, (ServerPlayer) player);
     this.skinModel = this.easyNPC.getEasyNPCSkinData().getSkinModel();
 
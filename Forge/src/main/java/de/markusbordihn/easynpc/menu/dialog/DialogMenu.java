@@ -25,6 +25,7 @@ import de.markusbordihn.easynpc.data.dialog.DialogDataSet;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.menu.ModMenuTypes;
+import de.markusbordihn.easynpc.network.NetworkMessageHandler;
 import java.util.UUID;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
@@ -72,14 +73,33 @@ public class DialogMenu extends AbstractContainerMenu {
   }
 
   public DialogMenu(int windowId, Inventory playerInventory, FriendlyByteBuf data) {
+    this(windowId, playerInventory, data.readUUID(), data);
+  }
+
+  private DialogMenu(int windowId, Inventory playerInventory, UUID uuid, FriendlyByteBuf data) {
+    this(windowId, playerInventory, uuid, readCacheEntry(uuid, data), data);
+  }
+
+  private DialogMenu(
+      int windowId,
+      Inventory playerInventory,
+      UUID uuid,
+      DialogMenuCache.CacheEntry cacheEntry,
+      FriendlyByteBuf data) {
     this(
         windowId,
         playerInventory,
-        data.readUUID(),
-        new ActionEventSet(data.readNbt()),
-        new DialogDataSet(data.readNbt()),
+        uuid,
+        cacheEntry != null ? cacheEntry.actionEventSet() : new ActionEventSet(),
+        cacheEntry != null ? cacheEntry.dialogDataSet() : new DialogDataSet(),
         data.readUUID(),
         data.readInt());
+
+    // Request the full dialog data, if the client cache is out of sync with the server.
+    if (cacheEntry == null) {
+      DialogMenuCache.clearClientCache();
+      NetworkMessageHandler.reloadDialog(uuid, this.dialogId, this.pageIndex);
+    }
   }
 
   public DialogMenu(
@@ -100,7 +120,8 @@ public class DialogMenu extends AbstractContainerMenu {
     this.pageIndex = pageIndex;
 
     // Get entity from cache
-    this.easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid);
+    this.easyNPC =
+        LivingEntityManager.getEasyNPCEntityByUUID(uuid, playerInventory.player.level());
 
     log.debug(
         "Open Dialog menu for {}: {} with player inventory {} and actions {} and dialogs {}",
@@ -111,6 +132,40 @@ public class DialogMenu extends AbstractContainerMenu {
         this.dialogDataSet);
   }
 
+  public static void writeDialogData(
+      FriendlyByteBuf buffer,
+      UUID playerUUID,
+      UUID uuid,
+      long version,
+      ActionEventSet actionDataSet,
+      DialogDataSet dialogDataSet) {
+    boolean isCached = DialogMenuCache.markSent(playerUUID, uuid, version);
+    buffer.writeLong(version);
+    buffer.writeBoolean(isCached);
+    if (!isCached) {
+      DialogMenuCache.ServerEntry serverEntry =
+          DialogMenuCache.getServerEntry(uuid, version, actionDataSet, dialogDataSet);
+      buffer.writeNbt(serverEntry.actionDataTag());
+      buffer.writeNbt(serverEntry.dialogDataTag());
+    }
+  }
+
+  private static DialogMenuCache.CacheEntry readCacheEntry(UUID uuid, FriendlyByteBuf buffer) {
+    long version = buffer.readLong();
+    if (buffer.readBoolean()) {
+      DialogMenuCache.CacheEntry cacheEntry = DialogMenuCache.getClientEntry(uuid, version);
+      if (cacheEntry != null) {
+        return cacheEntry;
+      }
+      log.warn("Missing cached dialog data {} for {}, requesting full data ...", version, uuid);
+      return null;
+    }
+    ActionEventSet actionEventSet = new ActionEventSet(buffer.readNbt());
+    DialogDataSet dialogDataSet = new DialogDataSet(buffer.readNbt());
+    DialogMenuCache.putClientEntry(uuid, version, actionEventSet, dialogDataSet);
+    return new DialogMenuCache.CacheEntry(actionEventSet, dialogDataSet);
+  }
+
   public static MenuProvider getMenuProvider(
       UUID uuid,
       Entity entity,
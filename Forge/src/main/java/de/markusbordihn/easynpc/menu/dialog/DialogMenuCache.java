@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.menu.dialog;
+
+import de.markusbordihn.easynpc.data.action.ActionEventSet;
+import de.markusbordihn.easynpc.data.dialog.DialogDataSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * Versioned cache for the dialog and action data of the dialog menu. The server keeps a mirror of
+ * the client cache for each player and only sends the full data, if the client does not already
+ * have the current version. Both sides use the same LRU order, because every dialog menu which is
+ * opened on the server is opened in the same order on the client. If the client is missing a
+ * version anyway, both caches are cleared and the full data is requested again.
+ */
+public final class DialogMenuCache {
+
+  public static final int CACHE_SIZE = 32;
+  public static final int SERVER_CACHE_SIZE = 256;
+
+  private static final Map<UUID, Map<CacheKey, Boolean>> serverPlayerCacheMap =
+      new ConcurrentHashMap<>();
+  private static final Map<CacheKey, CacheEntry> clientCache = createCache();
+  private static final Map<UUID, ServerEntry> serverEntryMap =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(SERVER_CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ServerEntry> eldest) {
+              return size() > SERVER_CACHE_SIZE;
+            }
+          });
+
+  private DialogMenuCache() {}
+
+  private static <V> Map<CacheKey, V> createCache() {
+    return new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CacheKey, V> eldest) {
+        return size() > CACHE_SIZE;
+      }
+    };
+  }
+
+  /**
+   * Returns the serialized dialog and action data for the given version, which are only created
+   * again after the dialog or action data was changed.
+   */
+  public static ServerEntry getServerEntry(
+      UUID uuid, long version, ActionEventSet actionEventSet, DialogDataSet dialogDataSet) {
+    ServerEntry serverEntry = serverEntryMap.get(uuid);
+    if (serverEntry == null || serverEntry.version() != version) {
+      serverEntry =
+          new ServerEntry(version, actionEventSet.createTag(), dialogDataSet.createTag());
+      serverEntryMap.put(uuid, serverEntry);
+    }
+    return serverEntry;
+  }
+
+  /**
+   * Marks the version as sent to the player.
+   *
+   * @return true if the client already has the given version.
+   */
+  public static boolean markSent(UUID playerUUID, UUID uuid, long version) {
+    Map<CacheKey, Boolean> playerCache =
+        serverPlayerCacheMap.computeIfAbsent(playerUUID, key -> createCache());
+    synchronized (playerCache) {
+      CacheKey cacheKey = new CacheKey(uuid, version);
+      if (playerCache.get(cacheKey) != null) {
+        return true;
+      }
+      playerCache.put(cacheKey, Boolean.TRUE);
+      return false;
+    }
+  }
+
+  public static void removeServerPlayer(UUID playerUUID) {
+    serverPlayerCacheMap.remove(playerUUID);
+  }
+
+  public static void putClientEntry(
+      UUID uuid, long version, ActionEventSet actionEventSet, DialogDataSet dialogDataSet) {
+    clientCache.put(new CacheKey(uuid, version), new CacheEntry(actionEventSet, dialogDataSet));
+  }
+
+  public static CacheEntry getClientEntry(UUID uuid, long version) {
+    return clientCache.get(new CacheKey(uuid, version));
+  }
+
+  public static void clearClientCache() {
+    clientCache.clear();
+  }
+
+  private record CacheKey(UUID uuid, long version) {}
+
+  public record ServerEntry(long version, CompoundTag actionDataTag, CompoundTag dialogDataTag) {}
+
+  public record CacheEntry(ActionEventSet actionEventSet, DialogDataSet dialogDataSet) {}
+}
@@ -103,7 +103,8 @@ public class DialogEditorMenu extends AbstractContainerMenu {
     this.pageIndex = pageIndex;
 
     // Get entity from cache
-    this.easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid);
+    this.easyNPC =
+        LivingEntityManager.getEasyNPCEntityByUUID(uuid, playerInventory.player.level());
   }
 
   public static MenuProvider getMenuProvider(
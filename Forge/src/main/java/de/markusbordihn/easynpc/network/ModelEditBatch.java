@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network;
+
+import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.data.model.ModelPart;
+import de.markusbordihn.easynpc.data.position.CustomPosition;
+import de.markusbordihn.easynpc.data.rotation.CustomRotation;
+import de.markusbordihn.easynpc.network.message.MessageModelEditBatch;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Collects model position, rotation and scale changes on the client and sends them as a single
+ * batch per NPC at a fixed rate, instead of sending a message for each slider movement.
+ */
+public final class ModelEditBatch {
+
+  private static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
+  private static final int FLUSH_INTERVAL_TICKS = 2;
+  private static final Map<UUID, PendingEdit> pendingEditMap = new LinkedHashMap<>();
+  private static final Map<UUID, PendingEdit> lastEditMap = new HashMap<>();
+  private static int ticker = 0;
+
+  private ModelEditBatch() {}
+
+  public static void queuePosition(UUID uuid, ModelPart modelPart, CustomPosition position) {
+    getPendingEdit(uuid).positions.put(modelPart, position);
+    getLastEdit(uuid).positions.put(modelPart, position);
+  }
+
+  public static void queueRotation(UUID uuid, ModelPart modelPart, CustomRotation rotation) {
+    getPendingEdit(uuid).rotations.put(modelPart, rotation);
+    getLastEdit(uuid).rotations.put(modelPart, rotation);
+  }
+
+  public static void queueScale(UUID uuid, String scaleAxis, float scale) {
+    PendingEdit pendingEdit = getPendingEdit(uuid);
+    switch (scaleAxis) {
+      case "x" -> pendingEdit.scaleX = scale;
+      case "y" -> pendingEdit.scaleY = scale;
+      case "z" -> pendingEdit.scaleZ = scale;
+      default -> log.error("Unknown scale axis {} for {}", scaleAxis, uuid);
+    }
+  }
+
+  /**
+   * Returns the last queued position, which is more recent than the synced entity data until the
+   * server has processed the batch.
+   */
+  public static CustomPosition getPosition(
+      UUID uuid, ModelPart modelPart, CustomPosition syncedPosition) {
+    PendingEdit lastEdit = lastEditMap.get(uuid);
+    return lastEdit != null
+        ? lastEdit.positions.getOrDefault(modelPart, syncedPosition)
+        : syncedPosition;
+  }
+
+  public static CustomRotation getRotation(
+      UUID uuid, ModelPart modelPart, CustomRotation syncedRotation) {
+    PendingEdit lastEdit = lastEditMap.get(uuid);
+    return lastEdit != null
+        ? lastEdit.rotations.getOrDefault(modelPart, syncedRotation)
+        : syncedRotation;
+  }
+
+  public static void tick() {
+    if (++ticker >= FLUSH_INTERVAL_TICKS) {
+      ticker = 0;
+      flush();
+    }
+  }
+
+  public static void flush() {
+    if (pendingEditMap.isEmpty()) {
+      return;
+    }
+    Map<UUID, PendingEdit> pendingEdits = new LinkedHashMap<>(pendingEditMap);
+    pendingEditMap.clear();
+    for (Map.Entry<UUID, PendingEdit> entry : pendingEdits.entrySet()) {
+      PendingEdit pendingEdit = entry.getValue();
+      NetworkHandler.sendToServer(
+          new MessageModelEditBatch(
+              entry.getKey(),
+              pendingEdit.positions,
+              pendingEdit.rotations,
+              pendingEdit.scaleX,
+              pendingEdit.scaleY,
+              pendingEdit.scaleZ));
+    }
+  }
+
+  /** Sends all pending changes and forgets the last queued values, e.g. when a screen is closed. */
+  public static void flushAndReset() {
+    flush();
+    lastEditMap.clear();
+  }
+
+  private static PendingEdit getPendingEdit(UUID uuid) {
+    return pendingEditMap.computeIfAbsent(uuid, key -> new PendingEdit());
+  }
+
+  private static PendingEdit getLastEdit(UUID uuid) {
+    return lastEditMap.computeIfAbsent(uuid, key -> new PendingEdit());
+  }
+
+  private static class PendingEdit {
+    private final Map<ModelPart, CustomPosition> positions = new EnumMap<>(ModelPart.class);
+    private final Map<ModelPart, CustomRotation> rotations = new EnumMap<>(ModelPart.class);
+    private Float scaleX;
+    private Float scaleY;
+    private Float scaleZ;
+  }
+}
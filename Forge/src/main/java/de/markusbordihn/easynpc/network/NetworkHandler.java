@@ -20,20 +20,18 @@
 package de.markusbordihn.easynpc.network;
 
 import de.markusbordihn.easynpc.Constants;
-import de.markusbordihn.easynpc.network.message.ChangeSpawnerSettingMessage;
+import de.markusbordihn.easynpc.network.codec.PacketCodec;
+import de.markusbordihn.easynpc.network.codec.PacketCodecRegistry;
 import de.markusbordihn.easynpc.network.message.MessageActionEventChange;
 import de.markusbordihn.easynpc.network.message.MessageAdvancedTrading;
 import de.markusbordihn.easynpc.network.message.MessageBasicTrading;
-import de.markusbordihn.easynpc.network.message.MessageDialogButtonAction;
 import de.markusbordihn.easynpc.network.message.MessageEntityAttributeChange;
 import de.markusbordihn.easynpc.network.message.MessageEntityBaseAttributeChange;
+import de.markusbordihn.easynpc.network.message.MessageModelEditBatch;
 import de.markusbordihn.easynpc.network.message.MessageModelEquipmentVisibilityChange;
 import de.markusbordihn.easynpc.network.message.MessageModelLockRotationChange;
 import de.markusbordihn.easynpc.network.message.MessageModelPoseChange;
-import de.markusbordihn.easynpc.network.message.MessageModelPositionChange;
-import de.markusbordihn.easynpc.network.message.MessageModelRotationChange;
 import de.markusbordihn.easynpc.network.message.MessageModelVisibilityChange;
-import de.markusbordihn.easynpc.network.message.MessageNameChange;
 import de.markusbordihn.easynpc.network.message.MessageObjectiveAdd;
 import de.markusbordihn.easynpc.network.message.MessageObjectiveRemove;
 import de.markusbordihn.easynpc.network.message.MessageOpenConfiguration;
@@ -49,17 +47,8 @@ import de.markusbordihn.easynpc.network.message.MessagePresetExportWorld;
 import de.markusbordihn.easynpc.network.message.MessagePresetImport;
 import de.markusbordihn.easynpc.network.message.MessagePresetImportWorld;
 import de.markusbordihn.easynpc.network.message.MessageProfessionChange;
-import de.markusbordihn.easynpc.network.message.MessageRemoveDialog;
-import de.markusbordihn.easynpc.network.message.MessageRemoveDialogButton;
-import de.markusbordihn.easynpc.network.message.MessageRemoveNPC;
-import de.markusbordihn.easynpc.network.message.MessageRespawnNPC;
-import de.markusbordihn.easynpc.network.message.MessageSaveDialog;
-import de.markusbordihn.easynpc.network.message.MessageSaveDialogButton;
-import de.markusbordihn.easynpc.network.message.MessageSaveDialogSet;
-import de.markusbordihn.easynpc.network.message.MessageScaleChange;
 import de.markusbordihn.easynpc.network.message.MessageSkinChange;
 import de.markusbordihn.easynpc.network.message.MessageTradingTypeChange;
-import de.markusbordihn.easynpc.network.message.MessageTriggerActionEvent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -76,7 +65,7 @@ public class NetworkHandler {
 
   protected static final Logger log = LogManager.getLogger(Constants.LOG_NAME);
 
-  private static final String PROTOCOL_VERSION = "19";
+  private static final String PROTOCOL_VERSION = "24";
   public static final SimpleChannel INSTANCE =
       NetworkRegistry.newSimpleChannel(
           new ResourceLocation(Constants.MOD_ID, "network"),
@@ -96,17 +85,10 @@ public class NetworkHandler {
 
     event.enqueueWork(
         () -> {
-          INSTANCE.registerMessage(
-              id++,
-              ChangeSpawnerSettingMessage.class,
-              ChangeSpawnerSettingMessage::encode,
-              ChangeSpawnerSettingMessage::decode,
-              (message, contextSupplier) -> {
-                NetworkEvent.Context context = contextSupplier.get();
-                context.enqueueWork(
-                    () -> ChangeSpawnerSettingMessage.handle(message, context.getSender()));
-                context.setPacketHandled(true);
-              });
+          // Loader-neutral messages: Client -> Server
+          for (PacketCodec<?> packetCodec : PacketCodecRegistry.getServerboundCodecs()) {
+            registerPacketCodec(packetCodec);
+          }
 
           // Action Change: Client -> Server
           INSTANCE.registerMessage(
@@ -132,14 +114,6 @@ public class NetworkHandler {
               MessageBasicTrading::decode,
               MessageBasicTrading::handle);
 
-          // Dialog Button Action: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageDialogButtonAction.class,
-              MessageDialogButtonAction::encode,
-              MessageDialogButtonAction::decode,
-              MessageDialogButtonAction::handle);
-
           // Entity Attribute Change: Client -> Server
           INSTANCE.registerMessage(
               id++,
@@ -172,13 +146,13 @@ public class NetworkHandler {
               MessageModelPoseChange::decode,
               MessageModelPoseChange::handle);
 
-          // Model Position Change: Client -> Server
+          // Model Edit Batch: Client -> Server
           INSTANCE.registerMessage(
               id++,
-              MessageModelPositionChange.class,
-              MessageModelPositionChange::encode,
-              MessageModelPositionChange::decode,
-              MessageModelPositionChange::handle);
+              MessageModelEditBatch.class,
+              MessageModelEditBatch::encode,
+              MessageModelEditBatch::decode,
+              MessageModelEditBatch::handle);
 
           // Model Equipment Visibility Change: Client -> Server
           INSTANCE.registerMessage(
@@ -196,14 +170,6 @@ public class NetworkHandler {
               MessageModelVisibilityChange::decode,
               MessageModelVisibilityChange::handle);
 
-          // Name Change: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageNameChange.class,
-              MessageNameChange::encode,
-              MessageNameChange::decode,
-              MessageNameChange::handle);
-
           // Objective Add: Client -> Server
           INSTANCE.registerMessage(
               id++,
@@ -324,78 +290,6 @@ public class NetworkHandler {
               MessageProfessionChange::decode,
               MessageProfessionChange::handle);
 
-          // Remove Dialog: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageRemoveDialog.class,
-              MessageRemoveDialog::encode,
-              MessageRemoveDialog::decode,
-              MessageRemoveDialog::handle);
-
-          // Remove Dialog Button: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageRemoveDialogButton.class,
-              MessageRemoveDialogButton::encode,
-              MessageRemoveDialogButton::decode,
-              MessageRemoveDialogButton::handle);
-
-          // Remove NPC: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageRemoveNPC.class,
-              MessageRemoveNPC::encode,
-              MessageRemoveNPC::decode,
-              MessageRemoveNPC::handle);
-
-          // Respawn NPC: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageRespawnNPC.class,
-              MessageRespawnNPC::encode,
-              MessageRespawnNPC::decode,
-              MessageRespawnNPC::handle);
-
-          // Rotation Change: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageModelRotationChange.class,
-              MessageModelRotationChange::encode,
-              MessageModelRotationChange::decode,
-              MessageModelRotationChange::handle);
-
-          // Save Dialog: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageSaveDialog.class,
-              MessageSaveDialog::encode,
-              MessageSaveDialog::decode,
-              MessageSaveDialog::handle);
-
-          // Save Dialog: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageSaveDialogSet.class,
-              MessageSaveDialogSet::encode,
-              MessageSaveDialogSet::decode,
-              MessageSaveDialogSet::handle);
-
-          // Save Dialog Button: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageSaveDialogButton.class,
-              MessageSaveDialogButton::encode,
-              MessageSaveDialogButton::decode,
-              MessageSaveDialogButton::handle);
-
-          // Scale Change: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageScaleChange.class,
-              MessageScaleChange::encode,
-              MessageScaleChange::decode,
-              MessageScaleChange::handle);
-
           // Skin Change: Client -> Server
           INSTANCE.registerMessage(
               id++,
@@ -411,18 +305,27 @@ public class NetworkHandler {
               MessageTradingTypeChange::encode,
               MessageTradingTypeChange::decode,
               MessageTradingTypeChange::handle);
+        });
+  }
 
-          // Action Trigger: Client -> Server
-          INSTANCE.registerMessage(
-              id++,
-              MessageTriggerActionEvent.class,
-              MessageTriggerActionEvent::encode,
-              MessageTriggerActionEvent::decode,
-              MessageTriggerActionEvent::handle);
+  private static <M> void registerPacketCodec(PacketCodec<M> packetCodec) {
+    INSTANCE.registerMessage(
+        id++,
+        packetCodec.messageClass(),
+        packetCodec.encoder(),
+        packetCodec.decoder(),
+        (message, contextSupplier) -> {
+          NetworkEvent.Context context = contextSupplier.get();
+          context.enqueueWork(() -> packetCodec.handle(message, context.getSender()));
+          context.setPacketHandled(true);
         });
   }
 
   public static <M> void sendToServer(M message) {
+    // Send pending model edits first, to keep the order of the changes.
+    if (!(message instanceof MessageModelEditBatch)) {
+      ModelEditBatch.flushAndReset();
+    }
     try {
       INSTANCE.sendToServer(message);
     } catch (Exception e) {
@@ -20,6 +20,8 @@
 package de.markusbordihn.easynpc.network;
 
 import de.markusbordihn.easynpc.Constants;
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.access.AccessType;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import java.util.Random;
@@ -51,7 +53,7 @@ public class NetworkMessage {
     }
 
     // Validate access.
-    if (!LivingEntityManager.hasAccess(uuid, serverPlayer)) {
+    if (!AccessManager.hasAccess(serverPlayer, easyNPC, AccessType.EDIT)) {
       log.error("User {} has no access to Easy NPC with uuid {}.", serverPlayer, uuid);
       return false;
     }
@@ -39,20 +39,18 @@ import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.PresetData;
 import de.markusbordihn.easynpc.menu.configuration.ConfigurationType;
+import de.markusbordihn.easynpc.network.message.ChangeNameMessage;
 import de.markusbordihn.easynpc.network.message.ChangeSpawnerSettingMessage;
+import de.markusbordihn.easynpc.network.message.DialogButtonActionMessage;
 import de.markusbordihn.easynpc.network.message.MessageActionEventChange;
 import de.markusbordihn.easynpc.network.message.MessageAdvancedTrading;
 import de.markusbordihn.easynpc.network.message.MessageBasicTrading;
-import de.markusbordihn.easynpc.network.message.MessageDialogButtonAction;
 import de.markusbordihn.easynpc.network.message.MessageEntityAttributeChange;
 import de.markusbordihn.easynpc.network.message.MessageEntityBaseAttributeChange;
 import de.markusbordihn.easynpc.network.message.MessageModelEquipmentVisibilityChange;
 import de.markusbordihn.easynpc.network.message.MessageModelLockRotationChange;
 import de.markusbordihn.easynpc.network.message.MessageModelPoseChange;
-import de.markusbordihn.easynpc.network.message.MessageModelPositionChange;
-import de.markusbordihn.easynpc.network.message.MessageModelRotationChange;
 import de.markusbordihn.easynpc.network.message.MessageModelVisibilityChange;
-import de.markusbordihn.easynpc.network.message.MessageNameChange;
 import de.markusbordihn.easynpc.network.message.MessageObjectiveAdd;
 import de.markusbordihn.easynpc.network.message.MessageObjectiveRemove;
 import de.markusbordihn.easynpc.network.message.MessageOpenConfiguration;
@@ -68,17 +66,16 @@ import de.markusbordihn.easynpc.network.message.MessagePresetExportWorld;
 import de.markusbordihn.easynpc.network.message.MessagePresetImport;
 import de.markusbordihn.easynpc.network.message.MessagePresetImportWorld;
 import de.markusbordihn.easynpc.network.message.MessageProfessionChange;
-import de.markusbordihn.easynpc.network.message.MessageRemoveDialog;
-import de.markusbordihn.easynpc.network.message.MessageRemoveDialogButton;
-import de.markusbordihn.easynpc.network.message.MessageRemoveNPC;
-import de.markusbordihn.easynpc.network.message.MessageRespawnNPC;
-import de.markusbordihn.easynpc.network.message.MessageSaveDialog;
-import de.markusbordihn.easynpc.network.message.MessageSaveDialogButton;
-import de.markusbordihn.easynpc.network.message.MessageSaveDialogSet;
-import de.markusbordihn.easynpc.network.message.MessageScaleChange;
 import de.markusbordihn.easynpc.network.message.MessageSkinChange;
 import de.markusbordihn.easynpc.network.message.MessageTradingTypeChange;
-import de.markusbordihn.easynpc.network.message.MessageTriggerActionEvent;
+import de.markusbordihn.easynpc.network.message.RemoveDialogButtonMessage;
+import de.markusbordihn.easynpc.network.message.RemoveDialogMessage;
+import de.markusbordihn.easynpc.network.message.RemoveNPCMessage;
+import de.markusbordihn.easynpc.network.message.RespawnNPCMessage;
+import de.markusbordihn.easynpc.network.message.SaveDialogButtonMessage;
+import de.markusbordihn.easynpc.network.message.SaveDialogMessage;
+import de.markusbordihn.easynpc.network.message.SaveDialogSetMessage;
+import de.markusbordihn.easynpc.network.message.TriggerActionEventMessage;
 import de.markusbordihn.easynpc.validator.UrlValidator;
 import java.util.UUID;
 import net.minecraft.core.BlockPos;
@@ -122,7 +119,7 @@ public class NetworkMessageHandler implements NetworkMessageHandlerInterface {
   /** Send name change. */
   public static void nameChange(UUID uuid, String name, int color) {
     if (uuid != null && name != null && !name.isEmpty()) {
-      NetworkHandler.sendToServer(new MessageNameChange(uuid, name, color));
+      NetworkHandler.sendToServer(new ChangeNameMessage(uuid, name, color));
     }
   }
 
@@ -196,6 +193,13 @@ public class NetworkMessageHandler implements NetworkMessageHandlerInterface {
     }
   }
 
+  /** Open dialog screen again with the full dialog data. */
+  public static void reloadDialog(UUID uuid, UUID dialogId, int pageIndex) {
+    if (uuid != null && dialogId != null && pageIndex >= 0) {
+      NetworkHandler.sendToServer(new MessageOpenDialog(uuid, dialogId, pageIndex, true));
+    }
+  }
+
   /** Send model lock rotation change. */
   public static void modelLockRotationChange(UUID uuid, boolean lockRotation) {
     if (uuid != null) {
@@ -213,7 +217,7 @@ public class NetworkMessageHandler implements NetworkMessageHandlerInterface {
   /** Send position change. */
   public static void modelPositionChange(UUID uuid, ModelPart modelPart, CustomPosition position) {
     if (uuid != null && modelPart != null && position != null) {
-      NetworkHandler.sendToServer(new MessageModelPositionChange(uuid, modelPart, position));
+      ModelEditBatch.queuePosition(uuid, modelPart, position);
     }
   }
 
@@ -256,41 +260,41 @@ public class NetworkMessageHandler implements NetworkMessageHandlerInterface {
   /** Send remove NPC. */
   public static void removeNPC(UUID uuid) {
     if (uuid != null) {
-      NetworkHandler.sendToServer(new MessageRemoveNPC(uuid));
+      NetworkHandler.sendToServer(new RemoveNPCMessage(uuid));
     }
   }
 
   /** Send respawn NPC. */
   public static void respawnNPC(UUID uuid) {
     if (uuid != null) {
-      NetworkHandler.sendToServer(new MessageRespawnNPC(uuid));
+      NetworkHandler.sendToServer(new RespawnNPCMessage(uuid));
     }
   }
 
   /** Send rotation change. */
   public static void rotationChange(UUID uuid, ModelPart modelPart, CustomRotation rotations) {
     if (uuid != null && modelPart != null && rotations != null) {
-      NetworkHandler.sendToServer(new MessageModelRotationChange(uuid, modelPart, rotations));
+      ModelEditBatch.queueRotation(uuid, modelPart, rotations);
     }
   }
 
   /** Save dialog. */
   public static void saveDialog(UUID uuid, DialogDataSet dialogDataSet) {
     if (uuid != null && dialogDataSet != null) {
-      NetworkHandler.sendToServer(new MessageSaveDialogSet(uuid, dialogDataSet));
+      NetworkHandler.sendToServer(new SaveDialogSetMessage(uuid, dialogDataSet));
     }
   }
 
   public static void saveDialog(UUID uuid, UUID dialogId, DialogDataEntry dialogData) {
     if (uuid != null && dialogId != null && dialogData != null) {
-      NetworkHandler.sendToServer(new MessageSaveDialog(uuid, dialogId, dialogData));
+      NetworkHandler.sendToServer(new SaveDialogMessage(uuid, dialogId, dialogData));
     }
   }
 
   /** Send scale change. */
   public static void scaleChange(UUID uuid, String scaleAxis, float scale) {
     if (uuid != null && scaleAxis != null) {
-      NetworkHandler.sendToServer(new MessageScaleChange(uuid, scaleAxis, scale));
+      ModelEditBatch.queueScale(uuid, scaleAxis, scale);
     }
   }
 
@@ -343,14 +347,14 @@ public class NetworkMessageHandler implements NetworkMessageHandlerInterface {
   /** Send trigger action. */
   public static void triggerActionEvent(UUID uuid, ActionEventType actionEventType) {
     if (uuid != null && actionEventType != null && actionEventType != ActionEventType.NONE) {
-      NetworkHandler.sendToServer(new MessageTriggerActionEvent(uuid, actionEventType));
+      NetworkHandler.sendToServer(new TriggerActionEventMessage(uuid, actionEventType));
     }
   }
 
   /** Handle Dialog Button actions. */
   public static void triggerDialogButtonAction(UUID uuid, UUID dialogId, UUID dialogButtonId) {
     if (uuid != null && dialogId != null && dialogButtonId != null) {
-      NetworkHandler.sendToServer(new MessageDialogButtonAction(uuid, dialogId, dialogButtonId));
+      NetworkHandler.sendToServer(new DialogButtonActionMessage(uuid, dialogId, dialogButtonId));
     }
   }
 
@@ -519,19 +523,19 @@ public class NetworkMessageHandler implements NetworkMessageHandlerInterface {
       UUID uuid, UUID dialogId, UUID dialogButtonId, DialogButtonData dialogButtonData) {
     if (uuid != null && dialogId != null && dialogButtonId != null && dialogButtonData != null) {
       NetworkHandler.sendToServer(
-          new MessageSaveDialogButton(uuid, dialogId, dialogButtonId, dialogButtonData));
+          new SaveDialogButtonMessage(uuid, dialogId, dialogButtonId, dialogButtonData));
     }
   }
 
   public static void removeDialog(UUID uuid, UUID dialogId) {
     if (uuid != null && dialogId != null) {
-      NetworkHandler.sendToServer(new MessageRemoveDialog(uuid, dialogId));
+      NetworkHandler.sendToServer(new RemoveDialogMessage(uuid, dialogId));
     }
   }
 
   public static void removeDialogButton(UUID uuid, UUID dialogId, UUID dialogButtonId) {
     if (uuid != null && dialogId != null && dialogButtonId != null) {
-      NetworkHandler.sendToServer(new MessageRemoveDialogButton(uuid, dialogId, dialogButtonId));
+      NetworkHandler.sendToServer(new RemoveDialogButtonMessage(uuid, dialogId, dialogButtonId));
     }
   }
 
@@ -116,7 +116,7 @@ public class MessageActionEventChange extends NetworkMessage {
         easyNPC,
         serverPlayer,
         permissionLevel);
-    actionEventData.getActionEventSet().setActionEvent(actionEventType, actionDataEntry);
+    actionEventData.getMutableActionEventSet().setActionEvent(actionEventType, actionDataEntry);
   }
 
   public ActionEventType getActionEventType() {
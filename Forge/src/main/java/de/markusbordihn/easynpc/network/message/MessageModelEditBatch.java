@@ -0,0 +1,243 @@
+/*
+ * Copyright 2023 Markus Bordihn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package de.markusbordihn.easynpc.network.message;
+
+import de.markusbordihn.easynpc.data.model.ModelPart;
+import de.markusbordihn.easynpc.data.model.ModelPose;
+import de.markusbordihn.easynpc.data.model.PackedModelPose;
+import de.markusbordihn.easynpc.data.position.CustomPosition;
+import de.markusbordihn.easynpc.data.rotation.CustomRotation;
+import de.markusbordihn.easynpc.entity.LivingEntityManager;
+import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
+import de.markusbordihn.easynpc.entity.easynpc.data.ModelData;
+import de.markusbordihn.easynpc.entity.easynpc.data.ScaleData;
+import de.markusbordihn.easynpc.network.NetworkMessage;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Pose;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Coalesced model position, rotation and scale changes for a single NPC, which are applied together
+ * with a single model pose update.
+ */
+public class MessageModelEditBatch extends NetworkMessage {
+
+  private static final int SCALE_X = 1;
+  private static final int SCALE_Y = 2;
+  private static final int SCALE_Z = 4;
+  private static final Set<ModelPart> CUSTOM_MODEL_PARTS =
+      EnumSet.of(
+          ModelPart.HEAD,
+          ModelPart.BODY,
+          ModelPart.ARMS,
+          ModelPart.LEFT_ARM,
+          ModelPart.RIGHT_ARM,
+          ModelPart.LEFT_LEG,
+          ModelPart.RIGHT_LEG);
+
+  protected final Map<ModelPart, CustomPosition> positions;
+  protected final Map<ModelPart, CustomRotation> rotations;
+  protected final Float scaleX;
+  protected final Float scaleY;
+  protected final Float scaleZ;
+
+  public MessageModelEditBatch(
+      UUID uuid,
+      Map<ModelPart, CustomPosition> positions,
+      Map<ModelPart, CustomRotation> rotations,
+      Float scaleX,
+      Float scaleY,
+      Float scaleZ) {
+    super(uuid);
+    this.positions = positions;
+    this.rotations = rotations;
+    this.scaleX = scaleX;
+    this.scaleY = scaleY;
+    this.scaleZ = scaleZ;
+  }
+
+  public static MessageModelEditBatch decode(final FriendlyByteBuf buffer) {
+    UUID uuid = buffer.readUUID();
+    Map<ModelPart, CustomPosition> positions = new EnumMap<>(ModelPart.class);
+    int numberOfPositions = buffer.readVarInt();
+    for (int i = 0; i < numberOfPositions; i++) {
+      positions.put(
+          buffer.readEnum(ModelPart.class),
+          new CustomPosition(buffer.readFloat(), buffer.readFloat(), buffer.readFloat()));
+    }
+    Map<ModelPart, CustomRotation> rotations = new EnumMap<>(ModelPart.class);
+    int numberOfRotations = buffer.readVarInt();
+    for (int i = 0; i < numberOfRotations; i++) {
+      rotations.put(
+          buffer.readEnum(ModelPart.class),
+          new CustomRotation(buffer.readFloat(), buffer.readFloat(), buffer.readFloat()));
+    }
+    int scaleMask = buffer.readByte();
+    Float scaleX = (scaleMask & SCALE_X) != 0 ? buffer.readFloat() : null;
+    Float scaleY = (scaleMask & SCALE_Y) != 0 ? buffer.readFloat() : null;
+    Float scaleZ = (scaleMask & SCALE_Z) != 0 ? buffer.readFloat() : null;
+    return new MessageModelEditBatch(uuid, positions, rotations, scaleX, scaleY, scaleZ);
+  }
+
+  public static void encode(final MessageModelEditBatch message, final FriendlyByteBuf buffer) {
+    buffer.writeUUID(message.uuid);
+    buffer.writeVarInt(message.positions.size());
+    for (Map.Entry<ModelPart, CustomPosition> entry : message.positions.entrySet()) {
+      buffer.writeEnum(entry.getKey());
+      buffer.writeFloat(entry.getValue().x());
+      buffer.writeFloat(entry.getValue().y());
+      buffer.writeFloat(entry.getValue().z());
+    }
+    buffer.writeVarInt(message.rotations.size());
+    for (Map.Entry<ModelPart, CustomRotation> entry : message.rotations.entrySet()) {
+      buffer.writeEnum(entry.getKey());
+      buffer.writeFloat(entry.getValue().getX());
+      buffer.writeFloat(entry.getValue().getY());
+      buffer.writeFloat(entry.getValue().getZ());
+    }
+    int scaleMask =
+        (message.scaleX != null ? SCALE_X : 0)
+            | (message.scaleY != null ? SCALE_Y : 0)
+            | (message.scaleZ != null ? SCALE_Z : 0);
+    buffer.writeByte(scaleMask);
+    if (message.scaleX != null) {
+      buffer.writeFloat(message.scaleX);
+    }
+    if (message.scaleY != null) {
+      buffer.writeFloat(message.scaleY);
+    }
+    if (message.scaleZ != null) {
+      buffer.writeFloat(message.scaleZ);
+    }
+  }
+
+  public static void handle(
+      MessageModelEditBatch message, Supplier<NetworkEvent.Context> contextSupplier) {
+    NetworkEvent.Context context = contextSupplier.get();
+    context.enqueueWork(() -> handlePacket(message, context));
+    context.setPacketHandled(true);
+  }
+
+  public static void handlePacket(MessageModelEditBatch message, NetworkEvent.Context context) {
+    ServerPlayer serverPlayer = context.getSender();
+    UUID uuid = message.getUUID();
+    if (serverPlayer == null || !NetworkMessage.checkAccess(uuid, serverPlayer)) {
+      return;
+    }
+
+    // Validate entity.
+    EasyNPC<?> easyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid, serverPlayer);
+    if (easyNPC == null) {
+      log.error("Unable to get valid entity with UUID {} for {}", uuid, serverPlayer);
+      return;
+    }
+
+    // Validate Model data.
+    ModelData<?> modelData = easyNPC.getEasyNPCModelData();
+    if (modelData == null) {
+      log.error("Invalid model data for {} from {}", message, serverPlayer);
+      return;
+    }
+
+    // Apply all position and rotation changes to a single model pose.
+    if (!message.positions.isEmpty() || !message.rotations.isEmpty()) {
+      PackedModelPose packedModelPose = modelData.getPackedModelPose();
+      boolean hasCustomModelPose = false;
+      for (Map.Entry<ModelPart, CustomPosition> entry : message.positions.entrySet()) {
+        ModelPart modelPart = entry.getKey();
+        if (modelPart == ModelPart.ROOT || entry.getValue() == null) {
+          continue;
+        }
+        if (!CUSTOM_MODEL_PARTS.contains(modelPart)) {
+          log.error("Invalid modelPart {} for {} from {}", modelPart, message, serverPlayer);
+          continue;
+        }
+        packedModelPose = packedModelPose.withPosition(modelPart, entry.getValue());
+        hasCustomModelPose = true;
+      }
+      for (Map.Entry<ModelPart, CustomRotation> entry : message.rotations.entrySet()) {
+        ModelPart modelPart = entry.getKey();
+        if (entry.getValue() == null) {
+          continue;
+        }
+        if (modelPart != ModelPart.ROOT && !CUSTOM_MODEL_PARTS.contains(modelPart)) {
+          log.error("Invalid modelPart {} for {} from {}", modelPart, message, serverPlayer);
+          continue;
+        }
+        packedModelPose = packedModelPose.withRotation(modelPart, entry.getValue());
+        hasCustomModelPose |= modelPart != ModelPart.ROOT;
+      }
+      log.debug(
+          "Change {} positions and {} rotations for {} from {}",
+          message.positions.size(),
+          message.rotations.size(),
+          easyNPC,
+          serverPlayer);
+      if (hasCustomModelPose) {
+        easyNPC.getEntity().setPose(Pose.STANDING);
+        modelData.setModelPose(ModelPose.CUSTOM);
+      }
+      modelData.setPackedModelPose(packedModelPose);
+
+      // Verify if custom model pose is really needed.
+      if (modelData.getModelPose() == ModelPose.CUSTOM && !modelData.hasChangedModel()) {
+        log.debug("Reset custom model pose for {} from {}", easyNPC, serverPlayer);
+        modelData.setModelPose(ModelPose.DEFAULT);
+        easyNPC.getEntity().setPose(Pose.STANDING);
+      }
+    }
+
+    // Apply scale changes.
+    if (message.scaleX != null || message.scaleY != null || message.scaleZ != null) {
+      ScaleData<?> scaleData = easyNPC.getEasyNPCScaleData();
+      if (scaleData == null) {
+        log.error("Invalid scale data for {} from {}", message, serverPlayer);
+        return;
+      }
+      if (isValidScale(message.scaleX, uuid, serverPlayer)) {
+        scaleData.setScaleX(message.scaleX);
+      }
+      if (isValidScale(message.scaleY, uuid, serverPlayer)) {
+        scaleData.setScaleY(message.scaleY);
+      }
+      if (isValidScale(message.scaleZ, uuid, serverPlayer)) {
+        scaleData.setScaleZ(message.scaleZ);
+      }
+    }
+  }
+
+  private static boolean isValidScale(Float scale, UUID uuid, ServerPlayer serverPlayer) {
+    if (scale == null) {
+      return false;
+    }
+    if (scale < 0.1f || scale > 10.0f) {
+      log.error("Invalid scale {} request for UUID {} from {}", scale, uuid, serverPlayer);
+      return false;
+    }
+    return true;
+  }
+}
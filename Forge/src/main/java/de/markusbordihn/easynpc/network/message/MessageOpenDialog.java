@@ -22,6 +22,7 @@ package de.markusbordihn.easynpc.network.message;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.menu.MenuManager;
+import de.markusbordihn.easynpc.menu.dialog.DialogMenuCache;
 import de.markusbordihn.easynpc.network.NetworkMessage;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -33,21 +34,29 @@ public class MessageOpenDialog extends NetworkMessage {
 
   protected final int pageIndex;
   protected final UUID dialogId;
+  protected final boolean reloadData;
 
   public MessageOpenDialog(UUID uuid, UUID dialogId, int pageIndex) {
+    this(uuid, dialogId, pageIndex, false);
+  }
+
+  public MessageOpenDialog(UUID uuid, UUID dialogId, int pageIndex, boolean reloadData) {
     super(uuid);
     this.dialogId = dialogId;
     this.pageIndex = pageIndex;
+    this.reloadData = reloadData;
   }
 
   public static MessageOpenDialog decode(final FriendlyByteBuf buffer) {
-    return new MessageOpenDialog(buffer.readUUID(), buffer.readUUID(), buffer.readInt());
+    return new MessageOpenDialog(
+        buffer.readUUID(), buffer.readUUID(), buffer.readInt(), buffer.readBoolean());
   }
 
   public static void encode(final MessageOpenDialog message, final FriendlyByteBuf buffer) {
     buffer.writeUUID(message.uuid);
     buffer.writeUUID(message.getDialogId());
     buffer.writeInt(message.getPageIndex());
+    buffer.writeBoolean(message.shouldReloadData());
   }
 
   public static void handle(
@@ -85,6 +94,11 @@ public class MessageOpenDialog extends NetworkMessage {
       return;
     }
 
+    // Client cache is out of sync, so the full dialog data needs to be sent again.
+    if (message.shouldReloadData()) {
+      DialogMenuCache.removeServerPlayer(serverPlayer.getUUID());
+    }
+
     // Perform action.
     log.debug(
         "Open dialog {} with page index {} for {} from {} ",
@@ -102,4 +116,8 @@ public class MessageOpenDialog extends NetworkMessage {
   public int getPageIndex() {
     return this.pageIndex;
   }
+
+  public boolean shouldReloadData() {
+    return this.reloadData;
+  }
 }
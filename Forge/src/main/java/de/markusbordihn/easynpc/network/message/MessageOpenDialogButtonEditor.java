@@ -127,7 +127,7 @@ public class MessageOpenDialogButtonEditor extends NetworkMessage {
     }
 
     // Validate dialog data set.
-    DialogDataSet dialogDataSet = dialogData.getDialogDataSet();
+    DialogDataSet dialogDataSet = dialogData.getMutableDialogDataSet();
     if (dialogDataSet == null) {
       log.error("Unable to get valid dialog data set for {} from {}", uuid, serverPlayer);
       return;
@@ -114,7 +114,7 @@ public class MessageOpenDialogEditor extends NetworkMessage {
           dialogData.getDialogDataSet().hasDialog() ? "Dialog " + RANDOM.nextInt(1000) : "Default";
       DialogDataEntry newDialogData = new DialogDataEntry(dialogName);
       log.info("Create new dialog {} for {} from {}", newDialogData, uuid, serverPlayer);
-      dialogData.getDialogDataSet().addDialog(newDialogData);
+      dialogData.getMutableDialogDataSet().addDialog(newDialogData);
       dialogId = newDialogData.getId();
     } else if (!dialogData.hasDialog(dialogId)) {
       log.error(
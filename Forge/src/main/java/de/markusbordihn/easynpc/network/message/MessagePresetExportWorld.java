@@ -24,6 +24,7 @@ import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.PresetData;
 import de.markusbordihn.easynpc.entity.easynpc.data.SkinData;
+import de.markusbordihn.easynpc.io.CompactPresetFormat;
 import de.markusbordihn.easynpc.io.WorldPresetDataFiles;
 import de.markusbordihn.easynpc.network.NetworkMessage;
 import java.io.File;
@@ -31,7 +32,6 @@ import java.io.IOException;
 import java.util.UUID;
 import java.util.function.Supplier;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.network.NetworkEvent;
@@ -92,7 +92,7 @@ public class MessagePresetExportWorld extends NetworkMessage {
 
     // Validate data.
     PresetData<?> presetData = easyNPC.getEasyNPCPresetData();
-    CompoundTag compoundTag = presetData.exportPresetData();
+    CompoundTag compoundTag = presetData.exportCompactPresetData();
     if (compoundTag == null || compoundTag.isEmpty()) {
       log.warn("Export preset data is empty for {}", uuid);
       return;
@@ -109,7 +109,7 @@ public class MessagePresetExportWorld extends NetworkMessage {
     log.info(
         "Exporting EasyNPC {} with UUID {} and skin {} to {}", name, uuid, skinModel, presetFile);
     try {
-      NbtIo.writeCompressed(compoundTag, presetFile);
+      CompactPresetFormat.write(compoundTag, presetFile);
     } catch (final IOException exception) {
       log.error(
           "Failed to export EasyNPC {} with UUID {} and skin {} to {}",
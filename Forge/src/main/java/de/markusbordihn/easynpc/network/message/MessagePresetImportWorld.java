@@ -22,6 +22,7 @@ package de.markusbordihn.easynpc.network.message;
 import de.markusbordihn.easynpc.entity.LivingEntityManager;
 import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.PresetData;
+import de.markusbordihn.easynpc.io.CompactPresetFormat;
 import de.markusbordihn.easynpc.io.WorldPresetDataFiles;
 import de.markusbordihn.easynpc.network.NetworkMessage;
 import java.io.IOException;
@@ -29,7 +30,6 @@ import java.nio.file.Path;
 import java.util.UUID;
 import java.util.function.Supplier;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -85,7 +85,7 @@ public class MessagePresetImportWorld extends NetworkMessage {
     // Read preset file and create compound tag.
     CompoundTag compoundTag;
     try {
-      compoundTag = NbtIo.readCompressed(presetPath.toFile());
+      compoundTag = CompactPresetFormat.read(presetPath.toFile());
     } catch (IOException exception) {
       log.error("Failed to read NBT data from {}", resourceLocation, exception);
       return;
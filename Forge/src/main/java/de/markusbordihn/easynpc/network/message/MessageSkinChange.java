@@ -26,7 +26,7 @@ import de.markusbordihn.easynpc.entity.easynpc.EasyNPC;
 import de.markusbordihn.easynpc.entity.easynpc.data.SkinData;
 import de.markusbordihn.easynpc.handler.SkinHandler;
 import de.markusbordihn.easynpc.network.NetworkMessage;
-import de.markusbordihn.easynpc.utils.PlayersUtils;
+import de.markusbordihn.easynpc.utils.PlayerNameResolver;
 import java.util.UUID;
 import java.util.function.Supplier;
 import net.minecraft.network.FriendlyByteBuf;
@@ -129,14 +129,25 @@ public class MessageSkinChange extends NetworkMessage {
         SkinHandler.setDefaultSkin(easyNPC, skinVariant);
         break;
       case PLAYER_SKIN:
-        UUID userUUID =
-            skinUUID != null && !Constants.BLANK_UUID.equals(skinUUID)
-                ? skinUUID
-                : PlayersUtils.getUserUUID(serverPlayer.getServer(), skinName);
-        if (userUUID != null && !skinName.equals(userUUID.toString())) {
-          log.debug("Converted user {} to UUID {} ...", skinName, userUUID);
+        if (skinUUID != null && !Constants.BLANK_UUID.equals(skinUUID)) {
+          SkinHandler.setPlayerSkin(easyNPC, skinName, skinUUID);
+          break;
         }
-        SkinHandler.setPlayerSkin(easyNPC, skinName, userUUID);
+        // Resolve the user name in the background, to avoid blocking the server thread.
+        PlayerNameResolver.resolveUserUUID(
+            serverPlayer.getServer(),
+            skinName,
+            userUUID -> {
+              if (userUUID != null && !skinName.equals(userUUID.toString())) {
+                log.debug("Converted user {} to UUID {} ...", skinName, userUUID);
+              }
+              EasyNPC<?> resolvedEasyNPC = LivingEntityManager.getEasyNPCEntityByUUID(uuid);
+              if (resolvedEasyNPC == null) {
+                log.warn("Unable to set player skin {}, {} is no longer available", skinName, uuid);
+                return;
+              }
+              SkinHandler.setPlayerSkin(resolvedEasyNPC, skinName, userUUID);
+            });
         break;
       case SECURE_REMOTE_URL, INSECURE_REMOTE_URL:
         SkinHandler.setRemoteSkin(easyNPC, skinURL);
@@ -19,6 +19,10 @@
 
 package de.markusbordihn.easynpc.server;
 
+import de.markusbordihn.easynpc.access.AccessManager;
+import de.markusbordihn.easynpc.menu.dialog.DialogMenuCache;
+import net.minecraftforge.event.entity.player.PermissionsChangedEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.server.ServerStartingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -32,4 +36,15 @@ public class ServerEventHandler {
   public static void handleServerAboutToStartEvent(ServerStartingEvent event) {
     ServerEvents.handleServerStarting(event.getServer());
   }
+
+  @SubscribeEvent
+  public static void handlePlayerLoggedOutEvent(PlayerEvent.PlayerLoggedOutEvent event) {
+    DialogMenuCache.removeServerPlayer(event.getEntity().getUUID());
+    AccessManager.invalidateAccessCache(event.getEntity().getUUID());
+  }
+
+  @SubscribeEvent
+  public static void handlePermissionsChangedEvent(PermissionsChangedEvent event) {
+    AccessManager.invalidateAccessCache(event.getEntity().getUUID());
+  }
 }